@@ -0,0 +1,158 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.item;
+
+import de.jare.jsoncasted.item.builder.BuilderService;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * The JsonBuilt class represents a JSON object or array whose Java instance was
+ * already built. It stands in for the converted JsonItem, so that the item and its
+ * children can be released as soon as the instance exists.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonBuilt implements JsonItem {
+
+    private final Object instance;
+    private final String printClassName;
+
+    /**
+     * Constructs a JsonBuilt instance for a built object.
+     *
+     * @param instance The built Java object, may be null.
+     * @param printClassName The class name of the item the object was built from.
+     */
+    public JsonBuilt(Object instance, String printClassName) {
+        this.instance = instance;
+        this.printClassName = printClassName;
+    }
+
+    /**
+     * Retrieves the string representation of the built object.
+     *
+     * @return null, as the item values are no longer available.
+     */
+    @Override
+    public String getStringValue() {
+        return null;
+    }
+
+    /**
+     * Retrieves the number representation of the built object.
+     *
+     * @return null, as the item values are no longer available.
+     */
+    @Override
+    public Double getNumberValue() {
+        return null;
+    }
+
+    /**
+     * Retrieves the float number representation of the built object.
+     *
+     * @return null, as the item values are no longer available.
+     */
+    @Override
+    public Float getFloatValue() {
+        return null;
+    }
+
+    /**
+     * Retrieves the whole number representation of the built object.
+     *
+     * @return null, as the item values are no longer available.
+     */
+    @Override
+    public Long getLongValue() {
+        return null;
+    }
+
+    /**
+     * Retrieves the boolean representation of the built object.
+     *
+     * @return null, as the item values are no longer available.
+     */
+    @Override
+    public Boolean getBooleanValue() {
+        return null;
+    }
+
+    /**
+     * Determines if this JSON item represents an array.
+     *
+     * @return false, as the items of a built array are no longer available.
+     */
+    @Override
+    public boolean isList() {
+        return false;
+    }
+
+    /**
+     * Returns an iterator over the item's elements.
+     *
+     * @return An iterator with no elements.
+     */
+    @Override
+    public Iterator<JsonItem> listIterator() {
+        return Collections.emptyIterator();
+    }
+
+    /**
+     * Retrieves the number of elements within the JSON item.
+     *
+     * @return 0, as the items of a built array are no longer available.
+     */
+    @Override
+    public int listSize() {
+        return 0;
+    }
+
+    /**
+     * Retrieves a JSON property by its key.
+     *
+     * @param key The property name.
+     * @return null, as the properties are no longer available.
+     */
+    @Override
+    public JsonItem getParam(String key) {
+        return null;
+    }
+
+    /**
+     * Retrieves the set of all keys available in the JSON object.
+     *
+     * @return An empty set, as the properties are no longer available.
+     */
+    @Override
+    public Set<String> getParamSet() {
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns the object that was already built.
+     *
+     * @param builderService The builder service, not used.
+     * @return The built object.
+     */
+    @Override
+    public Object buildInstance(BuilderService builderService) {
+        return instance;
+    }
+
+    /**
+     * Returns the class name of the item the object was built from.
+     *
+     * @return The class name.
+     */
+    @Override
+    public String getPrintClassName() {
+        return printClassName;
+    }
+}
@@ -13,7 +13,7 @@ import de.jare.jsoncasted.model.JsonModel;
 import de.jare.jsoncasted.model.descriptor.JsonTypeDescriptor;
 import de.jare.jsoncasted.model.item.JsonClass;
 import de.jare.jsoncasted.model.item.JsonInter;
-import java.util.HashMap;
+import de.jare.jsoncasted.tools.CompactMap;
 import java.util.Iterator;
 import java.util.Set;
 import java.util.logging.Level;
@@ -27,7 +27,7 @@ import java.util.logging.Logger;
  */
 public class JsonObject implements JsonItem {
 
-    private final HashMap<String, JsonItem> map;
+    private final CompactMap<String, JsonItem> map;
     private final JsonTypeDescriptor contextClass;
     private String woodKey;
 
@@ -38,7 +38,7 @@ public class JsonObject implements JsonItem {
      */
     public JsonObject(JsonTypeDescriptor aClassDescriptor) {
         this.contextClass = aClassDescriptor;
-        this.map = new HashMap<>();
+        this.map = new CompactMap<>();
         this.woodKey = null;
     }
 
@@ -0,0 +1,334 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.lang;
+
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_LINK;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_OBJECT_ID;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_PROVIDERS;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hash-consing of JsonNode trees: equal strings and numbers, and on request equal
+ * objects and arrays, are replaced by one shared canonical node.
+ *
+ * <p>
+ * Strings read with escape sequences still undecoded (see
+ * {@link JsonNode#rawStringNode(String)}) are compared by their raw content, so
+ * deduplication does not decode them. Such a string and a decoded string of the same
+ * text are kept apart.</p>
+ *
+ * <p>
+ * Objects and arrays are merged only after {@link #setMergeContainers(boolean)}. The
+ * trees are processed bottom-up. Once the children of a node are canonical, an object
+ * or array is identified by its member names, the identity of its children and its
+ * type descriptor. A canonical object or array is frozen when it is first shared (see
+ * {@link JsonNode#freeze()}), so a change of one occurrence cannot change the others;
+ * {@link JsonNode#put(String, JsonNode)} and {@link JsonNode#add(JsonNode)} on a merged
+ * object or array then fail. Objects with a {@code _woodObjectId}, {@code _woodLink}
+ * or {@code _woodProviders} member, and their ancestors, are never merged, because the
+ * linking set refers to them. Frozen nodes and views on a {@link JsonTape} are left
+ * as they are.</p>
+ *
+ * <p>
+ * One deduplicator can be used for several resources, which then share their
+ * canonical nodes. A tree changed after its deduplication needs a new deduplicator,
+ * as the tables still describe the old content. The deduplicator is not
+ * thread-safe.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public final class JsonDeduplicator {
+
+    private final Map<String, JsonNode> strings = new HashMap<>();
+    private final Map<String, JsonNode> rawStrings = new HashMap<>();
+    private final Map<Long, JsonNode> longs = new HashMap<>();
+    private final Map<Long, JsonNode> doubles = new HashMap<>();
+    private final Map<ContainerKey, JsonNode> containers = new HashMap<>();
+    private final Set<JsonNode> canonical = Collections.newSetFromMap(new IdentityHashMap<>());
+    private boolean mergeContainers;
+    private int mergedNodes;
+    private long savedBytes;
+
+    /**
+     * Constructs a deduplicator with empty tables.
+     */
+    public JsonDeduplicator() {
+        // tables are filled by deduplicate
+    }
+
+    /**
+     * Sets whether equal objects and arrays are merged as well. Merged objects and
+     * arrays are frozen and can no longer be changed in place. The default is
+     * {@code false}: only strings and numbers are merged.
+     *
+     * @param mergeContainers {@code true} to merge objects and arrays.
+     */
+    public void setMergeContainers(boolean mergeContainers) {
+        this.mergeContainers = mergeContainers;
+    }
+
+    /**
+     * Checks if equal objects and arrays are merged as well.
+     *
+     * @return {@code true} if objects and arrays are merged.
+     */
+    public boolean isMergeContainers() {
+        return mergeContainers;
+    }
+
+    /**
+     * Deduplicates the tree of a resource.
+     *
+     * @param resource the resource.
+     * @return the resource.
+     */
+    public JsonResource deduplicate(JsonResource resource) {
+        final JsonNode root = resource.getRoot();
+        if (root != null) {
+            deduplicate(root);
+        }
+        return resource;
+    }
+
+    /**
+     * Replaces the duplicate nodes below a root by their canonical nodes. The root
+     * itself is kept.
+     *
+     * @param root the root node.
+     * @return the root node.
+     */
+    public JsonNode deduplicate(JsonNode root) {
+        if (!isOpenContainer(root)) {
+            return root;
+        }
+        final Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(root));
+        while (!stack.isEmpty()) {
+            final Frame frame = stack.peek();
+            if (frame.advance()) {
+                final JsonNode child = frame.current;
+                if (isOpenContainer(child)) {
+                    stack.push(new Frame(child));
+                } else {
+                    frame.shared(child, scalar(child));
+                }
+                continue;
+            }
+            stack.pop();
+            if (!stack.isEmpty()) {
+                stack.peek().shared(frame.node, mergeContainers && frame.shareable ? container(frame) : null);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Returns the number of nodes replaced by a canonical node.
+     *
+     * @return the number of merged nodes.
+     */
+    public int getMergedNodes() {
+        return mergedNodes;
+    }
+
+    /**
+     * Returns the estimated heap size of the replaced nodes, assuming compressed
+     * object pointers and Latin-1 strings.
+     *
+     * @return the estimated number of bytes saved.
+     */
+    public long getSavedBytes() {
+        return savedBytes;
+    }
+
+    private boolean isOpenContainer(JsonNode node) {
+        return node != null && (node.isObject() || node.isArray()) && !node.isFrozen();
+    }
+
+    /**
+     * Returns the canonical scalar, or {@code null} if the node cannot be shared.
+     */
+    private JsonNode scalar(JsonNode node) {
+        if (node == null) {
+            return null;
+        }
+        switch (node.getType()) {
+            case STRING:
+                final String raw = node.rawText();
+                if (raw != null) {
+                    return merge(rawStrings, raw, node, 56 + align(16 + raw.length()));
+                }
+                final String text = node.asText();
+                return merge(strings, text, node, 48 + align(16 + text.length()));
+            case LONG:
+                return merge(longs, node.asLong(), node, 24);
+            case NUMBER:
+                return merge(doubles, Double.doubleToLongBits(node.asNumber()), node, 24);
+            case BOOLEAN:
+            case NULL:
+                return node;
+            default:
+                // frozen objects and arrays are only shared if they are canonical already
+                return canonical.contains(node) ? node : null;
+        }
+    }
+
+    /**
+     * Returns the canonical object or array of a frame whose children are canonical.
+     */
+    private JsonNode container(Frame frame) {
+        final JsonNode node = frame.node;
+        final String[] keys;
+        final JsonNode[] values;
+        final long bytes;
+        if (node.isObject()) {
+            final Map<String, JsonNode> members = node.asObjectValues();
+            if (members.containsKey(TERM_WOOD_OBJECT_ID) || members.containsKey(TERM_WOOD_LINK)
+                    || members.containsKey(TERM_WOOD_PROVIDERS)) {
+                return null;
+            }
+            keys = members.keySet().toArray(new String[0]);
+            values = members.values().toArray(new JsonNode[0]);
+            bytes = 64 + 2L * align(16 + 4 * keys.length);
+        } else {
+            keys = null;
+            values = node.asArray().toArray(new JsonNode[0]);
+            bytes = 56 + align(16 + 4 * values.length);
+        }
+        return merge(containers, new ContainerKey(node.getType(), node.getJsonDescriptor(), keys, values), node, bytes);
+    }
+
+    private <K> JsonNode merge(Map<K, JsonNode> table, K key, JsonNode node, long bytes) {
+        final JsonNode found = table.putIfAbsent(key, node);
+        if (found == null) {
+            canonical.add(node);
+            return node;
+        }
+        if (found != node) {
+            found.freeze();
+            mergedNodes++;
+            savedBytes += bytes;
+        }
+        return found;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * An open object or array with the position of the child being processed.
+     */
+    private static final class Frame {
+
+        private final JsonNode node;
+        private final Iterator<Map.Entry<String, JsonNode>> members;
+        private final ListIterator<JsonNode> items;
+        private Map.Entry<String, JsonNode> entry;
+        private JsonNode current;
+        private boolean shareable = true;
+
+        private Frame(JsonNode node) {
+            this.node = node;
+            this.members = node.isObject() ? node.asObjectValues().entrySet().iterator() : null;
+            final List<JsonNode> list = node.isArray() ? node.asArray() : null;
+            this.items = list != null ? list.listIterator() : null;
+        }
+
+        private boolean advance() {
+            if (members != null) {
+                if (!members.hasNext()) {
+                    return false;
+                }
+                entry = members.next();
+                current = entry.getValue();
+                return true;
+            }
+            if (!items.hasNext()) {
+                return false;
+            }
+            current = items.next();
+            return true;
+        }
+
+        /**
+         * Puts the canonical node in place of the current child; {@code null} marks a
+         * child that cannot be shared.
+         */
+        private void shared(JsonNode child, JsonNode canonicalChild) {
+            if (canonicalChild == null) {
+                if (child != null) {
+                    shareable = false;
+                }
+            } else if (canonicalChild != child) {
+                if (entry != null) {
+                    entry.setValue(canonicalChild);
+                } else {
+                    items.set(canonicalChild);
+                }
+            }
+        }
+    }
+
+    /**
+     * Structural key of an object or array with canonical children.
+     */
+    private static final class ContainerKey {
+
+        private final JsonNodeType type;
+        private final Object descriptor;
+        private final String[] keys;
+        private final JsonNode[] values;
+        private final int hash;
+
+        private ContainerKey(JsonNodeType type, Object descriptor, String[] keys, JsonNode[] values) {
+            this.type = type;
+            this.descriptor = descriptor;
+            this.keys = keys;
+            this.values = values;
+            int h = type.hashCode() * 31 + System.identityHashCode(descriptor);
+            h = h * 31 + Arrays.hashCode(keys);
+            for (JsonNode value : values) {
+                h = h * 31 + System.identityHashCode(value);
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ContainerKey)) {
+                return false;
+            }
+            final ContainerKey other = (ContainerKey) o;
+            if (hash != other.hash || type != other.type || descriptor != other.descriptor
+                    || !Arrays.equals(keys, other.keys) || values.length != other.values.length) {
+                return false;
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] != other.values[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -14,6 +14,14 @@ import static de.jare.jsoncasted.lang.JsonNodeType.NUMBER;
 import static de.jare.jsoncasted.lang.JsonNodeType.OBJECT;
 import static de.jare.jsoncasted.lang.JsonNodeType.STRING;
 import de.jare.jsoncasted.model.descriptor.JsonTypeDescriptor;
+import de.jare.jsoncasted.tools.CompactMap;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 import de.jare.jsoncasted.parserwriter.JsonParseException;
 
@@ -23,121 +31,298 @@ import de.jare.jsoncasted.parserwriter.JsonParseException;
  *
  * Note: JsonClass may be attached to OBJECT nodes to aid editing/debugging.
  *
+ * <p>
+ * Each node type has its own compact subclass holding only the fields it needs:
+ * numbers keep a primitive {@code long} or {@code double}, and {@code true},
+ * {@code false} and {@code null} are shared instances.</p>
+ *
  * @author Janusch Renteantus
  */
-public class JsonNode {
+public abstract class JsonNode {
 
     private static final String PREFIX_THIS = "this::";
     private static final String PREFIX_SELF = "self::";
 
+    private static final JsonNode TRUE = new BooleanNode(true);
+    private static final JsonNode FALSE = new BooleanNode(false);
+    private static final JsonNode NULL_NODE = new NullNode();
+
     private final JsonNodeType type;
-    private final Map<String, JsonNode> objectValue;
-    private final List<JsonNode> arrayValue;
-    private final String textValue;
-    private final Double numberValue;
-    private final Long numberLongValue;
-    private final Boolean boolValue;
-    private JsonTypeDescriptor jsonDescriptor; // optional, set for OBJECT nodes
-
-    private JsonNode(JsonNodeType type,
-            Map<String, JsonNode> objectValue,
-            List<JsonNode> arrayValue,
-            String textValue,
-            Double numberValue,
-            Long numberLongValue,
-            Boolean boolValue) {
+
+    private JsonNode(JsonNodeType type) {
         this.type = type;
-        this.objectValue = objectValue;
-        this.arrayValue = arrayValue;
-        this.textValue = textValue;
-        this.numberValue = numberValue;
-        this.numberLongValue = numberLongValue;
-        this.boolValue = boolValue;
-        this.jsonDescriptor = null;
     }
 
     public static JsonNode objectNode() {
-        return new JsonNode(JsonNodeType.OBJECT, new LinkedHashMap<>(), null, null, null, null, null);
+        return new ObjectNode();
     }
 
     public static JsonNode arrayNode() {
-        return new JsonNode(JsonNodeType.ARRAY, null, new ArrayList<>(), null, null, null, null);
+        return new ArrayNode(new ArrayList<>());
     }
 
     public static JsonNode arrayNode(List<JsonNode> arrayValue) {
-        return new JsonNode(JsonNodeType.ARRAY, null, arrayValue, null, null, null, null);
+        return new ArrayNode(arrayValue);
     }
 
     public static JsonNode stringNode(String str) {
-        return new JsonNode(JsonNodeType.STRING, null, null, str, null, null, null);
+        return new StringNode(str, null);
+    }
+
+    /**
+     * Creates a string node from raw quoted content that still contains escape
+     * sequences. The escapes are decoded on the first call of {@link #asText()}.
+     *
+     * @param raw the content between the quotes with escape sequences.
+     * @return the string node.
+     */
+    public static JsonNode rawStringNode(String raw) {
+        return new StringNode(null, raw);
     }
 
     public static JsonNode numberNode(double number) {
-        return new JsonNode(JsonNodeType.NUMBER, null, null, null, number, null, null);
+        return new DoubleNode(number);
     }
 
     public static JsonNode longNode(long number) {
-        return new JsonNode(JsonNodeType.LONG, null, null, null, null, number, null);
+        return new LongNode(number);
     }
 
+    /**
+     * Returns the shared node for a boolean.
+     *
+     * @param aBool the boolean value.
+     * @return the node for {@code true} or {@code false}.
+     */
     public static JsonNode booleanNode(boolean aBool) {
-        return new JsonNode(JsonNodeType.BOOLEAN, null, null, null, null, null, aBool);
+        return aBool ? TRUE : FALSE;
+    }
+
+    /**
+     * Creates a read-only view on a value of a tape.
+     *
+     * @param tape the tape.
+     * @param index the index of the value.
+     * @return the view.
+     */
+    static JsonNode tapeNode(JsonTape tape, int index) {
+        return new TapeNode(tape, index);
+    }
+
+    /**
+     * Returns the tape this node is a view on.
+     *
+     * @return the tape, or {@code null} for a tree node.
+     */
+    JsonTape tape() {
+        return null;
+    }
+
+    /**
+     * Returns the index of the value this node is a view on.
+     *
+     * @return the index, or -1 for a tree node.
+     */
+    int tapeIndex() {
+        return -1;
+    }
+
+    /**
+     * Returns the undecoded content of a string node created by
+     * {@link #rawStringNode(String)}, without decoding it.
+     *
+     * @return the raw content, or {@code null} for other nodes.
+     */
+    String rawText() {
+        return null;
     }
 
     public static JsonNode varNode(String str) {
         if (str == null) {
             return JsonNode.nullNode();
         }
-        String trimmed = str.trim();
-        if ("true".equals(trimmed)) {
-            return JsonNode.booleanNode(true);
-        }
-        if ("false".equals(trimmed)) {
-            return JsonNode.booleanNode(false);
-        }
-        // Prefer long when there's no decimal point or exponent
-        if (trimmed.matches("-?\\d+")) {
-            try {
-                return JsonNode.longNode(Long.parseLong(trimmed));
-            } catch (NumberFormatException e) {
-                // fall through to double parsing as a fallback
-            }
-        }
-        try {
-            return JsonNode.numberNode(Double.parseDouble(trimmed));
-        } catch (NumberFormatException e) {
-            return JsonNode.stringNode(str);
+        return JsonScalars.classify(str);
+    }
+
+    /**
+     * Classifies unquoted characters as boolean, null, long, number or string node in a
+     * single pass without regular expressions or exceptions. Identifiers keep their
+     * untrimmed characters.
+     *
+     * @param chars the unquoted characters, possibly surrounded by whitespace.
+     * @return the scalar node.
+     */
+    public static JsonNode varNode(CharSequence chars) {
+        if (chars == null) {
+            return JsonNode.nullNode();
         }
+        return JsonScalars.classify(chars);
     }
 
+    /**
+     * Returns the shared null node.
+     *
+     * @return the null node.
+     */
     public static JsonNode nullNode() {
-        return new JsonNode(JsonNodeType.NULL, null, null, null, null, null, null);
+        return NULL_NODE;
     }
 
     // Mutating helpers for building nodes (return this for chaining)
     public JsonNode put(String key, JsonNode value) {
-        if (type != JsonNodeType.OBJECT) {
-            throw new IllegalStateException("not an object node");
-        }
-        objectValue.put(key, value);
-        return this;
+        throw new IllegalStateException("not an object node");
     }
 
     public JsonNode add(JsonNode value) {
-        if (type != JsonNodeType.ARRAY) {
-            throw new IllegalStateException("not an array node");
-        }
-        arrayValue.add(value);
-        return this;
+        throw new IllegalStateException("not an array node");
     }
 
-    // JsonClass attachment for OBJECT nodes
+    /**
+     * Attaches a type descriptor. It is kept by OBJECT nodes only.
+     *
+     * @param jc the type descriptor.
+     */
     public void setJsonDescriptor(JsonTypeDescriptor jc) {
-        this.jsonDescriptor = jc;
+        // only OBJECT nodes have a descriptor
     }
 
     public JsonTypeDescriptor getJsonDescriptor() {
-        return this.jsonDescriptor;
+        return null;
+    }
+
+    /**
+     * Makes this node and all nodes below it immutable and returns this node. Objects
+     * and arrays reject {@link #put(String, JsonNode)} and {@link #add(JsonNode)}
+     * afterwards, and their {@link #asObjectValues()} and {@link #asArray()} cannot be
+     * changed. The identity of the nodes is kept, so linking sets and paths stay valid.
+     *
+     * <p>
+     * A frozen tree can be read by many threads without copying or locking: freezing
+     * ends with a volatile write that every later read of the members follows. The
+     * descriptor of a frozen object is no longer replaced. Lists given to
+     * {@link #arrayNode(List)} must not be changed through other references.</p>
+     *
+     * @return this node.
+     */
+    public JsonNode freeze() {
+        return this;
+    }
+
+    /**
+     * Checks if this node cannot be changed. Scalars and views on a {@link JsonTape} are
+     * always frozen.
+     *
+     * @return {@code true} if the node is frozen.
+     */
+    public boolean isFrozen() {
+        return true;
+    }
+
+    /**
+     * Returns a frozen copy of this object with a member set to a value. The other
+     * members are shared, not copied. This node is frozen first.
+     *
+     * @param key the member name.
+     * @param value the new value; it is frozen as well.
+     * @return the new frozen object node.
+     */
+    public JsonNode with(String key, JsonNode value) {
+        final ObjectNode copy = objectCopy();
+        copy.objectValue.put(key, value);
+        return copy.freeze();
+    }
+
+    /**
+     * Returns a frozen copy of this object without a member. The other members are
+     * shared, not copied. This node is frozen first.
+     *
+     * @param key the member name.
+     * @return the new frozen object node.
+     */
+    public JsonNode without(String key) {
+        final ObjectNode copy = objectCopy();
+        copy.objectValue.remove(key);
+        return copy.freeze();
+    }
+
+    /**
+     * Returns a frozen copy of this array with an item replaced. The other items are
+     * shared, not copied. This node is frozen first.
+     *
+     * @param index the index of the item.
+     * @param value the new item; it is frozen as well.
+     * @return the new frozen array node.
+     */
+    public JsonNode with(int index, JsonNode value) {
+        final ArrayNode copy = arrayCopy();
+        copy.arrayValue.set(index, value);
+        return copy.freeze();
+    }
+
+    /**
+     * Returns a frozen copy of this array with an item appended. The other items are
+     * shared, not copied. This node is frozen first.
+     *
+     * @param value the new item; it is frozen as well.
+     * @return the new frozen array node.
+     */
+    public JsonNode withAdded(JsonNode value) {
+        final ArrayNode copy = arrayCopy();
+        copy.arrayValue.add(value);
+        return copy.freeze();
+    }
+
+    /**
+     * Freezes an object or array and the open objects and arrays below it bottom-up on
+     * an explicit stack, so a node is marked only after its children and the nesting
+     * depth is not limited by the Java call stack.
+     */
+    private static void freezeTree(JsonNode root) {
+        final Deque<JsonNode> nodes = new ArrayDeque<>();
+        final Deque<Iterator<JsonNode>> children = new ArrayDeque<>();
+        nodes.push(root);
+        children.push(openChildren(root));
+        while (!nodes.isEmpty()) {
+            final Iterator<JsonNode> it = children.peek();
+            if (it.hasNext()) {
+                final JsonNode child = it.next();
+                // only open objects and arrays are not frozen yet
+                if (child != null && !child.isFrozen()) {
+                    nodes.push(child);
+                    children.push(openChildren(child));
+                }
+                continue;
+            }
+            children.pop();
+            final JsonNode node = nodes.pop();
+            if (node instanceof ObjectNode object) {
+                object.markFrozen();
+            } else {
+                ((ArrayNode) node).markFrozen();
+            }
+        }
+    }
+
+    private static Iterator<JsonNode> openChildren(JsonNode node) {
+        return node instanceof ObjectNode object ? object.objectValue.values().iterator()
+                : ((ArrayNode) node).arrayValue.iterator();
+    }
+
+    private ObjectNode objectCopy() {
+        if (!isObject()) {
+            throw new IllegalStateException("not an object node");
+        }
+        final ObjectNode copy = new ObjectNode();
+        copy.objectValue.putAll(freeze().asObjectValues());
+        copy.jsonDescriptor = getJsonDescriptor();
+        return copy;
+    }
+
+    private ArrayNode arrayCopy() {
+        if (!isArray()) {
+            throw new IllegalStateException("not an array node");
+        }
+        return new ArrayNode(new ArrayList<>(freeze().asArray()));
     }
 
     public JsonNodeType getType() {
@@ -157,34 +342,31 @@ public class JsonNode {
     }
 
     public Map<String, JsonNode> asObjectValues() {
-        return objectValue;
+        return null;
     }
 
     public List<JsonNode> asArray() {
-        return arrayValue;
+        return null;
     }
 
     public String asText() {
-        return textValue;
+        return null;
     }
 
     public Double asNumber() {
-        return numberValue;
+        return null;
     }
 
     public Long asLong() {
-        return numberLongValue;
+        return null;
     }
 
     public Boolean asBoolean() {
-        return boolValue;
+        return null;
     }
 
     public Double toNumber() {
-        if (numberLongValue != null) {
-            return numberLongValue.doubleValue();
-        }
-        return numberValue;
+        return null;
     }
 
     public String toText() throws JsonParseException {
@@ -204,50 +386,53 @@ public class JsonNode {
         }
     }
 
+    /**
+     * Writes this node as JSON to an Appendable, e.g. a Writer or a StringBuilder,
+     * without building intermediate strings (see {@link JsonNodeWriter}).
+     *
+     * @param out the target.
+     * @param compact {@code true} for a single line, {@code false} for line breaks and
+     * an indentation of two spaces per level.
+     * @throws IOException if the target fails.
+     */
+    public void writeTo(Appendable out, boolean compact) throws IOException {
+        JsonNodeWriter.write(out, this, compact);
+    }
+
+    /**
+     * Writes this node as UTF-8 encoded JSON to an OutputStream. The stream is flushed
+     * but not closed.
+     *
+     * @param out the target stream.
+     * @param compact {@code true} for a single line, {@code false} for line breaks and
+     * an indentation of two spaces per level.
+     * @throws IOException if the stream fails.
+     */
+    public void writeTo(OutputStream out, boolean compact) throws IOException {
+        final Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonNodeWriter.write(writer, this, compact);
+        writer.flush();
+    }
+
+    /**
+     * Returns the compact JSON text of this node, written by
+     * {@link #writeTo(Appendable, boolean)}.
+     *
+     * @return the JSON text.
+     */
     @Override
     public String toString() {
-        switch (type) {
-            case OBJECT:
-                StringBuilder sb = new StringBuilder();
-                sb.append("{");
-                boolean first = true;
-                for (Map.Entry<String, JsonNode> e : objectValue.entrySet()) {
-                    if (!first) {
-                        sb.append(',');
-                    }
-                    first = false;
-                    sb.append('"').append(escape(e.getKey())).append('"').append(':').append(e.getValue().toString());
-                }
-                sb.append("}");
-                return sb.toString();
-            case ARRAY:
-                StringBuilder sa = new StringBuilder();
-                sa.append('[');
-                for (int i = 0; i < arrayValue.size(); i++) {
-                    if (i > 0) {
-                        sa.append(',');
-                    }
-                    sa.append(arrayValue.get(i).toString());
-                }
-                sa.append(']');
-                return sa.toString();
-            case STRING:
-                return '"' + escape(textValue) + '"';
-            case NUMBER:
-                return numberValue.toString();
-            case LONG:
-                return numberLongValue.toString();
-            case BOOLEAN:
-                return boolValue.toString();
-            case NULL:
-                return "null";
-            default:
-                return "null";
+        final StringBuilder sb = new StringBuilder();
+        try {
+            JsonNodeWriter.write(sb, this, true);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex); // a StringBuilder does not fail
         }
+        return sb.toString();
     }
 
     public String getObjectId(String providerName) throws JsonParseException {
-        JsonNode idNode = objectValue.get(JsonTerms.TERM_WOOD_OBJECT_ID);
+        JsonNode idNode = asObjectValues().get(JsonTerms.TERM_WOOD_OBJECT_ID);
         if (idNode == null) {
             return null;
         }
@@ -259,7 +444,7 @@ public class JsonNode {
     }
 
     public String getLink(String providerName) throws JsonParseException {
-        JsonNode idNode = objectValue.get(JsonTerms.TERM_WOOD_LINK);
+        JsonNode idNode = asObjectValues().get(JsonTerms.TERM_WOOD_LINK);
         if (idNode == null) {
             return null;
         }
@@ -279,11 +464,463 @@ public class JsonNode {
         return linkKey;
     }
 
-    private static String escape(String s) {
-        if (s == null) {
-            return null;
+    /**
+     * Decodes the escape sequences of raw string content the same way the string parser
+     * does: {@code \\uXXXX}, {@code \\r}, {@code \\f}, {@code \\t}, {@code \\n} and
+     * {@code \\b} are replaced, other escapes are kept with their backslash.
+     *
+     * @param raw the raw content.
+     * @return the decoded text.
+     */
+    private static String decodeEscapes(String raw) {
+        final int len = raw.length();
+        StringBuilder sb = new StringBuilder(len);
+        int i = 0;
+        while (i < len) {
+            final int bs = raw.indexOf('\\', i);
+            if (bs < 0 || bs + 1 >= len) {
+                sb.append(raw, i, len);
+                break;
+            }
+            sb.append(raw, i, bs);
+            final char c = raw.charAt(bs + 1);
+            i = bs + 2;
+            switch (c) {
+                case 'u':
+                    sb.append((char) Integer.parseInt(raw.substring(i, i + 4), 16));
+                    i += 4;
+                    break;
+                case 'r':
+                    sb.append('\r');
+                    break;
+                case 'f':
+                    sb.append('\f');
+                    break;
+                case 't':
+                    sb.append('\t');
+                    break;
+                case 'n':
+                    sb.append('\n');
+                    break;
+                case 'b':
+                    sb.append('\b');
+                    break;
+                default:
+                    sb.append('\\').append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * OBJECT node with its members in insertion order.
+     */
+    private static final class ObjectNode extends JsonNode {
+
+        private final Map<String, JsonNode> objectValue = new CompactMap<>();
+        private JsonTypeDescriptor jsonDescriptor;
+        private Map<String, JsonNode> frozenValue;
+        private volatile boolean frozen;
+
+        private ObjectNode() {
+            super(OBJECT);
+        }
+
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            if (frozen) {
+                throw new IllegalStateException("frozen node");
+            }
+            objectValue.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void setJsonDescriptor(JsonTypeDescriptor jc) {
+            if (!frozen) {
+                this.jsonDescriptor = jc;
+            }
+        }
+
+        @Override
+        public JsonTypeDescriptor getJsonDescriptor() {
+            return jsonDescriptor;
+        }
+
+        @Override
+        public Map<String, JsonNode> asObjectValues() {
+            return frozen ? frozenValue : objectValue;
+        }
+
+        @Override
+        public JsonNode freeze() {
+            if (!frozen) {
+                freezeTree(this);
+            }
+            return this;
+        }
+
+        private void markFrozen() {
+            frozenValue = Collections.unmodifiableMap(objectValue);
+            frozen = true;
+        }
+
+        @Override
+        public boolean isFrozen() {
+            return frozen;
+        }
+    }
+
+    /**
+     * ARRAY node.
+     */
+    private static final class ArrayNode extends JsonNode {
+
+        private final List<JsonNode> arrayValue;
+        private List<JsonNode> frozenValue;
+        private volatile boolean frozen;
+
+        private ArrayNode(List<JsonNode> arrayValue) {
+            super(ARRAY);
+            this.arrayValue = arrayValue;
+        }
+
+        @Override
+        public JsonNode add(JsonNode value) {
+            if (frozen) {
+                throw new IllegalStateException("frozen node");
+            }
+            arrayValue.add(value);
+            return this;
+        }
+
+        @Override
+        public List<JsonNode> asArray() {
+            return frozen ? frozenValue : arrayValue;
+        }
+
+        @Override
+        public JsonNode freeze() {
+            if (!frozen) {
+                freezeTree(this);
+            }
+            return this;
+        }
+
+        private void markFrozen() {
+            frozenValue = Collections.unmodifiableList(arrayValue);
+            frozen = true;
+        }
+
+        @Override
+        public boolean isFrozen() {
+            return frozen;
+        }
+    }
+
+    /**
+     * STRING node, decoding raw content lazily.
+     */
+    private static final class StringNode extends JsonNode {
+
+        private String textValue; // decoded text, filled lazily for raw strings
+        private final String rawText; // undecoded text with escapes, or null
+
+        private StringNode(String textValue, String rawText) {
+            super(STRING);
+            this.textValue = textValue;
+            this.rawText = rawText;
+        }
+
+        @Override
+        public String asText() {
+            String text = textValue;
+            if (text == null && rawText != null) {
+                text = decodeEscapes(rawText);
+                textValue = text;
+            }
+            return text;
+        }
+
+        @Override
+        String rawText() {
+            return rawText;
+        }
+    }
+
+    /**
+     * NUMBER node with a primitive double.
+     */
+    private static final class DoubleNode extends JsonNode {
+
+        private final double numberValue;
+
+        private DoubleNode(double numberValue) {
+            super(NUMBER);
+            this.numberValue = numberValue;
+        }
+
+        @Override
+        public Double asNumber() {
+            return numberValue;
+        }
+
+        @Override
+        public Double toNumber() {
+            return numberValue;
+        }
+    }
+
+    /**
+     * LONG node with a primitive long.
+     */
+    private static final class LongNode extends JsonNode {
+
+        private final long numberLongValue;
+
+        private LongNode(long numberLongValue) {
+            super(LONG);
+            this.numberLongValue = numberLongValue;
+        }
+
+        @Override
+        public Long asLong() {
+            return numberLongValue;
+        }
+
+        @Override
+        public Double toNumber() {
+            return (double) numberLongValue;
+        }
+    }
+
+    /**
+     * BOOLEAN node, only used for the shared {@code true} and {@code false} nodes.
+     */
+    private static final class BooleanNode extends JsonNode {
+
+        private final boolean boolValue;
+
+        private BooleanNode(boolean boolValue) {
+            super(BOOLEAN);
+            this.boolValue = boolValue;
+        }
+
+        @Override
+        public Boolean asBoolean() {
+            return boolValue;
+        }
+    }
+
+    /**
+     * NULL node, only used for the shared null node.
+     */
+    private static final class NullNode extends JsonNode {
+
+        private NullNode() {
+            super(NULL);
+        }
+    }
+
+    /**
+     * Read-only view on a value of a {@link JsonTape}. Members and items are read from
+     * the tape when they are requested.
+     */
+    private static final class TapeNode extends JsonNode {
+
+        private final JsonTape tape;
+        private final int index;
+
+        private TapeNode(JsonTape tape, int index) {
+            super(tape.getType(index));
+            this.tape = tape;
+            this.index = index;
+        }
+
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            throw new IllegalStateException("read-only tape node");
+        }
+
+        @Override
+        public JsonNode add(JsonNode value) {
+            throw new IllegalStateException("read-only tape node");
+        }
+
+        @Override
+        JsonTape tape() {
+            return tape;
+        }
+
+        @Override
+        int tapeIndex() {
+            return index;
+        }
+
+        @Override
+        public Map<String, JsonNode> asObjectValues() {
+            return isObject() ? new TapeMembers(tape, index) : null;
+        }
+
+        @Override
+        public List<JsonNode> asArray() {
+            return isArray() ? new TapeItems(tape, index) : null;
+        }
+
+        @Override
+        public String asText() {
+            return tape.getText(index);
+        }
+
+        @Override
+        public Double asNumber() {
+            return getType() == NUMBER ? tape.getDouble(index) : null;
+        }
+
+        @Override
+        public Long asLong() {
+            return getType() == LONG ? tape.getLong(index) : null;
+        }
+
+        @Override
+        public Boolean asBoolean() {
+            return getType() == BOOLEAN ? tape.getBoolean(index) : null;
+        }
+
+        @Override
+        public Double toNumber() {
+            if (getType() == LONG) {
+                return (double) tape.getLong(index);
+            }
+            return asNumber();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof TapeNode && ((TapeNode) obj).tape == tape && ((TapeNode) obj).index == index;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(tape) * 31 + index;
+        }
+    }
+
+    /**
+     * Members of an object on a tape.
+     */
+    private static final class TapeMembers extends AbstractMap<String, JsonNode> {
+
+        private final JsonTape tape;
+        private final int index;
+
+        private TapeMembers(JsonTape tape, int index) {
+            this.tape = tape;
+            this.index = index;
+        }
+
+        @Override
+        public JsonNode get(Object key) {
+            if (!(key instanceof String)) {
+                return null;
+            }
+            final int value = tape.find(index, (String) key);
+            return value < 0 ? null : tape.node(value);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof String && tape.find(index, (String) key) >= 0;
+        }
+
+        @Override
+        public int size() {
+            return tape.size(index);
+        }
+
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            return new AbstractSet<Entry<String, JsonNode>>() {
+                @Override
+                public Iterator<Entry<String, JsonNode>> iterator() {
+                    return new Iterator<Entry<String, JsonNode>>() {
+                        private final int end = tape.next(index);
+                        private int k = skipRepeated(tape.firstChild(index));
+
+                        @Override
+                        public boolean hasNext() {
+                            return k < end;
+                        }
+
+                        @Override
+                        public Entry<String, JsonNode> next() {
+                            if (k >= end) {
+                                throw new NoSuchElementException();
+                            }
+                            final String key = tape.getKey(k);
+                            final int value = tape.hasDuplicates(index) ? tape.find(index, key) : tape.valueOf(k);
+                            k = skipRepeated(tape.next(tape.valueOf(k)));
+                            return new SimpleImmutableEntry<>(key, tape.node(value));
+                        }
+
+                        /**
+                         * Skips the member names read before in this object.
+                         */
+                        private int skipRepeated(int at) {
+                            int i = at;
+                            while (i < end && tape.hasDuplicates(index) && isRepeated(i)) {
+                                i = tape.next(tape.valueOf(i));
+                            }
+                            return i;
+                        }
+
+                        private boolean isRepeated(int at) {
+                            final String key = tape.getKey(at);
+                            for (int i = tape.firstChild(index); i < at; i = tape.next(tape.valueOf(i))) {
+                                if (tape.keyEquals(i, key)) {
+                                    return true;
+                                }
+                            }
+                            return false;
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return tape.size(index);
+                }
+            };
+        }
+    }
+
+    /**
+     * Items of an array on a tape, located once when the list is created.
+     */
+    private static final class TapeItems extends AbstractList<JsonNode> implements RandomAccess {
+
+        private final JsonTape tape;
+        private final int[] items;
+
+        private TapeItems(JsonTape tape, int index) {
+            this.tape = tape;
+            this.items = new int[tape.size(index)];
+            int at = tape.firstChild(index);
+            for (int i = 0; i < items.length; i++) {
+                items[i] = at;
+                at = tape.next(at);
+            }
+        }
+
+        @Override
+        public JsonNode get(int i) {
+            return tape.node(items[i]);
+        }
+
+        @Override
+        public int size() {
+            return items.length;
         }
-        return s.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "\\r").replace("\t", "\\t");
     }
 
 }
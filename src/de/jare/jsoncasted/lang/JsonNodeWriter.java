@@ -0,0 +1,193 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.lang;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Streaming serializer of JsonNode trees used by {@link JsonNode#writeTo}.
+ *
+ * <p>
+ * The text is appended piece by piece to the target; no string is built per node.
+ * Open objects and arrays are kept on an explicit stack, so the nesting depth is not
+ * limited by the Java call stack. Strings are escaped in a single pass that copies
+ * the runs between escaped characters.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+final class JsonNodeWriter {
+
+    private static final String INDENT = "  ";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private JsonNodeWriter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Writes a node as JSON.
+     *
+     * @param out the target.
+     * @param node the node, {@code null} is written as {@code null}.
+     * @param compact {@code true} for a single line, {@code false} for line breaks and
+     * indentation.
+     * @throws IOException if the target fails.
+     */
+    static void write(Appendable out, JsonNode node, boolean compact) throws IOException {
+        if (!isContainer(node)) {
+            scalar(out, node);
+            return;
+        }
+        Object[] open = new Object[16]; // iterators of the open objects and arrays
+        boolean[] objects = new boolean[16];
+        boolean[] empty = new boolean[16];
+        int n = 0;
+        JsonNode next = node;
+        while (true) {
+            if (isContainer(next)) {
+                if (n == open.length) {
+                    open = Arrays.copyOf(open, n * 2);
+                    objects = Arrays.copyOf(objects, n * 2);
+                    empty = Arrays.copyOf(empty, n * 2);
+                }
+                objects[n] = next.isObject();
+                open[n] = objects[n] ? next.asObjectValues().entrySet().iterator() : next.asArray().iterator();
+                empty[n] = true;
+                out.append(objects[n] ? '{' : '[');
+                n++;
+            } else {
+                scalar(out, next);
+            }
+            next = null;
+            while (n > 0) {
+                final Iterator<?> it = (Iterator<?>) open[n - 1];
+                if (it.hasNext()) {
+                    if (!empty[n - 1]) {
+                        out.append(',');
+                    }
+                    empty[n - 1] = false;
+                    lineBreak(out, n, compact);
+                    if (objects[n - 1]) {
+                        @SuppressWarnings("unchecked")
+                        final Map.Entry<String, JsonNode> e = (Map.Entry<String, JsonNode>) it.next();
+                        string(out, e.getKey());
+                        out.append(compact ? ":" : ": ");
+                        next = e.getValue();
+                    } else {
+                        next = (JsonNode) it.next();
+                    }
+                    break;
+                }
+                n--;
+                open[n] = null;
+                if (!empty[n]) {
+                    lineBreak(out, n, compact);
+                }
+                out.append(objects[n] ? '}' : ']');
+            }
+            if (n == 0) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Appends a string in quotes with JSON escapes.
+     *
+     * @param out the target.
+     * @param s the string.
+     * @throws IOException if the target fails.
+     */
+    static void string(Appendable out, String s) throws IOException {
+        out.append('"');
+        final int length = s.length();
+        int start = 0;
+        for (int i = 0; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c >= 0x20 && c != '"' && c != '\\') {
+                continue;
+            }
+            if (i > start) {
+                out.append(s, start, i);
+            }
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    out.append("\\\"");
+                    break;
+                case '\\':
+                    out.append("\\\\");
+                    break;
+                case '\n':
+                    out.append("\\n");
+                    break;
+                case '\r':
+                    out.append("\\r");
+                    break;
+                case '\t':
+                    out.append("\\t");
+                    break;
+                case '\b':
+                    out.append("\\b");
+                    break;
+                case '\f':
+                    out.append("\\f");
+                    break;
+                default:
+                    out.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xf]);
+            }
+        }
+        if (length > start) {
+            out.append(s, start, length);
+        }
+        out.append('"');
+    }
+
+    private static boolean isContainer(JsonNode node) {
+        return node != null && (node.isObject() || node.isArray());
+    }
+
+    private static void scalar(Appendable out, JsonNode node) throws IOException {
+        final JsonNodeType type = node == null ? JsonNodeType.NULL : node.getType();
+        switch (type) {
+            case STRING:
+                string(out, node.asText());
+                break;
+            case NUMBER:
+                if (out instanceof StringBuilder sb) {
+                    sb.append(node.asNumber().doubleValue());
+                } else {
+                    out.append(Double.toString(node.asNumber()));
+                }
+                break;
+            case LONG:
+                if (out instanceof StringBuilder sb) {
+                    sb.append(node.asLong().longValue());
+                } else {
+                    out.append(Long.toString(node.asLong()));
+                }
+                break;
+            case BOOLEAN:
+                out.append(node.asBoolean() ? "true" : "false");
+                break;
+            default:
+                out.append("null");
+        }
+    }
+
+    private static void lineBreak(Appendable out, int depth, boolean compact) throws IOException {
+        if (!compact) {
+            out.append('\n');
+            for (int i = 0; i < depth; i++) {
+                out.append(INDENT);
+            }
+        }
+    }
+}
@@ -162,6 +162,19 @@ public final class JsonResource {
         this.root = root;
     }
 
+    /**
+     * Freezes the root node, so the tree can be shared between threads without copying
+     * (see {@link JsonNode#freeze()}).
+     *
+     * @return this resource.
+     */
+    public JsonResource freeze() {
+        if (root != null) {
+            root.freeze();
+        }
+        return this;
+    }
+
     /**
      * Returns the expected WoodProviderBox for this resource.
      *
@@ -0,0 +1,229 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.lang;
+
+/**
+ * Single-pass classifier for unquoted scalar values.
+ *
+ * <p>
+ * Recognises {@code true}, {@code false}, {@code null}, integers, floating-point
+ * numbers and identifiers directly from a character sequence. Integers are
+ * accumulated while scanning; floating-point numbers with up to 15 significant digits
+ * and a small decimal exponent are computed exactly without building a string. Only
+ * long mantissas fall back to {@link Double#parseDouble(String)}, after the syntax is
+ * validated, so no exception is thrown for identifiers such as enum constants.</p>
+ *
+ * <p>
+ * The accepted number syntax is the one of {@link Double#parseDouble(String)}
+ * including a leading {@code +}, a trailing {@code f}/{@code d} suffix,
+ * {@code NaN} and {@code Infinity}.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+final class JsonScalars {
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+        1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private JsonScalars() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Classifies the characters as a scalar node.
+     *
+     * @param cs the unquoted characters, possibly surrounded by whitespace.
+     * @return the scalar node; identifiers become string nodes of the untrimmed characters.
+     */
+    static JsonNode classify(CharSequence cs) {
+        int start = 0;
+        int end = cs.length();
+        while (start < end && cs.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && cs.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        final int len = end - start;
+        if (len == 0) {
+            return JsonNode.stringNode(cs.toString());
+        }
+        final char first = cs.charAt(start);
+        if (len == 4 && first == 't' && regionEquals(cs, start, "true")) {
+            return JsonNode.booleanNode(true);
+        }
+        if (len == 5 && first == 'f' && regionEquals(cs, start, "false")) {
+            return JsonNode.booleanNode(false);
+        }
+        if (len == 4 && first == 'n' && regionEquals(cs, start, "null")) {
+            return JsonNode.nullNode();
+        }
+        if ((first >= '0' && first <= '9') || first == '-' || first == '+' || first == '.') {
+            JsonNode number = number(cs, start, end);
+            if (number != null) {
+                return number;
+            }
+        } else if (first == 'N' || first == 'I') {
+            if (regionEquals(cs, start, end, "NaN")) {
+                return JsonNode.numberNode(Double.NaN);
+            }
+            if (regionEquals(cs, start, end, "Infinity")) {
+                return JsonNode.numberNode(Double.POSITIVE_INFINITY);
+            }
+        }
+        return JsonNode.stringNode(cs.toString());
+    }
+
+    /**
+     * Parses a number in the trimmed range.
+     *
+     * @param cs the characters.
+     * @param start the first non-blank index.
+     * @param end the index after the last non-blank character.
+     * @return the number node, or {@code null} if the range is not a number.
+     */
+    private static JsonNode number(CharSequence cs, int start, int end) {
+        int i = start;
+        boolean negative = false;
+        char c = cs.charAt(i);
+        final boolean signed = c == '-' || c == '+';
+        if (signed) {
+            negative = c == '-';
+            i++;
+            if (i == end) {
+                return null;
+            }
+            if (regionEquals(cs, i, end, "Infinity")) {
+                return JsonNode.numberNode(negative ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY);
+            }
+            if (regionEquals(cs, i, end, "NaN")) {
+                return JsonNode.numberNode(Double.NaN);
+            }
+        }
+        if (i + 1 < end && cs.charAt(i) == '0' && (cs.charAt(i + 1) == 'x' || cs.charAt(i + 1) == 'X')) {
+            return hexNumber(cs, start, end);
+        }
+        // mantissa
+        long mantissa = 0;
+        int significant = 0;
+        int dropped = 0;
+        int digits = 0;
+        int fraction = 0;
+        boolean dot = false;
+        boolean integral = true;
+        for (; i < end; i++) {
+            c = cs.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (significant < 19) {
+                    if (mantissa != 0 || c != '0') {
+                        significant++;
+                    }
+                    mantissa = mantissa * 10 + (c - '0');
+                    if (dot) {
+                        fraction++;
+                    }
+                } else if (!dot) {
+                    dropped++;
+                }
+            } else if (c == '.' && !dot) {
+                dot = true;
+                integral = false;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return null;
+        }
+        int exponent = 0;
+        if (i < end && (cs.charAt(i) == 'e' || cs.charAt(i) == 'E')) {
+            integral = false;
+            i++;
+            boolean expNegative = false;
+            if (i < end && (cs.charAt(i) == '-' || cs.charAt(i) == '+')) {
+                expNegative = cs.charAt(i) == '-';
+                i++;
+            }
+            int expDigits = 0;
+            for (; i < end && cs.charAt(i) >= '0' && cs.charAt(i) <= '9'; i++) {
+                if (exponent < 100000) {
+                    exponent = exponent * 10 + (cs.charAt(i) - '0');
+                }
+                expDigits++;
+            }
+            if (expDigits == 0) {
+                return null;
+            }
+            if (expNegative) {
+                exponent = -exponent;
+            }
+        }
+        if (i < end) {
+            c = cs.charAt(i);
+            if (i + 1 == end && (c == 'f' || c == 'F' || c == 'd' || c == 'D')) {
+                integral = false;
+            } else {
+                return null;
+            }
+        }
+        if (integral && !signedPlus(signed, negative) && significant < 19 && dropped == 0) {
+            return JsonNode.longNode(negative ? -mantissa : mantissa);
+        }
+        if (integral && !signedPlus(signed, negative) && dropped == 0) {
+            // 19 digits may still fit into a long
+            try {
+                return JsonNode.longNode(Long.parseLong(cs.subSequence(start, end).toString()));
+            } catch (NumberFormatException ex) {
+                // beyond long, use double below
+            }
+        }
+        final int exp10 = exponent - fraction + dropped;
+        if (significant <= 15 && exp10 >= -22 && exp10 <= 22) {
+            double value = mantissa;
+            value = exp10 < 0 ? value / POWERS_OF_TEN[-exp10] : value * POWERS_OF_TEN[exp10];
+            return JsonNode.numberNode(negative ? -value : value);
+        }
+        return JsonNode.numberNode(Double.parseDouble(cs.subSequence(start, end).toString()));
+    }
+
+    /**
+     * Parses a hexadecimal floating-point literal, which is rare enough to leave to the JDK.
+     *
+     * @param cs the characters.
+     * @param start the first non-blank index.
+     * @param end the index after the last non-blank character.
+     * @return the number node, or {@code null} if the range is not a number.
+     */
+    private static JsonNode hexNumber(CharSequence cs, int start, int end) {
+        try {
+            return JsonNode.numberNode(Double.parseDouble(cs.subSequence(start, end).toString()));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static boolean signedPlus(boolean signed, boolean negative) {
+        return signed && !negative;
+    }
+
+    private static boolean regionEquals(CharSequence cs, int start, String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (cs.charAt(start + i) != word.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean regionEquals(CharSequence cs, int start, int end, String word) {
+        return end - start == word.length() && regionEquals(cs, start, word);
+    }
+
+}
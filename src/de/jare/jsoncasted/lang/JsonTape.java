@@ -0,0 +1,775 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.lang;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-only document stored in two flat sequences instead of one object per node.
+ *
+ * <p>
+ * The structure tape is a sequence of {@code long} slots with the values in document
+ * order. The upper 8 bits of a slot hold the tag, the lower bits the payload:</p>
+ * <ul>
+ * <li>object and array: the slot index after the value, followed by a slot with the
+ * number of members or items;</li>
+ * <li>member name and string: the offset in the character arena, followed by a slot
+ * with the length; a member name is followed by its value;</li>
+ * <li>long and double: a second slot with the value (the raw bits for a double);</li>
+ * <li>true, false and null: a single slot.</li>
+ * </ul>
+ *
+ * <p>
+ * All strings are kept in one character arena; member names are stored once per
+ * document. {@link #node(int)} returns a JsonNode view on a value: its
+ * {@link JsonNode#asObjectValues()} and {@link JsonNode#asArray()} navigate the tape
+ * and do not copy it. The views cannot be changed.</p>
+ *
+ * <p>
+ * Tape and arena are stored in chunks, so neither is limited by the size of one Java
+ * array and neither is copied as a whole while it grows. A {@link Builder} created
+ * with {@code offHeap} writes the chunks directly into direct buffers outside the
+ * Java heap; {@link #toOffHeap()} copies a heap tape there. Indexes and offsets are
+ * {@code int}, so a tape holds at most 2<sup>31</sup> - 1 slots (16 GiB) and
+ * 2<sup>31</sup> - 1 characters (4 GiB).</p>
+ *
+ * <p>
+ * Like the map of an object node, a member name that is
+ * read twice in one object keeps the value read last at the position read first.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public final class JsonTape {
+
+    private static final int TAG_SHIFT = 56;
+    private static final long PAYLOAD = (1L << TAG_SHIFT) - 1;
+    private static final long DUPLICATES = 1L << 62;
+
+    private static final long OBJECT = 1;
+    private static final long ARRAY = 2;
+    private static final long KEY = 3;
+    private static final long STRING = 4;
+    private static final long LONG = 5;
+    private static final long DOUBLE = 6;
+    private static final long TRUE = 7;
+    private static final long FALSE = 8;
+    private static final long NULL = 9;
+
+    private static final int HEAP_TAPE_BITS = 20; // 8 MiB of slots per array
+    private static final int HEAP_ARENA_BITS = 22; // 8 MiB of characters per array
+    private static final int OFF_HEAP_TAPE_BITS = 24; // 128 MiB of slots per direct buffer
+    private static final int OFF_HEAP_ARENA_BITS = 26; // 128 MiB of characters per direct buffer
+
+    private final LongBuffer[] tape;
+    private final CharBuffer[] arena;
+    private final int tapeLength;
+    private final int arenaLength;
+    private final int tapeBits;
+    private final int tapeMask;
+    private final int arenaBits;
+    private final int arenaMask;
+
+    private JsonTape(LongBuffer[] tape, CharBuffer[] arena, int tapeLength, int arenaLength, int tapeBits,
+            int arenaBits) {
+        this.tape = tape;
+        this.arena = arena;
+        this.tapeLength = tapeLength;
+        this.arenaLength = arenaLength;
+        this.tapeBits = tapeBits;
+        this.tapeMask = (int) ((1L << tapeBits) - 1);
+        this.arenaBits = arenaBits;
+        this.arenaMask = (int) ((1L << arenaBits) - 1);
+    }
+
+    /**
+     * Returns a copy of this tape in direct buffers outside the Java heap. The garbage
+     * collector neither scans nor moves the copy; its memory is released when the copy
+     * becomes unreachable. Views and indexes work on both tapes alike.
+     *
+     * @return the off-heap copy, or this tape if it is already off-heap.
+     */
+    public JsonTape toOffHeap() {
+        return isOffHeap() ? this : toOffHeap(OFF_HEAP_TAPE_BITS, OFF_HEAP_ARENA_BITS);
+    }
+
+    /**
+     * Copies this heap tape into direct buffers of {@code 1 << tapeBits} slots and
+     * {@code 1 << arenaBits} characters, one chunk after the other.
+     */
+    JsonTape toOffHeap(int tapeBits, int arenaBits) {
+        final LongBuffer[] slots = new LongBuffer[chunks(tapeLength, tapeBits)];
+        for (int c = 0; c < slots.length; c++) {
+            final int from = c << tapeBits;
+            final int length = Math.min(tapeLength - from, 1 << tapeBits);
+            slots[c] = newLongs(length, true);
+            for (int done = 0; done < length;) {
+                final int at = from + done;
+                final LongBuffer chunk = tape[at >>> this.tapeBits];
+                final int n = Math.min(length - done, chunk.capacity() - (at & tapeMask));
+                slots[c].put(done, chunk, at & tapeMask, n);
+                done += n;
+            }
+        }
+        final CharBuffer[] chars = new CharBuffer[chunks(arenaLength, arenaBits)];
+        for (int c = 0; c < chars.length; c++) {
+            final int from = c << arenaBits;
+            final int length = Math.min(arenaLength - from, 1 << arenaBits);
+            chars[c] = newChars(length, true);
+            for (int done = 0; done < length;) {
+                final int at = from + done;
+                final CharBuffer chunk = arena[at >>> this.arenaBits];
+                final int n = Math.min(length - done, chunk.capacity() - (at & arenaMask));
+                chars[c].put(done, chunk, at & arenaMask, n);
+                done += n;
+            }
+        }
+        return new JsonTape(slots, chars, tapeLength, arenaLength, tapeBits, arenaBits);
+    }
+
+    /**
+     * Checks if the tape is stored outside the Java heap.
+     *
+     * @return {@code true} for a tape created by {@link #toOffHeap()}.
+     */
+    public boolean isOffHeap() {
+        return tape[0].isDirect();
+    }
+
+    private static int chunks(int length, int bits) {
+        return Math.max(1, (int) ((length + (1L << bits) - 1) >>> bits));
+    }
+
+    private static LongBuffer newLongs(int capacity, boolean direct) {
+        return direct
+                ? ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder()).asLongBuffer()
+                : LongBuffer.allocate(capacity);
+    }
+
+    private static CharBuffer newChars(int capacity, boolean direct) {
+        return direct
+                ? ByteBuffer.allocateDirect(capacity * Character.BYTES).order(ByteOrder.nativeOrder()).asCharBuffer()
+                : CharBuffer.allocate(capacity);
+    }
+
+    /**
+     * Returns the index of the root value.
+     *
+     * @return 0.
+     */
+    public int root() {
+        return 0;
+    }
+
+    /**
+     * Returns a view on the root value.
+     *
+     * @return the root node.
+     */
+    public JsonNode getRoot() {
+        return node(0);
+    }
+
+    /**
+     * Returns a view on the value at an index.
+     *
+     * @param index the index of a value.
+     * @return the node.
+     */
+    public JsonNode node(int index) {
+        return JsonNode.tapeNode(this, index);
+    }
+
+    /**
+     * Returns the type of the value at an index.
+     *
+     * @param index the index of a value.
+     * @return the node type.
+     */
+    public JsonNodeType getType(int index) {
+        switch ((int) tag(index)) {
+            case (int) OBJECT:
+                return JsonNodeType.OBJECT;
+            case (int) ARRAY:
+                return JsonNodeType.ARRAY;
+            case (int) STRING:
+                return JsonNodeType.STRING;
+            case (int) LONG:
+                return JsonNodeType.LONG;
+            case (int) DOUBLE:
+                return JsonNodeType.NUMBER;
+            case (int) TRUE:
+            case (int) FALSE:
+                return JsonNodeType.BOOLEAN;
+            case (int) NULL:
+                return JsonNodeType.NULL;
+            default:
+                throw new IllegalArgumentException("No value at " + index + ".");
+        }
+    }
+
+    /**
+     * Returns the index after the value at an index.
+     *
+     * @param index the index of a value.
+     * @return the index of the next member name or value.
+     */
+    public int next(int index) {
+        return nextIndex(slot(index), index);
+    }
+
+    private static int nextIndex(long slot, int index) {
+        final long t = slot >>> TAG_SHIFT;
+        if (t == OBJECT || t == ARRAY) {
+            return (int) (slot & PAYLOAD);
+        }
+        return t == TRUE || t == FALSE || t == NULL ? index + 1 : index + 2;
+    }
+
+    /**
+     * Returns the number of members of an object or items of an array. Member names
+     * read twice are counted once.
+     *
+     * @param index the index of an object or array.
+     * @return the number of members or items.
+     */
+    public int size(int index) {
+        return (int) slot(index + 1);
+    }
+
+    /**
+     * Checks if an object has a member name more than once.
+     *
+     * @param index the index of an object.
+     * @return {@code true} if a member name was read twice.
+     */
+    boolean hasDuplicates(int index) {
+        return (slot(index + 1) & DUPLICATES) != 0;
+    }
+
+    /**
+     * Returns the index of the first member name of an object or the first item of an
+     * array.
+     *
+     * @param index the index of an object or array.
+     * @return the index of the first child, equal to {@link #next(int)} if it is empty.
+     */
+    public int firstChild(int index) {
+        return index + 2;
+    }
+
+    /**
+     * Returns the member name at an index.
+     *
+     * @param keyIndex the index of a member name.
+     * @return the member name.
+     */
+    public String getKey(int keyIndex) {
+        return string(keyIndex);
+    }
+
+    /**
+     * Returns the index of the value of the member name at an index.
+     *
+     * @param keyIndex the index of a member name.
+     * @return the index of the value.
+     */
+    public int valueOf(int keyIndex) {
+        return keyIndex + 2;
+    }
+
+    /**
+     * Checks if the member name at an index equals a text, without creating a string.
+     *
+     * @param keyIndex the index of a member name.
+     * @param key the text.
+     * @return {@code true} if both are equal.
+     */
+    public boolean keyEquals(int keyIndex, String key) {
+        final int offset = (int) (slot(keyIndex) & PAYLOAD);
+        final int length = (int) slot(keyIndex + 1);
+        if (length != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (charAt(offset + i) != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Finds the value of a member of an object.
+     *
+     * @param index the index of an object.
+     * @param key the member name.
+     * @return the index of the value read last for this name, or -1.
+     */
+    public int find(int index, String key) {
+        int found = -1;
+        final int end = next(index);
+        for (int k = firstChild(index); k < end; k = next(valueOf(k))) {
+            if (keyEquals(k, key)) {
+                found = valueOf(k);
+                if (!hasDuplicates(index)) {
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the text of a string value.
+     *
+     * @param index the index of a string value.
+     * @return the text, or {@code null} for other values.
+     */
+    public String getText(int index) {
+        return tag(index) == STRING ? string(index) : null;
+    }
+
+    /**
+     * Returns the value of a long value.
+     *
+     * @param index the index of a long value.
+     * @return the value.
+     */
+    public long getLong(int index) {
+        return slot(index + 1);
+    }
+
+    /**
+     * Returns the value of a double value.
+     *
+     * @param index the index of a double value.
+     * @return the value.
+     */
+    public double getDouble(int index) {
+        return Double.longBitsToDouble(slot(index + 1));
+    }
+
+    /**
+     * Returns the value of a boolean value.
+     *
+     * @param index the index of a boolean value.
+     * @return the value.
+     */
+    public boolean getBoolean(int index) {
+        return tag(index) == TRUE;
+    }
+
+    /**
+     * Checks if the slot at an index is a member name.
+     *
+     * @param index the index of a member name or value.
+     * @return {@code true} for a member name.
+     */
+    public boolean isKey(int index) {
+        return tag(index) == KEY;
+    }
+
+    /**
+     * Returns the number of used slots of the structure tape.
+     *
+     * @return the tape length.
+     */
+    public int getTapeLength() {
+        return tapeLength;
+    }
+
+    /**
+     * Returns the number of characters in the string arena.
+     *
+     * @return the arena length.
+     */
+    public int getArenaLength() {
+        return arenaLength;
+    }
+
+    private long slot(int index) {
+        return tape[index >>> tapeBits].get(index & tapeMask);
+    }
+
+    private char charAt(int offset) {
+        return arena[offset >>> arenaBits].get(offset & arenaMask);
+    }
+
+    private long tag(int index) {
+        return slot(index) >>> TAG_SHIFT;
+    }
+
+    private String string(int index) {
+        final int offset = (int) (slot(index) & PAYLOAD);
+        final int length = (int) slot(index + 1);
+        final char[] chars = new char[length];
+        int done = 0;
+        while (done < length) {
+            final int at = offset + done;
+            final CharBuffer chunk = arena[at >>> arenaBits];
+            final int from = at & arenaMask;
+            final int n = Math.min(length - done, chunk.capacity() - from);
+            chunk.get(from, chars, done, n);
+            done += n;
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Builder appending values in document order.
+     *
+     * <p>
+     * Objects and arrays are opened with {@link #startObject()} and
+     * {@link #startArray()} and closed with {@link #end()}; inside an object each value
+     * follows a {@link #key(String)}.</p>
+     *
+     * <p>
+     * The values are written into chunks: only the first chunk grows by copying, later
+     * chunks are allocated at full size, and {@link #build()} hands the chunks to the
+     * tape without copying them. The builder cannot be used after {@link #build()}.</p>
+     */
+    public static final class Builder {
+
+        private final boolean offHeap;
+        private final int tapeBits;
+        private final int tapeMask;
+        private final int arenaBits;
+        private final int arenaMask;
+        private LongBuffer[] tape = new LongBuffer[1];
+        private LongBuffer last; // the chunk written to, starting at slot lastStart
+        private int lastStart;
+        private int lastEnd;
+        private int size;
+        private CharBuffer[] arena = new CharBuffer[1];
+        private int chars;
+        private final Map<String, Integer> keyOffsets = new HashMap<>();
+        private int[] open = new int[16];
+        private int[] counts = new int[16];
+        private boolean[] arrays = new boolean[16];
+        private long[] offsets = new long[16];
+        private int top = -1;
+
+        /**
+         * Constructs a builder writing to the Java heap.
+         */
+        public Builder() {
+            this(false);
+        }
+
+        /**
+         * Constructs a builder writing to the Java heap or to direct buffers outside of
+         * it.
+         *
+         * @param offHeap {@code true} for direct buffers, see {@link #isOffHeap()}.
+         */
+        public Builder(boolean offHeap) {
+            this(offHeap, offHeap ? OFF_HEAP_TAPE_BITS : HEAP_TAPE_BITS,
+                    offHeap ? OFF_HEAP_ARENA_BITS : HEAP_ARENA_BITS);
+        }
+
+        /**
+         * Constructs a builder writing chunks of {@code 1 << tapeBits} slots and
+         * {@code 1 << arenaBits} characters.
+         */
+        Builder(boolean offHeap, int tapeBits, int arenaBits) {
+            this.offHeap = offHeap;
+            this.tapeBits = tapeBits;
+            this.tapeMask = (1 << tapeBits) - 1;
+            this.arenaBits = arenaBits;
+            this.arenaMask = (1 << arenaBits) - 1;
+            tape[0] = newLongs(Math.min(64, 1 << tapeBits), offHeap);
+            last = tape[0];
+            lastEnd = last.capacity();
+            arena[0] = newChars(Math.min(256, 1 << arenaBits), offHeap);
+        }
+
+        /**
+         * Opens an object.
+         *
+         * @return this builder.
+         */
+        public Builder startObject() {
+            return start(OBJECT);
+        }
+
+        /**
+         * Opens an array.
+         *
+         * @return this builder.
+         */
+        public Builder startArray() {
+            return start(ARRAY);
+        }
+
+        /**
+         * Closes the object or array opened last.
+         *
+         * @return this builder.
+         */
+        public Builder end() {
+            final int index = open[top];
+            final int count = counts[top--];
+            final long slot = get(index) | size;
+            set(index, slot);
+            if (slot >>> TAG_SHIFT == OBJECT) {
+                final int unique = uniqueKeys(index);
+                set(index + 1, unique == count ? count : unique | DUPLICATES);
+            } else {
+                set(index + 1, count);
+            }
+            return this;
+        }
+
+        /**
+         * Appends a member name of the object opened last.
+         *
+         * @param key the member name.
+         * @return this builder.
+         */
+        public Builder key(String key) {
+            Integer offset = keyOffsets.get(key);
+            if (offset == null) {
+                offset = chars;
+                appendChars(key);
+                keyOffsets.put(key, offset);
+            }
+            slot(KEY, offset);
+            slot(key.length());
+            counts[top]++;
+            return this;
+        }
+
+        /**
+         * Appends a string value.
+         *
+         * @param text the text.
+         * @return this builder.
+         */
+        public Builder string(String text) {
+            item();
+            slot(STRING, chars);
+            slot(text.length());
+            appendChars(text);
+            return this;
+        }
+
+        /**
+         * Appends a long value.
+         *
+         * @param value the value.
+         * @return this builder.
+         */
+        public Builder longValue(long value) {
+            item();
+            slot(LONG, 0);
+            slot(value);
+            return this;
+        }
+
+        /**
+         * Appends a double value.
+         *
+         * @param value the value.
+         * @return this builder.
+         */
+        public Builder doubleValue(double value) {
+            item();
+            slot(DOUBLE, 0);
+            slot(Double.doubleToRawLongBits(value));
+            return this;
+        }
+
+        /**
+         * Appends a boolean value.
+         *
+         * @param value the value.
+         * @return this builder.
+         */
+        public Builder booleanValue(boolean value) {
+            item();
+            slot(value ? TRUE : FALSE, 0);
+            return this;
+        }
+
+        /**
+         * Appends a null value.
+         *
+         * @return this builder.
+         */
+        public Builder nullValue() {
+            item();
+            slot(NULL, 0);
+            return this;
+        }
+
+        /**
+         * Returns the tape of the appended value.
+         *
+         * @return the tape.
+         * @throws IllegalStateException if an object or array is still open.
+         */
+        public JsonTape build() {
+            if (top >= 0 || size == 0) {
+                throw new IllegalStateException("The value is not complete.");
+            }
+            // only the last chunk is cut to its used part
+            final int lastSlots = (size - 1) >>> tapeBits;
+            final int usedSlots = size - (lastSlots << tapeBits);
+            if (usedSlots < tape[lastSlots].capacity()) {
+                final LongBuffer chunk = newLongs(usedSlots, offHeap);
+                chunk.put(0, tape[lastSlots], 0, usedSlots);
+                tape[lastSlots] = chunk;
+            }
+            final int lastChars = Math.max(0, chars - 1) >>> arenaBits;
+            final int usedChars = chars - (lastChars << arenaBits);
+            if (usedChars < arena[lastChars].capacity()) {
+                final CharBuffer chunk = newChars(usedChars, offHeap);
+                chunk.put(0, arena[lastChars], 0, usedChars);
+                arena[lastChars] = chunk;
+            }
+            return new JsonTape(tape, arena, size, chars, tapeBits, arenaBits);
+        }
+
+        /**
+         * Checks if the builder writes to direct buffers outside the Java heap.
+         *
+         * @return {@code true} if the built tape is off-heap.
+         */
+        public boolean isOffHeap() {
+            return offHeap;
+        }
+
+        private Builder start(long tag) {
+            item();
+            if (++top == open.length) {
+                open = Arrays.copyOf(open, top * 2);
+                counts = Arrays.copyOf(counts, top * 2);
+                arrays = Arrays.copyOf(arrays, top * 2);
+            }
+            open[top] = size;
+            counts[top] = 0;
+            arrays[top] = tag == ARRAY;
+            slot(tag, 0);
+            slot(0);
+            return this;
+        }
+
+        /**
+         * Counts an array item; member values are counted with their name.
+         */
+        private void item() {
+            if (top >= 0 && arrays[top]) {
+                counts[top]++;
+            }
+        }
+
+        /**
+         * Counts the different member names of an object. Equal names share their
+         * offset in the arena.
+         */
+        private int uniqueKeys(int index) {
+            int n = 0;
+            for (int k = index + 2; k < size; k = nextIndex(get(k + 2), k + 2)) {
+                if (n == offsets.length) {
+                    offsets = Arrays.copyOf(offsets, n * 2);
+                }
+                offsets[n++] = get(k) & PAYLOAD;
+            }
+            if (n > 16) {
+                Arrays.sort(offsets, 0, n);
+                int unique = 1;
+                for (int i = 1; i < n; i++) {
+                    if (offsets[i] != offsets[i - 1]) {
+                        unique++;
+                    }
+                }
+                return unique;
+            }
+            int unique = n;
+            for (int i = 1; i < n; i++) {
+                for (int j = 0; j < i; j++) {
+                    if (offsets[i] == offsets[j]) {
+                        unique--;
+                        break;
+                    }
+                }
+            }
+            return unique;
+        }
+
+        private void appendChars(String text) {
+            final int length = text.length();
+            if (chars > Integer.MAX_VALUE - length) {
+                throw new IllegalStateException("The arena is limited to 2^31 - 1 characters.");
+            }
+            int done = 0;
+            while (done < length) {
+                final int c = chars >>> arenaBits;
+                final int at = chars & arenaMask;
+                if (c == arena.length) {
+                    arena = Arrays.copyOf(arena, c + 1);
+                    arena[c] = newChars(1 << arenaBits, offHeap);
+                } else if (at == arena[c].capacity()) {
+                    final CharBuffer chunk = newChars(Math.min(at * 2, 1 << arenaBits), offHeap);
+                    chunk.put(0, arena[c], 0, at);
+                    arena[c] = chunk;
+                }
+                final int n = Math.min(length - done, arena[c].capacity() - at);
+                arena[c].position(at).put(text, done, done + n);
+                done += n;
+                chars += n;
+            }
+        }
+
+        private void slot(long tag, long payload) {
+            slot(tag << TAG_SHIFT | payload);
+        }
+
+        private void slot(long value) {
+            if (size == lastEnd) {
+                nextChunk();
+            }
+            last.put(size - lastStart, value);
+            size++;
+        }
+
+        /**
+         * Doubles the first chunk up to its full size, or appends a new chunk.
+         */
+        private void nextChunk() {
+            if (size == Integer.MAX_VALUE) {
+                throw new IllegalStateException("The tape is limited to 2^31 - 1 slots.");
+            }
+            final int c = size >>> tapeBits;
+            if (c == tape.length) {
+                tape = Arrays.copyOf(tape, c + 1);
+                tape[c] = newLongs(1 << tapeBits, offHeap);
+            } else {
+                final LongBuffer chunk = newLongs(Math.min(size * 2, 1 << tapeBits), offHeap);
+                chunk.put(0, tape[c], 0, size);
+                tape[c] = chunk;
+            }
+            last = tape[c];
+            lastStart = c << tapeBits;
+            lastEnd = (int) Math.min(Integer.MAX_VALUE, (long) lastStart + last.capacity());
+        }
+
+        private long get(int index) {
+            return tape[index >>> tapeBits].get(index & tapeMask);
+        }
+
+        private void set(int index, long value) {
+            tape[index >>> tapeBits].put(index & tapeMask, value);
+        }
+    }
+}
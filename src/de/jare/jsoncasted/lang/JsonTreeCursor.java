@@ -0,0 +1,217 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.lang;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-recursive pre-order traversal of a JsonNode tree.
+ *
+ * <p>
+ * The cursor visits the root and then every member and item depth-first in document
+ * order. The open objects and arrays are kept on an explicit stack, so the nesting
+ * depth of the tree is not limited by the Java call stack. Paths like
+ * {@code $.list[2].name} are only built when {@link #getPath()} or
+ * {@link #getParentPath()} is called, and the paths of the ancestors are cached.</p>
+ *
+ * <pre>
+ * JsonTreeCursor cursor = new JsonTreeCursor(root);
+ * while (cursor.next()) {
+ *     JsonNode node = cursor.getNode();
+ * }
+ * </pre>
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonTreeCursor {
+
+    private static final String ROOT_PATH = "$";
+
+    private JsonNode root;
+    private JsonNode[] containers;
+    private Iterator<Map.Entry<String, JsonNode>>[] members;
+    private int[] indexes;
+    private String[] segments;
+    private String[] paths;
+    private int top;
+    private JsonNode node;
+    private String key;
+    private String segment;
+
+    /**
+     * Constructs a cursor positioned before the specified root.
+     *
+     * @param root the root node.
+     */
+    public JsonTreeCursor(JsonNode root) {
+        this.root = root;
+        this.containers = new JsonNode[16];
+        this.members = newMemberIterators(16);
+        this.indexes = new int[16];
+        this.segments = new String[16];
+        this.paths = new String[16];
+        this.top = -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Iterator<Map.Entry<String, JsonNode>>[] newMemberIterators(int size) {
+        return (Iterator<Map.Entry<String, JsonNode>>[]) new Iterator<?>[size];
+    }
+
+    /**
+     * Moves to the next node in pre-order.
+     *
+     * @return {@code true} if there is a current node, {@code false} after the last node.
+     */
+    public boolean next() {
+        if (root != null) {
+            node = root;
+            key = null;
+            segment = ROOT_PATH;
+            root = null;
+            return true;
+        }
+        if (node != null && hasChildren(node)) {
+            push(node, segment);
+        }
+        while (top >= 0) {
+            final JsonNode container = containers[top];
+            if (container.isObject()) {
+                final Iterator<Map.Entry<String, JsonNode>> it = members[top];
+                if (it.hasNext()) {
+                    final Map.Entry<String, JsonNode> entry = it.next();
+                    node = entry.getValue();
+                    key = entry.getKey();
+                    segment = "." + key;
+                    return true;
+                }
+            } else {
+                final List<JsonNode> items = container.asArray();
+                final int i = indexes[top];
+                if (i < items.size()) {
+                    indexes[top] = i + 1;
+                    node = items.get(i);
+                    key = null;
+                    segment = "[" + i + "]";
+                    return true;
+                }
+            }
+            containers[top] = null;
+            members[top] = null;
+            paths[top] = null;
+            top--;
+        }
+        node = null;
+        key = null;
+        return false;
+    }
+
+    /**
+     * Returns the current node.
+     *
+     * @return the current node; may be {@code null} for a null member.
+     */
+    public JsonNode getNode() {
+        return node;
+    }
+
+    /**
+     * Returns the member name of the current node.
+     *
+     * @return the member name, or {@code null} for the root and array items.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the number of objects and arrays enclosing the current node.
+     *
+     * @return 0 for the root.
+     */
+    public int getDepth() {
+        return top + 1;
+    }
+
+    /**
+     * Returns the path of the current node.
+     *
+     * @return the path, {@code $} for the root.
+     */
+    public String getPath() {
+        return top < 0 ? segment : path(top) + segment;
+    }
+
+    /**
+     * Returns the path of the object or array containing the current node.
+     *
+     * @return the path of the parent, or {@code null} for the root.
+     */
+    public String getParentPath() {
+        return top < 0 ? null : path(top);
+    }
+
+    /**
+     * Finds the path of a node inside a tree, comparing the nodes by identity or, for
+     * views on a {@link JsonTape}, by their position.
+     *
+     * @param root the root of the tree.
+     * @param target the node to find.
+     * @return the path of the first occurrence in pre-order, or {@code null} if the node
+     * is not part of the tree.
+     */
+    public static String pathOf(JsonNode root, JsonNode target) {
+        final JsonTreeCursor cursor = new JsonTreeCursor(root);
+        while (cursor.next()) {
+            if (target.equals(cursor.getNode())) {
+                return cursor.getPath();
+            }
+        }
+        return null;
+    }
+
+    private String path(int level) {
+        int i = level;
+        while (paths[i] == null) {
+            i--;
+        }
+        for (i++; i <= level; i++) {
+            paths[i] = paths[i - 1] + segments[i];
+        }
+        return paths[level];
+    }
+
+    private void push(JsonNode container, String containerSegment) {
+        if (++top == containers.length) {
+            final int size = top * 2;
+            containers = Arrays.copyOf(containers, size);
+            members = Arrays.copyOf(members, size);
+            indexes = Arrays.copyOf(indexes, size);
+            segments = Arrays.copyOf(segments, size);
+            paths = Arrays.copyOf(paths, size);
+        }
+        containers[top] = container;
+        segments[top] = containerSegment;
+        paths[top] = top == 0 ? containerSegment : null;
+        if (container.isObject()) {
+            members[top] = container.asObjectValues().entrySet().iterator();
+        } else {
+            indexes[top] = 0;
+        }
+    }
+
+    private static boolean hasChildren(JsonNode node) {
+        if (node.isObject()) {
+            return node.asObjectValues() != null && !node.asObjectValues().isEmpty();
+        }
+        return node.isArray() && node.asArray() != null && !node.asArray().isEmpty();
+    }
+
+}
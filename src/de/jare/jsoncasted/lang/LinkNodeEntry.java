@@ -7,20 +7,26 @@
 package de.jare.jsoncasted.lang;
 
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * Represents a link node entry that associates a JsonNode with its wood link and path.
  *
  * <p>This class is used by {@link LinkingSet} to track nodes that have
- * cross-resource references ({@code _woodLink}) and their locations in the JSON tree.</p>
+ * cross-resource references ({@code _woodLink}) and their locations in the JSON tree.
+ * For a view on a {@link JsonTape} only the tape and the index are kept; the view is
+ * created again by {@link #getNode()}.</p>
  *
  * @author Janusch Rentenatus
  */
 public final class LinkNodeEntry {
 
-    private final JsonNode node;
+    private final JsonNode node; // null for a view on a tape
+    private final JsonTape tape;
+    private final int index;
     private final String woodLink;
-    private final String path;
+    private String path;
+    private Supplier<String> pathSupplier;
 
     /**
      * Constructs a LinkNodeEntry with the node, wood link, and path.
@@ -31,18 +37,39 @@ public final class LinkNodeEntry {
      * @throws NullPointerException if node, woodLink, or path is null.
      */
     public LinkNodeEntry(JsonNode node, String woodLink, String path) {
-        this.node = Objects.requireNonNull(node, "node must not be null");
+        Objects.requireNonNull(node, "node must not be null");
+        this.tape = node.tape();
+        this.index = node.tapeIndex();
+        this.node = tape == null ? node : null;
         this.woodLink = Objects.requireNonNull(woodLink, "woodLink must not be null");
         this.path = Objects.requireNonNull(path, "path must not be null");
     }
 
+    /**
+     * Constructs a LinkNodeEntry whose path is only built when it is requested, e.g.
+     * for an entry collected while parsing.
+     *
+     * @param node the JsonNode containing the link (must not be null).
+     * @param woodLink the wood link value (e.g., "save::123456") (must not be null).
+     * @param pathSupplier the supplier of the path, called at most once (must not be null).
+     * @throws NullPointerException if node, woodLink, or pathSupplier is null.
+     */
+    public LinkNodeEntry(JsonNode node, String woodLink, Supplier<String> pathSupplier) {
+        Objects.requireNonNull(node, "node must not be null");
+        this.tape = node.tape();
+        this.index = node.tapeIndex();
+        this.node = tape == null ? node : null;
+        this.woodLink = Objects.requireNonNull(woodLink, "woodLink must not be null");
+        this.pathSupplier = Objects.requireNonNull(pathSupplier, "pathSupplier must not be null");
+    }
+
     /**
      * Returns the JsonNode containing the link.
      *
-     * @return the JsonNode.
+     * @return the JsonNode, a new view for an entry on a tape.
      */
     public JsonNode getNode() {
-        return node;
+        return node != null ? node : tape.node(index);
     }
 
     /**
@@ -60,6 +87,10 @@ public final class LinkNodeEntry {
      * @return the path string.
      */
     public String getPath() {
+        if (pathSupplier != null) {
+            path = pathSupplier.get();
+            pathSupplier = null;
+        }
         return path;
     }
 
@@ -67,7 +98,7 @@ public final class LinkNodeEntry {
     public String toString() {
         return "LinkNodeEntry{" 
                 + "woodLink='" + woodLink + '\''
-                + ", path='" + path + '\''
+                + ", path='" + getPath() + '\''
                 + '}';
     }
 }
@@ -13,6 +13,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 /**
  * The JsonWoodProviderScanResult class contains the results of scanning a JSON node
@@ -32,9 +33,24 @@ public final class JsonWoodProviderScanResult {
      * @param path The path to the parent node in the JSON structure.
      */
     void registerProviderNode(JsonNode childNode, String path) {
+        providerNodes.add(new ProviderNodeEntry(ownerNode(childNode), path));
+    }
+
+    /**
+     * Registers a provider node found while parsing. The path is only built when it is
+     * requested.
+     *
+     * @param childNode The JSON node containing the provider definition.
+     * @param pathSupplier The supplier of the path to the parent node.
+     */
+    public void registerProviderNode(JsonNode childNode, Supplier<String> pathSupplier) {
+        providerNodes.add(new ProviderNodeEntry(ownerNode(childNode), pathSupplier));
+    }
+
+    private static JsonNode ownerNode(JsonNode childNode) {
         JsonNode ownerNode = JsonNode.objectNode();
         ownerNode.asObjectValues().put(TERM_WOOD_PROVIDERS, childNode);
-        providerNodes.add(new ProviderNodeEntry(ownerNode, path));
+        return ownerNode;
     }
 
     /**
@@ -71,7 +87,8 @@ public final class JsonWoodProviderScanResult {
     public static final class ProviderNodeEntry {
 
         private final JsonNode ownerNode;
-        private final String path;
+        private String path;
+        private Supplier<String> pathSupplier;
 
         /**
          * Constructs a ProviderNodeEntry instance.
@@ -85,6 +102,18 @@ public final class JsonWoodProviderScanResult {
             this.path = Objects.requireNonNull(path, "path must not be null");
         }
 
+        /**
+         * Constructs a ProviderNodeEntry whose path is only built when it is requested.
+         *
+         * @param ownerNode The JSON node that owns/contains the provider.
+         * @param pathSupplier The supplier of the path, called at most once.
+         * @throws NullPointerException If ownerNode or pathSupplier is null.
+         */
+        public ProviderNodeEntry(JsonNode ownerNode, Supplier<String> pathSupplier) {
+            this.ownerNode = Objects.requireNonNull(ownerNode, "ownerNode must not be null");
+            this.pathSupplier = Objects.requireNonNull(pathSupplier, "pathSupplier must not be null");
+        }
+
         /**
          * Returns the owner JSON node.
          *
@@ -100,13 +129,17 @@ public final class JsonWoodProviderScanResult {
          * @return The path string.
          */
         public String getPath() {
+            if (pathSupplier != null) {
+                path = pathSupplier.get();
+                pathSupplier = null;
+            }
             return path;
         }
 
         @Override
         public String toString() {
             return "ProviderNodeEntry{"
-                    + "path='" + path + '\''
+                    + "path='" + getPath() + '\''
                     + '}';
         }
     }
@@ -7,8 +7,7 @@
 package de.jare.jsoncasted.lang.calculator;
 
 import de.jare.jsoncasted.lang.JsonNode;
-import java.util.List;
-import java.util.Map;
+import de.jare.jsoncasted.lang.JsonTreeCursor;
 import java.util.Objects;
 import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_PROVIDERS;
 
@@ -37,71 +36,13 @@ public final class JsonWoodProviderScanner {
         Objects.requireNonNull(root, "root must not be null");
 
         JsonWoodProviderScanResult result = new JsonWoodProviderScanResult();
-        scanNode(root, "$", result);
-        return result;
-    }
-
-    /**
-     * Recursively scans a JSON node.
-     *
-     * @param node The JSON node to scan.
-     * @param path The path to the node (used for identification).
-     * @param result The scan result to add findings to.
-     */
-    private void scanNode(JsonNode node, String path, JsonWoodProviderScanResult result) {
-        if (node == null) {
-            return;
-        }
-
-        if (node.isObject()) {
-            scanObject(node, path, result);
-        } else if (node.isArray()) {
-            scanArray(node, path, result);
-        }
-    }
-
-    /**
-     * Scans a JSON object node for provider definitions.
-     *
-     * @param node The JSON object node to scan.
-     * @param path The path to the node.
-     * @param result The scan result to add findings to.
-     */
-    private void scanObject(JsonNode node, String path, JsonWoodProviderScanResult result) {
-        Map<String, JsonNode> children = node.asObjectValues();
-        if (children == null || children.isEmpty()) {
-            return;
-        }
-
-        children.forEach((key, childNode) -> {
-            String childPath = path + "." + key;
-
-            if (TERM_WOOD_PROVIDERS.equals(key)) {
-                result.registerProviderNode(childNode, path);
+        JsonTreeCursor cursor = new JsonTreeCursor(root);
+        while (cursor.next()) {
+            if (TERM_WOOD_PROVIDERS.equals(cursor.getKey())) {
+                result.registerProviderNode(cursor.getNode(), cursor.getParentPath());
             }
-
-            scanNode(childNode, childPath, result);
-        });
-    }
-
-    /**
-     * Scans a JSON array node for provider definitions.
-     *
-     * @param node The JSON array node to scan.
-     * @param path The path to the node.
-     * @param result The scan result to add findings to.
-     */
-    private void scanArray(JsonNode node, String path, JsonWoodProviderScanResult result) {
-        List<JsonNode> array = node.asArray();
-        if (array == null || array.isEmpty()) {
-            return;
-        }
-
-        for (int i = 0; i < array.size(); i++) {
-            JsonNode childNode = array.get(i);
-            String childPath = path + "[" + i + "]";
-            scanNode(childNode, childPath, result);
         }
+        return result;
     }
 
 }
@@ -45,6 +45,20 @@ public class CastingParser {
      * @throws JsonParseException if parsing fails (e.g., missing opening brace after type).
      */
     static JsonNode parse(ParseStreamReader psr) throws IOException, JsonParseException {
+        return parse(psr, null);
+    }
+
+    /**
+     * Parses a type-cast expression from the stream reader and passes the filter on to
+     * the object.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param filter the filter of the object, or {@code null} to keep all members.
+     * @return a JsonNode representing the object with the type information added.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if parsing fails (e.g., missing opening brace after type).
+     */
+    static JsonNode parse(ParseStreamReader psr, JsonFieldFilter filter) throws IOException, JsonParseException {
         while (psr.hasNext()) {
             StringBuilder sb = new StringBuilder();
             while (psr.hasNext()) {
@@ -54,7 +68,7 @@ public class CastingParser {
                     while (psr.hasNext()) {
                         c = psr.next();
                         if (c == '{') {
-                            JsonNode ret = ObjectParser.parse(psr);
+                            JsonNode ret = ObjectParser.parse(psr, filter);
                             ret.put(TERM_CLASS, JsonNode.stringNode(cast));
                             return ret;
                         }
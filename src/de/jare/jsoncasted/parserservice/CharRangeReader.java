@@ -0,0 +1,78 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+
+/**
+ * Stream reader over a range of characters without copying the range. The range can be
+ * followed by a closing bracket, so a run of array elements can be parsed by
+ * {@link ListParser}.
+ *
+ * @author Janusch Rentenatus
+ */
+class CharRangeReader extends ParseStreamReader {
+
+    private final CharSequence doc;
+    private final int end;
+    private int pos;
+    private boolean closed;
+
+    /**
+     * Constructs a reader over the specified range followed by a closing bracket.
+     *
+     * @param doc the characters.
+     * @param start the first index of the range.
+     * @param end the index after the last character of the range.
+     * @param debugLevel the debug level for logging.
+     */
+    CharRangeReader(CharSequence doc, int start, int end, JsonDebugLevel debugLevel) {
+        this(doc, start, end, true, debugLevel);
+    }
+
+    /**
+     * Constructs a reader over the specified range.
+     *
+     * @param doc the characters.
+     * @param start the first index of the range.
+     * @param end the index after the last character of the range.
+     * @param bracket {@code true} to append a closing bracket to the range.
+     * @param debugLevel the debug level for logging.
+     */
+    CharRangeReader(CharSequence doc, int start, int end, boolean bracket, JsonDebugLevel debugLevel) {
+        super(null, Math.min(DEFAULT_BUFFER_SIZE, end - start + 1), debugLevel);
+        this.doc = doc;
+        this.end = end;
+        this.pos = start;
+        this.closed = !bracket;
+    }
+
+    @Override
+    protected int read(char[] cbuf, int off, int len) {
+        if (pos < end) {
+            final int n = Math.min(len, end - pos);
+            if (doc instanceof String s) {
+                s.getChars(pos, pos + n, cbuf, off);
+            } else if (doc instanceof StringBuilder sb) {
+                sb.getChars(pos, pos + n, cbuf, off);
+            } else {
+                for (int i = 0; i < n; i++) {
+                    cbuf[off + i] = doc.charAt(pos + i);
+                }
+            }
+            pos += n;
+            return n;
+        }
+        if (!closed) {
+            closed = true;
+            cbuf[off] = ']';
+            return 1;
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,420 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Resumable parser that is fed with chunks of input instead of reading from a blocking
+ * {@link java.io.Reader}.
+ *
+ * <p>
+ * Chunks are passed with {@link #feed(char[], int, int)} or, UTF-8 encoded, with
+ * {@link #feed(ByteBuffer)}; a multi-byte sequence may be split across chunks. The
+ * parser never waits for input, so it can be driven from NIO selectors or asynchronous
+ * HTTP bodies. {@link #finish()} is called after the last chunk and returns the
+ * populated {@link JsonResource}.</p>
+ *
+ * <p>
+ * A resumable scanner keeps its state between the calls: the stack of open arrays and
+ * objects, whether an object expects a key or a value, and whether the input is inside
+ * a string, an escape or the type name of a cast. The scanner only finds where the
+ * elements of a root array end; it does not build nodes.</p>
+ *
+ * <p>
+ * If the root is an array, each element is parsed by {@link ListParser} as soon as
+ * the scanner has found its end, and its characters are released, so only the
+ * unfinished element is buffered. The characters of an array root are therefore read
+ * twice, once by the scanner and once by the parser. Any other root, an object in
+ * particular, is buffered completely and parsed by {@link RootParser} when
+ * {@link #finish()} is called; for such roots the feed parser only frees the caller
+ * from a blocking Reader and saves neither memory nor parse time.</p>
+ *
+ * <p>
+ * A feed parser is not thread-safe; chunks must be fed in order.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonFeedParser {
+
+    // root phases
+    private static final int BEFORE_ROOT = 0;
+    private static final int ROOT_ARRAY = 1;
+    private static final int ROOT_OTHER = 2;
+    private static final int AFTER_ROOT = 3;
+    private static final int FINISHED = 4;
+
+    // frames of the open structures
+    private static final byte ARRAY = 1;
+    private static final byte OBJECT_KEY = 2;
+    private static final byte OBJECT_VALUE = 3;
+    private static final byte OBJECT_ARRAY = 4;
+
+    // scanner modes
+    private static final int NORMAL = 0;
+    private static final int STRING = 1;
+    private static final int KEY_STRING = 2;
+    private static final int CAST = 3;
+    private static final int UNTIL_COLON = 4;
+    private static final int UNTIL_COMMA = 5;
+
+    private final JsonResource container;
+    private final JsonDebugLevel debugLevel;
+    private final JsonSymbolTable symbolTable;
+    private final StringBuilder text;
+    private final ArrayList<JsonNode> elements;
+    private final CharsetDecoder decoder;
+    private CharBuffer decoded;
+    private byte[] carry;
+    private int carryLength;
+    private boolean bomChecked;
+    private int phase;
+    private byte[] frames;
+    private int depth;
+    private int mode;
+    private char quotation;
+    private boolean escape;
+    private int scanPos;
+    private int elementStart;
+
+    /**
+     * Constructs a feed parser populating the specified container.
+     *
+     * @param container the JsonResource to populate with parsed content.
+     * @param debugLevel the debug level for logging, or {@code null} for default (SIMPLE).
+     */
+    public JsonFeedParser(JsonResource container, JsonDebugLevel debugLevel) {
+        this.container = container;
+        this.debugLevel = debugLevel == null ? JsonDebugLevel.SIMPLE : debugLevel;
+        this.symbolTable = new JsonSymbolTable();
+        this.text = new StringBuilder();
+        this.elements = new ArrayList<>();
+        this.decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.carry = new byte[8];
+        this.carryLength = 0;
+        this.bomChecked = false;
+        this.phase = BEFORE_ROOT;
+        this.frames = new byte[16];
+        this.depth = 0;
+        this.mode = NORMAL;
+        this.escape = false;
+        this.scanPos = 0;
+        this.elementStart = 0;
+    }
+
+    /**
+     * Feeds the next chunk of characters.
+     *
+     * @param cbuf the characters.
+     * @param off the index of the first character.
+     * @param len the number of characters.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if a completed element cannot be parsed.
+     */
+    public void feed(char[] cbuf, int off, int len) throws IOException, JsonParseException {
+        checkOpen();
+        if (len > 0 && !bomChecked) {
+            bomChecked = true;
+            if (cbuf[off] == '\uFEFF') {
+                off++;
+                len--;
+            }
+        }
+        if (phase == AFTER_ROOT) {
+            return;
+        }
+        text.append(cbuf, off, len);
+        scan();
+    }
+
+    /**
+     * Feeds the next chunk of UTF-8 encoded bytes. All remaining bytes of the buffer are
+     * consumed; an incomplete multi-byte sequence at its end is kept for the next chunk.
+     *
+     * @param data the buffer with the encoded chunk.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if a completed element cannot be parsed.
+     */
+    public void feed(ByteBuffer data) throws IOException, JsonParseException {
+        checkOpen();
+        if (decoded == null) {
+            decoded = CharBuffer.allocate(ParseStreamReader.DEFAULT_BUFFER_SIZE);
+        }
+        if (carryLength > 0 && data.hasRemaining()) {
+            // complete the sequence split at the end of the former chunk
+            final int take = Math.min(4, data.remaining());
+            final ByteBuffer joined = ByteBuffer.allocate(carryLength + take);
+            joined.put(carry, 0, carryLength);
+            for (int i = 0; i < take; i++) {
+                joined.put(data.get());
+            }
+            joined.flip();
+            decode(joined, false);
+            final int left = joined.remaining();
+            carryLength = 0;
+            if (left <= take) {
+                data.position(data.position() - left);
+            } else {
+                keep(joined);
+            }
+        }
+        decode(data, false);
+        keep(data);
+    }
+
+    /**
+     * Ends the input and returns the parsed resource.
+     *
+     * @return the populated JsonResource with root node and metadata.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the input is not complete or cannot be parsed.
+     */
+    public JsonResource finish() throws IOException, JsonParseException {
+        checkOpen();
+        if (carryLength > 0 || decoded != null) {
+            final ByteBuffer rest = ByteBuffer.wrap(carry, 0, carryLength);
+            carryLength = 0;
+            decode(rest, true);
+            decoded.clear();
+            decoder.flush(decoded);
+            decoded.flip();
+            appendDecoded();
+        }
+        final JsonNode root;
+        if (phase == ROOT_ARRAY) {
+            throw new JsonParseException("End of file without end of list.");
+        } else if (phase == AFTER_ROOT) {
+            elements.trimToSize();
+            root = JsonNode.arrayNode(elements);
+        } else {
+            ParseStreamReader psr = new CharRangeReader(text, 0, text.length(), false, debugLevel);
+            psr.setSymbolTable(symbolTable);
+            root = RootParser.parseRoot(psr);
+        }
+        phase = FINISHED;
+        text.setLength(0);
+        return RootParser.analyze(root, container, debugLevel);
+    }
+
+    /**
+     * Returns the number of root array elements parsed so far.
+     *
+     * @return the element count.
+     */
+    public int getElementCount() {
+        return elements.size();
+    }
+
+    private void checkOpen() {
+        if (phase == FINISHED) {
+            throw new IllegalStateException("The feed parser is already finished.");
+        }
+    }
+
+    private void decode(ByteBuffer in, boolean endOfInput) throws IOException, JsonParseException {
+        while (true) {
+            decoded.clear();
+            final boolean overflow = decoder.decode(in, decoded, endOfInput).isOverflow();
+            decoded.flip();
+            appendDecoded();
+            if (!overflow) {
+                return;
+            }
+        }
+    }
+
+    private void appendDecoded() throws IOException, JsonParseException {
+        if (decoded.hasRemaining()) {
+            feed(decoded.array(), decoded.arrayOffset() + decoded.position(), decoded.remaining());
+        }
+    }
+
+    private void keep(ByteBuffer in) {
+        final int n = in.remaining();
+        if (carryLength + n > carry.length) {
+            carry = Arrays.copyOf(carry, carryLength + n);
+        }
+        in.get(carry, carryLength, n);
+        carryLength += n;
+    }
+
+    /**
+     * Advances the scanner over the newly appended characters and parses every root
+     * array element that is complete.
+     */
+    private void scan() throws IOException, JsonParseException {
+        final int len = text.length();
+        int i = scanPos;
+        if (phase == BEFORE_ROOT) {
+            while (i < len && text.charAt(i) <= ' ') {
+                i++;
+            }
+            if (i == len) {
+                scanPos = i;
+                return;
+            }
+            if (text.charAt(i) != '[') {
+                phase = ROOT_OTHER;
+            } else {
+                phase = ROOT_ARRAY;
+                push(ARRAY);
+                i++;
+                elementStart = i;
+            }
+        }
+        if (phase == ROOT_OTHER) {
+            scanPos = len;
+            return;
+        }
+        for (; i < len && phase == ROOT_ARRAY; i++) {
+            step(text.charAt(i), i);
+        }
+        if (phase == AFTER_ROOT) {
+            text.setLength(0);
+            scanPos = 0;
+            elementStart = 0;
+            return;
+        }
+        // release the characters of the parsed elements
+        if (elementStart > 0) {
+            text.delete(0, elementStart);
+            i -= elementStart;
+            elementStart = 0;
+        }
+        scanPos = i;
+    }
+
+    /**
+     * Processes one character, mirroring the decisions of the recursive parsers.
+     */
+    private void step(char c, int i) throws IOException, JsonParseException {
+        switch (mode) {
+            case STRING:
+            case KEY_STRING:
+                if (c == '\n' || c == '\r') {
+                    return;
+                }
+                if (escape) {
+                    escape = false;
+                } else if (c == '\\') {
+                    escape = true;
+                } else if (c == quotation) {
+                    // the object parser consumes everything up to ':' after a quoted key
+                    mode = mode == KEY_STRING ? UNTIL_COLON : NORMAL;
+                }
+                return;
+            case CAST:
+                if (c == ')') {
+                    mode = NORMAL;
+                }
+                return;
+            case UNTIL_COLON:
+                if (c == ':') {
+                    mode = NORMAL;
+                    frames[depth - 1] = OBJECT_VALUE;
+                }
+                return;
+            case UNTIL_COMMA:
+                if (c == ',') {
+                    mode = NORMAL;
+                }
+                return;
+            default:
+        }
+        final byte frame = frames[depth - 1];
+        if (frame == OBJECT_KEY) {
+            switch (c) {
+                case '"', '\'':
+                    quotation = c;
+                    mode = KEY_STRING;
+                    break;
+                case ':', '=':
+                    frames[depth - 1] = OBJECT_VALUE;
+                    break;
+                case '}':
+                    depth--;
+                    break;
+                case '[':
+                    // an object starting with '[' is an array up to the next comma
+                    frames[depth - 1] = OBJECT_ARRAY;
+                    break;
+                default:
+            }
+            return;
+        }
+        switch (c) {
+            case '"', '\'':
+                quotation = c;
+                mode = STRING;
+                break;
+            case '(':
+                mode = CAST;
+                break;
+            case '{':
+                push(OBJECT_KEY);
+                break;
+            case '[':
+                push(ARRAY);
+                break;
+            case '}':
+                if (frame == OBJECT_VALUE) {
+                    depth--;
+                }
+                break;
+            case ']':
+                if (frame == ARRAY || frame == OBJECT_ARRAY) {
+                    depth--;
+                    if (depth == 0) {
+                        element(i);
+                        phase = AFTER_ROOT;
+                    } else if (frame == OBJECT_ARRAY) {
+                        mode = UNTIL_COMMA;
+                    }
+                }
+                break;
+            case ',':
+                if (frame == OBJECT_VALUE) {
+                    frames[depth - 1] = OBJECT_KEY;
+                } else if (depth == 1) {
+                    element(i);
+                    elementStart = i + 1;
+                }
+                break;
+            default:
+        }
+    }
+
+    /**
+     * Parses the element ending before the separator at the specified index.
+     */
+    private void element(int end) throws IOException, JsonParseException {
+        ParseStreamReader psr = new CharRangeReader(text, elementStart, end, debugLevel);
+        psr.setSymbolTable(symbolTable);
+        elements.addAll(ListParser.parse(psr).asArray());
+    }
+
+    private void push(byte frame) {
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth * 2);
+        }
+        frames[depth++] = frame;
+    }
+
+}
@@ -0,0 +1,143 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_CLASS;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_LINK;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_OBJECT_ID;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_PROVIDERS;
+import de.jare.jsoncasted.model.descriptor.JsonFieldDescriptor;
+import de.jare.jsoncasted.model.descriptor.JsonModelDescriptor;
+import de.jare.jsoncasted.model.descriptor.JsonTypeDescriptor;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set of the object members a model can convert, used to skip all other members while
+ * parsing.
+ *
+ * <p>
+ * A filter belongs to an object position in the document. It keeps the fields of the
+ * type declared for this position and of all types a cast may select there: the
+ * implementors of an interface, the subtypes and the supertypes. The reserved terms
+ * {@code _class}, {@code _woodObjectId}, {@code _woodLink} and {@code _woodProviders}
+ * are always kept. Arrays do not change the filter, their items share the filter of the
+ * field. Below map types, types that are not described and members without a filter
+ * ({@code null}) nothing is skipped.</p>
+ *
+ * <p>
+ * Skipped members are passed over at character level without creating nodes, so
+ * {@link de.jare.jsoncasted.pconvertservice.JsonObjectConverter} finds the same known
+ * fields as after a full parse.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public final class JsonFieldFilter {
+
+    private final Map<String, JsonFieldFilter> fields = new HashMap<>();
+
+    private JsonFieldFilter() {
+    }
+
+    /**
+     * Creates the filter for a document whose root has the specified type.
+     *
+     * @param descriptor the model descriptor.
+     * @param rootType the name of the root type.
+     * @return the filter of the root, or {@code null} if the root type is not described
+     * or is a map type.
+     */
+    public static JsonFieldFilter of(JsonModelDescriptor descriptor, String rootType) {
+        return of(descriptor, descriptor.getType(rootType), new HashMap<>());
+    }
+
+    private static JsonFieldFilter of(JsonModelDescriptor descriptor, JsonTypeDescriptor type,
+            Map<String, JsonFieldFilter> built) {
+        if (type == null) {
+            return null;
+        }
+        if (built.containsKey(type.getTypeName())) {
+            return built.get(type.getTypeName());
+        }
+        final Set<JsonTypeDescriptor> candidates = candidates(descriptor, type);
+        for (JsonTypeDescriptor candidate : candidates) {
+            if (candidate.getMappingAllFields() != null) {
+                built.put(type.getTypeName(), null);
+                return null;
+            }
+        }
+        final JsonFieldFilter filter = new JsonFieldFilter();
+        built.put(type.getTypeName(), filter);
+        filter.fields.put(TERM_CLASS, null);
+        filter.fields.put(TERM_WOOD_OBJECT_ID, null);
+        filter.fields.put(TERM_WOOD_LINK, null);
+        filter.fields.put(TERM_WOOD_PROVIDERS, null);
+        for (JsonTypeDescriptor candidate : candidates) {
+            for (JsonFieldDescriptor field : candidate.getAllFields()) {
+                final String name = field.getFieldName();
+                final JsonFieldFilter child = of(descriptor, descriptor.getType(field.getTypeName()), built);
+                if (child == null || !filter.fields.containsKey(name)) {
+                    filter.fields.put(name, child);
+                } else if (filter.fields.get(name) != child) {
+                    // same name with different types in two subtypes
+                    filter.fields.put(name, null);
+                }
+            }
+        }
+        return filter;
+    }
+
+    /**
+     * Collects the type, its supertypes, its implementors and all their subtypes.
+     */
+    private static Set<JsonTypeDescriptor> candidates(JsonModelDescriptor descriptor, JsonTypeDescriptor type) {
+        final Set<JsonTypeDescriptor> roots = new LinkedHashSet<>();
+        roots.add(type);
+        roots.addAll(type.getImplementors());
+        final Set<JsonTypeDescriptor> ret = new LinkedHashSet<>(roots);
+        for (JsonTypeDescriptor t = type.getParent(); t != null; t = t.getParent()) {
+            ret.add(t);
+        }
+        for (JsonTypeDescriptor t : descriptor.values()) {
+            for (JsonTypeDescriptor root : roots) {
+                if (t.containsSuper(root)) {
+                    ret.add(t);
+                    break;
+                }
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Checks if a member is kept.
+     *
+     * @param name the member name.
+     * @return {@code true} if the member must be parsed.
+     */
+    public boolean keeps(String name) {
+        return fields.containsKey(name);
+    }
+
+    /**
+     * Returns the filter for the objects in the value of a kept member.
+     *
+     * @param name the member name.
+     * @return the filter, or {@code null} if nothing is skipped in the value.
+     */
+    public JsonFieldFilter child(String name) {
+        return fields.get(name);
+    }
+
+    @Override
+    public String toString() {
+        return "JsonFieldFilter" + fields.keySet();
+    }
+
+}
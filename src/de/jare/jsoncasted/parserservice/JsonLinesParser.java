@@ -0,0 +1,179 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.lang.LinkingSet;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Parser for newline-delimited documents (JSON Lines, NDJSON).
+ *
+ * <p>
+ * Every line that is not blank is parsed as a document of its own and gives one
+ * {@link JsonResource}. The lines of one run share a {@link JsonSymbolTable}, so
+ * recurring keys are canonicalized once. The wood terms are collected while a line is
+ * parsed (see {@link WoodNodeCollector}); lines without them get an empty linking set
+ * and no expected box, which is what the analysis would find for them.</p>
+ *
+ * <p>
+ * With a {@link ForkJoinPool}, batches of lines are parsed on the threads of the pool,
+ * each batch with a symbol table of its own. The resources keep the order of the
+ * lines. Errors are reported with the line number. A byte order mark at the start of
+ * the first line is ignored.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonLinesParser {
+
+    /**
+     * Default number of lines parsed by one task of the pool.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private JsonLinesParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Parses all lines of the reader.
+     *
+     * @param reader the reader of the lines.
+     * @param filename the filename to associate with the resources.
+     * @param debugLevel the debug level for logging.
+     * @return one resource per line that is not blank.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if a line cannot be parsed.
+     */
+    public static List<JsonResource> parse(BufferedReader reader, String filename, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException {
+        final List<JsonResource> ret = new ArrayList<>();
+        final JsonSymbolTable symbols = new JsonSymbolTable();
+        int row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            row++;
+            if (!line.isBlank()) {
+                ret.add(parseLine(line, row, filename, symbols, debugLevel));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * Parses all lines of the reader in batches on the threads of the pool.
+     *
+     * @param reader the reader of the lines.
+     * @param filename the filename to associate with the resources.
+     * @param pool the pool running the batch parsers.
+     * @param batchSize the number of lines per batch.
+     * @param debugLevel the debug level for logging.
+     * @return one resource per line that is not blank, in the order of the lines.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if a line cannot be parsed.
+     */
+    public static List<JsonResource> parse(BufferedReader reader, String filename, ForkJoinPool pool, int batchSize,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        final int size = Math.max(1, batchSize);
+        final List<Callable<List<JsonResource>>> tasks = new ArrayList<>();
+        List<String> batch = new ArrayList<>(size);
+        int batchRow = 1;
+        int row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (batch.size() == size) {
+                tasks.add(task(batch, batchRow, filename, debugLevel));
+                batch = new ArrayList<>(size);
+                batchRow = row + 1;
+            }
+            row++;
+            batch.add(line);
+        }
+        if (!batch.isEmpty()) {
+            tasks.add(task(batch, batchRow, filename, debugLevel));
+        }
+        final List<JsonResource> ret = new ArrayList<>(row);
+        try {
+            for (Future<List<JsonResource>> part : pool.invokeAll(tasks)) {
+                ret.addAll(part.get());
+            }
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof JsonParseException jpe) {
+                throw jpe;
+            }
+            throw new IOException("Parallel parsing failed.", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Parallel parsing interrupted.", ex);
+        }
+        return ret;
+    }
+
+    private static Callable<List<JsonResource>> task(List<String> lines, int firstRow, String filename,
+            JsonDebugLevel debugLevel) {
+        return () -> {
+            final List<JsonResource> ret = new ArrayList<>(lines.size());
+            final JsonSymbolTable symbols = new JsonSymbolTable();
+            int row = firstRow;
+            for (String line : lines) {
+                if (!line.isBlank()) {
+                    ret.add(parseLine(line, row, filename, symbols, debugLevel));
+                }
+                row++;
+            }
+            return ret;
+        };
+    }
+
+    /**
+     * Parses one line as a document.
+     *
+     * @param line the line without its line break.
+     * @param row the line number for error messages.
+     * @param filename the filename to associate with the resource.
+     * @param symbols the symbol table shared by the lines.
+     * @param debugLevel the debug level for logging.
+     * @return the resource of the line.
+     * @throws JsonParseException if the line cannot be parsed.
+     */
+    static JsonResource parseLine(String line, int row, String filename, JsonSymbolTable symbols,
+            JsonDebugLevel debugLevel) throws JsonParseException {
+        if (row == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+            line = line.substring(1);
+        }
+        final ParseStreamReader psr = new CharRangeReader(line, 0, line.length(), false, debugLevel);
+        psr.setSymbolTable(symbols);
+        final WoodNodeCollector woods = new WoodNodeCollector();
+        psr.setWoodCollector(woods);
+        final JsonResource container = JsonResource.forFile(filename);
+        final JsonNode root;
+        try {
+            root = RootParser.parseRoot(psr);
+        } catch (JsonParseException | IOException ex) {
+            final JsonParseException lineEx = new JsonParseException(row, ex.getMessage());
+            lineEx.initCause(ex);
+            throw lineEx;
+        }
+        if (!woods.isEmpty()) {
+            return RootParser.analyze(root, container, woods, debugLevel);
+        }
+        container.setRoot(root);
+        container.setLinkingSet(new LinkingSet(container.getProviderName()));
+        return container;
+    }
+
+}
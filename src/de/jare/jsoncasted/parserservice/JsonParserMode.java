@@ -0,0 +1,51 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+/**
+ * Enumeration of the parser engines selectable in {@link JsonParserService} and
+ * {@link RootParser}.
+ *
+ * @author Janusch Rentenatus
+ */
+public enum JsonParserMode {
+
+    /**
+     * The recursive-descent parsers {@link ObjectParser}, {@link ListParser} and
+     * {@link CastingParser}, one Java frame per nesting level. This is the default.
+     */
+    RECURSIVE,
+    /**
+     * The non-recursive {@link JsonTokenReader} engine with an explicit state stack and
+     * an optional maximum nesting depth. It produces the same nodes, but rejects input
+     * the recursive parsers silently drop, like a second value for one member. It is
+     * about as fast as {@link #RECURSIVE} on deeply nested input and somewhat slower on
+     * flat documents; it is meant for the depth guard, not for speed.
+     */
+    ITERATIVE,
+    /**
+     * The {@link StrictParser} accepting only standard JSON (RFC 8259) with
+     * {@code "_class"} members for type information. It is the fastest engine for plain
+     * JSON and honors the maximum nesting depth.
+     */
+    STRICT,
+    /**
+     * The {@link JsonTokenReader} engine writing a {@link de.jare.jsoncasted.lang.JsonTape}
+     * instead of a tree. The root of the resource is a read-only view on the tape, so a
+     * document needs a few large arrays instead of one object per value.
+     */
+    TAPE,
+    /**
+     * Like {@link #TAPE}, but the tape is written into direct buffers outside the Java
+     * heap while the document is read, without a copy on the heap. Only the small
+     * views handed out by the root stay on the heap, so resident documents of several
+     * gigabytes are not scanned by the garbage collector. A tape holds at most
+     * 2<sup>31</sup> - 1 slots and 2<sup>31</sup> - 1 characters of strings (see
+     * {@link de.jare.jsoncasted.lang.JsonTape}).
+     */
+    OFF_HEAP
+}
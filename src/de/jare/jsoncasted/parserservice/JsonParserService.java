@@ -7,10 +7,19 @@
 package de.jare.jsoncasted.parserservice;
 
 import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.lang.JsonNode;
 import de.jare.jsoncasted.lang.JsonResource;
 import de.jare.jsoncasted.parserwriter.JsonParseException;
 import java.io.*;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -23,6 +32,7 @@ import java.util.logging.Logger;
  *   <li>File input</li>
  *   <li>URL input</li>
  *   <li>Reader input (StringReader, FileReader, BufferedReader)</li>
+ *   <li>UTF-8 byte input (InputStream, byte[], ByteBuffer)</li>
  * </ul>
  *
  * <p>Each parse method returns a {@link JsonResource} containing the parsed JSON tree
@@ -32,6 +42,11 @@ import java.util.logging.Logger;
  */
 public class JsonParserService {
 
+    /**
+     * Files of at least this size are parsed from a memory-mapped buffer by default.
+     */
+    public static final long DEFAULT_MAPPING_THRESHOLD = 1L << 20;
+
     /**
      * Parses JSON content from a string.
      *
@@ -48,6 +63,10 @@ public class JsonParserService {
     /**
      * Parses JSON content from a file.
      *
+     * <p>Files of {@link #DEFAULT_MAPPING_THRESHOLD} bytes or more are memory-mapped,
+     * smaller files are read through a stream. The content is expected to be UTF-8; use
+     * {@link #parse(File, Charset, JsonDebugLevel)} for other encodings.</p>
+     *
      * @param file the file to parse.
      * @param debugLevel the debug level for logging.
      * @return a JsonResource containing the parsed content, or {@code null} if file not found.
@@ -55,10 +74,8 @@ public class JsonParserService {
      * @throws IOException if an I/O error occurs.
      */
     public static JsonResource parse(File file, JsonDebugLevel debugLevel) throws JsonParseException, IOException {
-        FileReader in;
         try {
-            in = new FileReader(file);
-            return parse(in, file.getPath(), debugLevel);
+            return parse(file, JsonResource.forFile(file.getPath()), DEFAULT_MAPPING_THRESHOLD, debugLevel);
         } catch (FileNotFoundException ex) {
             Logger.getGlobal().log(Level.SEVERE, null, ex);
         }
@@ -66,7 +83,60 @@ public class JsonParserService {
     }
 
     /**
-     * Parses JSON content from a URL.
+     * Parses JSON content from a file in the given encoding. The file is read through a
+     * Reader and never memory-mapped.
+     *
+     * @param file the file to parse.
+     * @param charset the encoding of the file.
+     * @param debugLevel the debug level for logging.
+     * @return a JsonResource containing the parsed content, or {@code null} if file not found.
+     * @throws JsonParseException if JSON parsing fails.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static JsonResource parse(File file, Charset charset, JsonDebugLevel debugLevel)
+            throws JsonParseException, IOException {
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), charset)) {
+            return parse(reader, JsonResource.forFile(file.getPath()), debugLevel);
+        } catch (FileNotFoundException ex) {
+            Logger.getGlobal().log(Level.SEVERE, null, ex);
+        }
+        return null;
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON content from a file into the specified container.
+     *
+     * <p>If the file has at least {@code mappingThreshold} bytes, it is mapped with
+     * {@link FileChannel#map} and parsed from the mapped buffer, so the content is read
+     * through the OS page cache without being copied onto the heap. Smaller files, and
+     * files too large for a single mapping, are read through a stream. Pass
+     * {@link Long#MAX_VALUE} to disable mapping.</p>
+     *
+     * @param file the file to parse.
+     * @param container the JsonResource to populate with parsed content.
+     * @param mappingThreshold the minimal file size in bytes for memory mapping.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource.
+     * @throws FileNotFoundException if the file cannot be opened.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(File file, JsonResource container, long mappingThreshold, JsonDebugLevel debugLevel)
+            throws FileNotFoundException, IOException, JsonParseException {
+        try (FileInputStream in = new FileInputStream(file)) {
+            final FileChannel channel = in.getChannel();
+            final long size = channel.size();
+            if (size >= mappingThreshold && size <= Integer.MAX_VALUE) {
+                MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+                return parse(mapped, container, debugLevel);
+            }
+            return parse(in, container, debugLevel);
+        }
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON content from a URL. Use
+     * {@link #parse(URL, Charset, JsonDebugLevel)} for other encodings.
      *
      * @param url1 the URL to read JSON from.
      * @param debugLevel the debug level for logging.
@@ -75,10 +145,7 @@ public class JsonParserService {
      * @throws IOException if an I/O error occurs.
      */
     public static JsonResource parse(final URL url1, JsonDebugLevel debugLevel) throws JsonParseException, IOException {
-        BufferedReader in;
-        try {
-            final InputStreamReader inputStreamReader = new InputStreamReader(url1.openStream());
-            in = new BufferedReader(inputStreamReader);
+        try (InputStream in = url1.openStream()) {
             return parse(in, url1.toString(), debugLevel);
         } catch (FileNotFoundException ex) {
             Logger.getGlobal().log(Level.SEVERE, null, ex);
@@ -86,6 +153,26 @@ public class JsonParserService {
         return null;
     }
 
+    /**
+     * Parses JSON content from a URL in the given encoding.
+     *
+     * @param url1 the URL to read JSON from.
+     * @param charset the encoding of the content.
+     * @param debugLevel the debug level for logging.
+     * @return a JsonResource containing the parsed content, or {@code null} if file not found.
+     * @throws JsonParseException if JSON parsing fails.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static JsonResource parse(final URL url1, Charset charset, JsonDebugLevel debugLevel)
+            throws JsonParseException, IOException {
+        try (Reader reader = new InputStreamReader(url1.openStream(), charset)) {
+            return parse(reader, JsonResource.forFile(url1.toString()), debugLevel);
+        } catch (FileNotFoundException ex) {
+            Logger.getGlobal().log(Level.SEVERE, null, ex);
+        }
+        return null;
+    }
+
     /**
      * Parses JSON content from a StringReader.
      *
@@ -143,4 +230,281 @@ public class JsonParserService {
         return RootParser.parse(psr, container, debugLevel);
     }
 
+    /**
+     * Parses JSON content from a generic Reader into the specified container with the
+     * selected parser engine.
+     *
+     * @param reader the Reader to read from.
+     * @param container the JsonResource to populate with parsed content.
+     * @param mode the parser engine.
+     * @param maxDepth the maximum nesting depth; not checked by {@link JsonParserMode#RECURSIVE}.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(Reader reader, JsonResource container, JsonParserMode mode, int maxDepth,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return RootParser.parse(new ParseStreamReader(reader, debugLevel), container, mode, maxDepth, debugLevel);
+    }
+
+    /**
+     * Parses JSON content from a generic Reader into the specified container and skips
+     * the object members the model cannot convert.
+     *
+     * @param reader the Reader to read from.
+     * @param container the JsonResource to populate with parsed content.
+     * @param filter the filter of the root, see {@link JsonFieldFilter#of}.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(Reader reader, JsonResource container, JsonFieldFilter filter,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return RootParser.parse(new ParseStreamReader(reader, debugLevel), container, filter, debugLevel);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON content from an InputStream without an intermediate Reader.
+     *
+     * @param in the InputStream to read from.
+     * @param filename the filename to associate with the parsed content.
+     * @param debugLevel the debug level for logging.
+     * @return a JsonResource containing the parsed content.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(InputStream in, String filename, JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return parse(in, JsonResource.forFile(filename), debugLevel);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON content from an InputStream into the specified container.
+     *
+     * @param in the InputStream to read from.
+     * @param container the JsonResource to populate with parsed content.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(InputStream in, JsonResource container, JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return RootParser.parse(new Utf8ParseStreamReader(in, debugLevel), container, debugLevel);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON content from an InputStream into the specified container
+     * with the selected parser engine.
+     *
+     * @param in the InputStream to read from.
+     * @param container the JsonResource to populate with parsed content.
+     * @param mode the parser engine.
+     * @param maxDepth the maximum nesting depth; not checked by {@link JsonParserMode#RECURSIVE}.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(InputStream in, JsonResource container, JsonParserMode mode, int maxDepth,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return RootParser.parse(new Utf8ParseStreamReader(in, debugLevel), container, mode, maxDepth, debugLevel);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON content from an InputStream into the specified container
+     * and skips the object members the model cannot convert.
+     *
+     * @param in the InputStream to read from.
+     * @param container the JsonResource to populate with parsed content.
+     * @param filter the filter of the root, see {@link JsonFieldFilter#of}.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(InputStream in, JsonResource container, JsonFieldFilter filter,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return RootParser.parse(new Utf8ParseStreamReader(in, debugLevel), container, filter, debugLevel);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON content from a byte array.
+     *
+     * @param data the encoded JSON document.
+     * @param debugLevel the debug level for logging.
+     * @return a JsonResource containing the parsed content.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(byte[] data, JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return RootParser.parse(new Utf8ParseStreamReader(data, debugLevel), JsonResource.empty(), debugLevel);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON content from the remaining bytes of a ByteBuffer.
+     *
+     * @param data the buffer containing the encoded JSON document.
+     * @param container the JsonResource to populate with parsed content.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(ByteBuffer data, JsonResource container, JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return RootParser.parse(new Utf8ParseStreamReader(data, debugLevel), container, debugLevel);
+    }
+
+    /**
+     * Parses JSON content from a string, splitting a large top-level array across the
+     * threads of the pool (see {@link ParallelListParser}).
+     *
+     * @param s the JSON string to parse.
+     * @param container the JsonResource to populate with parsed content.
+     * @param pool the pool running the chunk parsers.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parseParallel(String s, JsonResource container, ForkJoinPool pool, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException {
+        return ParallelListParser.parse(s, container, pool, ParallelListParser.DEFAULT_MIN_CHUNK_SIZE, debugLevel);
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON content from a file, splitting a large top-level array
+     * across the threads of the pool (see {@link ParallelListParser}).
+     *
+     * <p>A file with a top-level array is decoded into one string completely before
+     * parsing, as the chunks are found in a pre-pass over the whole text. Other files,
+     * and files too small to be split, are parsed like by {@link #parse(File, JsonDebugLevel)}
+     * without the copy.</p>
+     *
+     * @param file the file to parse.
+     * @param pool the pool running the chunk parsers.
+     * @param debugLevel the debug level for logging.
+     * @return a JsonResource containing the parsed content.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parseParallel(File file, ForkJoinPool pool, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException {
+        final JsonResource container = JsonResource.forFile(file.getPath());
+        if (file.length() < 2L * ParallelListParser.DEFAULT_MIN_CHUNK_SIZE || !startsWithArray(file)) {
+            return parse(file, container, DEFAULT_MAPPING_THRESHOLD, debugLevel);
+        }
+        String doc = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        if (!doc.isEmpty() && doc.charAt(0) == '\uFEFF') {
+            doc = doc.substring(1);
+        }
+        return parseParallel(doc, container, pool, debugLevel);
+    }
+
+    /**
+     * Checks whether the first character of a UTF-8 file that is not blank or a byte
+     * order mark is an array bracket.
+     */
+    private static boolean startsWithArray(File file) throws IOException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            int b = in.read();
+            if (b == 0xEF && in.read() == 0xBB && in.read() == 0xBF) {
+                b = in.read();
+            }
+            while (b >= 0 && b <= ' ') {
+                b = in.read();
+            }
+            return b == '[';
+        }
+    }
+
+    /**
+     * Parses newline-delimited JSON (JSON Lines): one document per line that is not
+     * blank (see {@link JsonLinesParser}).
+     *
+     * @param reader the Reader to read the lines from.
+     * @param filename the filename to associate with the resources.
+     * @param debugLevel the debug level for logging.
+     * @return one JsonResource per document, in the order of the lines.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if a line cannot be parsed.
+     */
+    public static List<JsonResource> parseLines(Reader reader, String filename, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException {
+        return JsonLinesParser.parse(toBuffered(reader), filename, debugLevel);
+    }
+
+    /**
+     * Parses newline-delimited JSON (JSON Lines) with batches of lines on the threads
+     * of the pool (see {@link JsonLinesParser}).
+     *
+     * @param reader the Reader to read the lines from.
+     * @param filename the filename to associate with the resources.
+     * @param pool the pool running the batch parsers.
+     * @param debugLevel the debug level for logging.
+     * @return one JsonResource per document, in the order of the lines.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if a line cannot be parsed.
+     */
+    public static List<JsonResource> parseLines(Reader reader, String filename, ForkJoinPool pool, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException {
+        return JsonLinesParser.parse(toBuffered(reader), filename, pool, JsonLinesParser.DEFAULT_BATCH_SIZE, debugLevel);
+    }
+
+    /**
+     * Parses a UTF-8 encoded JSON Lines file.
+     *
+     * @param file the file to parse.
+     * @param pool the pool running the batch parsers, or {@code null} to parse sequentially.
+     * @param debugLevel the debug level for logging.
+     * @return one JsonResource per document, in the order of the lines.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if a line cannot be parsed.
+     */
+    public static List<JsonResource> parseLines(File file, ForkJoinPool pool, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException {
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            return pool == null
+                    ? parseLines(reader, file.getPath(), debugLevel)
+                    : parseLines(reader, file.getPath(), pool, debugLevel);
+        }
+    }
+
+    /**
+     * Selects the values matching a JSONPath while streaming the JSON content; only the
+     * matched values are created as JsonNodes (see {@link JsonPath#select(JsonTokenReader)}).
+     *
+     * @param reader the Reader to read from.
+     * @param path the compiled JSONPath.
+     * @param debugLevel the debug level for logging.
+     * @return the matching values in document order.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static List<JsonNode> select(Reader reader, JsonPath path, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException {
+        return path.select(new JsonTokenReader(new ParseStreamReader(reader, debugLevel)));
+    }
+
+    /**
+     * Selects the values matching a JSONPath while streaming a UTF-8 encoded file.
+     *
+     * @param file the file to read.
+     * @param path the compiled JSONPath.
+     * @param debugLevel the debug level for logging.
+     * @return the matching values in document order.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static List<JsonNode> select(File file, JsonPath path, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException {
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            return path.select(new JsonTokenReader(new Utf8ParseStreamReader(in, debugLevel)));
+        }
+    }
+
+    private static BufferedReader toBuffered(Reader reader) {
+        return reader instanceof BufferedReader br ? br : new BufferedReader(reader);
+    }
+
 }
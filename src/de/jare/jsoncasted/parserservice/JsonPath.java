@@ -0,0 +1,575 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonNodeType;
+import de.jare.jsoncasted.lang.JsonResource;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_CLASS;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiled JSONPath query, reusable and safe to share between threads.
+ *
+ * <p>
+ * The supported subset:</p>
+ * <ul>
+ * <li>{@code $} the root, {@code .name} and {@code ['name']} a member;</li>
+ * <li>{@code [3]} an item, {@code [-1]} an item counted from the end;</li>
+ * <li>{@code .*} and {@code [*]} all members or items;</li>
+ * <li>{@code ..name}, {@code ..*} and {@code ..[3]} recursive descent;</li>
+ * <li>{@code [?(@.a.b > 2)]} members or items whose value passes a filter with
+ * {@code ==}, {@code !=}, {@code <}, {@code <=}, {@code >} or {@code >=} against a
+ * number, a quoted string, {@code true}, {@code false} or {@code null};
+ * {@code [?(@.a)]} tests that a member exists.</li>
+ * </ul>
+ *
+ * <p>
+ * {@link #select(JsonNode)} runs over a tree. {@link #select(JsonTokenReader)} runs over
+ * the token stream: values no step can reach are skipped without creating nodes, and
+ * only the matched values are read as JsonNodes. Objects and arrays whose children
+ * are tested by a filter or a negative index are read as a whole.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public final class JsonPath {
+
+    private static final int NAME = 0;
+    private static final int INDEX = 1;
+    private static final int WILDCARD = 2;
+    private static final int FILTER = 3;
+
+    private final String expression;
+    private final Step[] steps;
+
+    private JsonPath(String expression, Step[] steps) {
+        this.expression = expression;
+        this.steps = steps;
+    }
+
+    /**
+     * Compiles a JSONPath expression.
+     *
+     * @param expression the expression, starting with {@code $}.
+     * @return the compiled query.
+     * @throws IllegalArgumentException if the expression is not supported.
+     */
+    public static JsonPath compile(String expression) {
+        return new JsonPath(expression, new PathCompiler(expression).compile());
+    }
+
+    /**
+     * Returns the compiled expression.
+     *
+     * @return the expression.
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * Selects the matching nodes of a tree in document order.
+     *
+     * @param root the root node.
+     * @return the matching nodes.
+     */
+    public List<JsonNode> select(JsonNode root) {
+        final List<JsonNode> out = new ArrayList<>();
+        if (root != null) {
+            match(root, start(), out);
+        }
+        return out;
+    }
+
+    /**
+     * Selects the matching nodes of the root of a resource.
+     *
+     * @param resource the resource.
+     * @return the matching nodes.
+     */
+    public List<JsonNode> select(JsonResource resource) {
+        return select(resource.getRoot());
+    }
+
+    /**
+     * Returns the first matching node of a tree.
+     *
+     * @param root the root node.
+     * @return the first match in document order, or {@code null}.
+     */
+    public JsonNode first(JsonNode root) {
+        final List<JsonNode> found = select(root);
+        return found.isEmpty() ? null : found.get(0);
+    }
+
+    /**
+     * Selects the matching values of the next value of a token stream. If the reader
+     * has no current token, the first token is read. Afterwards the current token is
+     * the last token of the value.
+     *
+     * @param tr the token reader.
+     * @return the matching values, read as JsonNodes.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the input is malformed.
+     */
+    public List<JsonNode> select(JsonTokenReader tr) throws IOException, JsonParseException {
+        final List<JsonNode> out = new ArrayList<>();
+        if (tr.currentToken() != null || tr.nextToken() != null) {
+            visit(tr, start(), out);
+        }
+        return out;
+    }
+
+    private BitSet start() {
+        final BitSet states = new BitSet(steps.length + 1);
+        states.set(0);
+        return states;
+    }
+
+    private boolean accepts(BitSet states) {
+        return states.get(steps.length);
+    }
+
+    /**
+     * Checks if the children of a node in these states can only be matched with the
+     * node complete.
+     */
+    private boolean needsNode(BitSet states) {
+        for (int i = states.nextSetBit(0); i >= 0 && i < steps.length; i = states.nextSetBit(i + 1)) {
+            final Step step = steps[i];
+            if (step.kind == FILTER || (step.kind == INDEX && step.index < 0)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the states of a child.
+     *
+     * @param states the states of the parent.
+     * @param key the member name, or {@code null} for an item.
+     * @param index the item index.
+     * @param size the number of items of the parent array.
+     * @param child the child, or {@code null} if it is not read.
+     */
+    private BitSet advance(BitSet states, String key, int index, int size, JsonNode child) {
+        final BitSet next = new BitSet(steps.length + 1);
+        for (int i = states.nextSetBit(0); i >= 0 && i < steps.length; i = states.nextSetBit(i + 1)) {
+            final Step step = steps[i];
+            if (step.descendant) {
+                next.set(i);
+            }
+            if (step.matches(key, index, size, child)) {
+                next.set(i + 1);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Walks a tree in document order. Open objects and arrays are kept on an explicit
+     * stack like in {@link #visit}, so the nesting depth is not limited by the Java
+     * call stack.
+     */
+    private void match(JsonNode root, BitSet rootStates, List<JsonNode> out) {
+        JsonNode[] nodes = new JsonNode[16];
+        BitSet[] open = new BitSet[16];
+        Object[] members = new Object[16]; // member iterators of the open objects
+        int[] items = new int[16];
+        int n = 0;
+        JsonNode node = root;
+        BitSet states = rootStates;
+        while (true) {
+            if (accepts(states)) {
+                out.add(node);
+            }
+            if (node.isObject() || node.isArray()) {
+                if (n == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, n * 2);
+                    open = Arrays.copyOf(open, n * 2);
+                    members = Arrays.copyOf(members, n * 2);
+                    items = Arrays.copyOf(items, n * 2);
+                }
+                nodes[n] = node;
+                open[n] = states;
+                members[n] = node.isObject() ? node.asObjectValues().entrySet().iterator() : null;
+                items[n] = 0;
+                n++;
+            }
+            node = null;
+            while (node == null && n > 0) {
+                final JsonNode child;
+                final BitSet next;
+                if (members[n - 1] != null) {
+                    final Iterator<?> it = (Iterator<?>) members[n - 1];
+                    if (!it.hasNext()) {
+                        n--;
+                        nodes[n] = null;
+                        members[n] = null;
+                        continue;
+                    }
+                    final Map.Entry<?, ?> e = (Map.Entry<?, ?>) it.next();
+                    child = (JsonNode) e.getValue();
+                    next = advance(open[n - 1], (String) e.getKey(), -1, -1, child);
+                } else {
+                    final List<JsonNode> list = nodes[n - 1].asArray();
+                    if (items[n - 1] == list.size()) {
+                        n--;
+                        nodes[n] = null;
+                        continue;
+                    }
+                    final int i = items[n - 1]++;
+                    child = list.get(i);
+                    next = advance(open[n - 1], null, i, list.size(), child);
+                }
+                if (!next.isEmpty() && child != null) {
+                    node = child;
+                    states = next;
+                }
+            }
+            if (node == null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Walks the value at the current token. Open objects and arrays are kept on an
+     * explicit stack like in {@link JsonTokenReader#readNode()}.
+     */
+    private void visit(JsonTokenReader tr, BitSet states, List<JsonNode> out) throws IOException, JsonParseException {
+        BitSet[] open = new BitSet[16];
+        int[] items = new int[16];
+        String[] casts = new String[16];
+        int n = 0;
+        BitSet next = states;
+        while (true) {
+            final JsonToken t = tr.currentToken();
+            if (next.isEmpty()) {
+                tr.skipChildren();
+            } else if (accepts(next) || (t.isStart() && needsNode(next))) {
+                match(tr.readNode(), next, out);
+            } else if (t.isStart()) {
+                if (n == open.length) {
+                    open = Arrays.copyOf(open, n * 2);
+                    items = Arrays.copyOf(items, n * 2);
+                    casts = Arrays.copyOf(casts, n * 2);
+                }
+                open[n] = next;
+                items[n] = 0;
+                casts[n] = t == JsonToken.CAST ? tr.getText() : null;
+                n++;
+                if (t == JsonToken.CAST) {
+                    tr.nextToken();
+                }
+            }
+            next = null;
+            while (next == null && n > 0) {
+                final JsonToken c = tr.nextToken();
+                final BitSet parent = open[n - 1];
+                if (c == null) {
+                    throw new JsonParseException(tr.getRow(), "End of file inside a structure.");
+                }
+                if (c == JsonToken.FIELD_NAME) {
+                    final String key = tr.getFieldName();
+                    tr.nextToken();
+                    next = advance(parent, key, -1, -1, null);
+                } else if (!c.isEnd()) {
+                    next = advance(parent, null, items[n - 1]++, -1, null);
+                } else {
+                    n--;
+                    if (casts[n] != null) {
+                        // the tree of a cast object ends with its _class member
+                        final JsonNode castNode = JsonNode.stringNode(casts[n]);
+                        if (accepts(advance(parent, TERM_CLASS, -1, -1, castNode))) {
+                            out.add(castNode);
+                        }
+                    }
+                    open[n] = null;
+                    casts[n] = null;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * One step of the path.
+     */
+    private static final class Step {
+
+        private final boolean descendant;
+        private final int kind;
+        private final String name;
+        private final int index;
+        private final Filter filter;
+
+        private Step(boolean descendant, int kind, String name, int index, Filter filter) {
+            this.descendant = descendant;
+            this.kind = kind;
+            this.name = name;
+            this.index = index;
+            this.filter = filter;
+        }
+
+        private boolean matches(String key, int i, int size, JsonNode child) {
+            switch (kind) {
+                case NAME:
+                    return name.equals(key);
+                case INDEX:
+                    return key == null && (index >= 0 ? i == index : size >= 0 && i == size + index);
+                case WILDCARD:
+                    return true;
+                default:
+                    return child != null && filter.test(child);
+            }
+        }
+    }
+
+    /**
+     * Filter {@code ?(@.a.b op literal)} or {@code ?(@.a.b)}.
+     */
+    private static final class Filter {
+
+        private final String[] members;
+        private final String op;
+        private final JsonNode literal;
+
+        private Filter(String[] members, String op, JsonNode literal) {
+            this.members = members;
+            this.op = op;
+            this.literal = literal;
+        }
+
+        private boolean test(JsonNode node) {
+            JsonNode value = node;
+            for (String member : members) {
+                if (value == null || !value.isObject()) {
+                    return false;
+                }
+                value = value.asObjectValues().get(member);
+            }
+            if (value == null) {
+                return false;
+            }
+            if (op == null) {
+                return true;
+            }
+            final int cmp;
+            final JsonNodeType type = value.getType();
+            final JsonNodeType litType = literal.getType();
+            if ((type == JsonNodeType.LONG || type == JsonNodeType.NUMBER)
+                    && (litType == JsonNodeType.LONG || litType == JsonNodeType.NUMBER)) {
+                cmp = Double.compare(value.toNumber(), literal.toNumber());
+            } else if (type == JsonNodeType.STRING && litType == JsonNodeType.STRING) {
+                cmp = value.asText().compareTo(literal.asText());
+            } else if (type == litType && (type == JsonNodeType.BOOLEAN || type == JsonNodeType.NULL)) {
+                cmp = type == JsonNodeType.NULL || value.asBoolean().equals(literal.asBoolean()) ? 0 : 1;
+                if (!"==".equals(op) && !"!=".equals(op)) {
+                    return false;
+                }
+            } else {
+                return "!=".equals(op);
+            }
+            switch (op) {
+                case "==":
+                    return cmp == 0;
+                case "!=":
+                    return cmp != 0;
+                case "<":
+                    return cmp < 0;
+                case "<=":
+                    return cmp <= 0;
+                case ">":
+                    return cmp > 0;
+                default:
+                    return cmp >= 0;
+            }
+        }
+    }
+
+    /**
+     * Parser of the expression.
+     */
+    private static final class PathCompiler {
+
+        private final String src;
+        private int pos;
+
+        private PathCompiler(String src) {
+            this.src = src.trim();
+        }
+
+        private Step[] compile() {
+            if (!src.startsWith("$")) {
+                throw error("must start with $");
+            }
+            pos = 1;
+            final List<Step> steps = new ArrayList<>();
+            while (pos < src.length()) {
+                boolean descendant = false;
+                final char c = src.charAt(pos);
+                if (c == '.') {
+                    pos++;
+                    if (peek() == '.') {
+                        pos++;
+                        descendant = true;
+                    }
+                    if (peek() == '[') {
+                        if (!descendant) {
+                            throw error("unexpected [ after .");
+                        }
+                        pos++;
+                        steps.add(bracket(true));
+                    } else if (peek() == '*') {
+                        pos++;
+                        steps.add(new Step(descendant, WILDCARD, null, 0, null));
+                    } else {
+                        steps.add(new Step(descendant, NAME, name(), 0, null));
+                    }
+                } else if (c == '[') {
+                    pos++;
+                    steps.add(bracket(false));
+                } else {
+                    throw error("unexpected '" + c + "'");
+                }
+            }
+            return steps.toArray(new Step[0]);
+        }
+
+        /**
+         * Reads the rest of a bracket step after {@code [}.
+         */
+        private Step bracket(boolean descendant) {
+            final Step step;
+            skipSpaces();
+            final char c = peek();
+            if (c == '*') {
+                pos++;
+                step = new Step(descendant, WILDCARD, null, 0, null);
+            } else if (c == '\'' || c == '"') {
+                step = new Step(descendant, NAME, quoted(), 0, null);
+            } else if (c == '?') {
+                pos++;
+                expect('(');
+                step = new Step(descendant, FILTER, null, 0, filter());
+                expect(')');
+            } else {
+                final int start = pos;
+                if (peek() == '-') {
+                    pos++;
+                }
+                while (pos < src.length() && Character.isDigit(src.charAt(pos))) {
+                    pos++;
+                }
+                try {
+                    step = new Step(descendant, INDEX, null, Integer.parseInt(src.substring(start, pos)), null);
+                } catch (NumberFormatException ex) {
+                    throw error("index expected");
+                }
+            }
+            expect(']');
+            return step;
+        }
+
+        private Filter filter() {
+            expect('@');
+            final List<String> members = new ArrayList<>();
+            while (peek() == '.') {
+                pos++;
+                members.add(name());
+            }
+            skipSpaces();
+            String op = null;
+            for (String candidate : new String[]{"==", "!=", "<=", ">=", "<", ">"}) {
+                if (src.startsWith(candidate, pos)) {
+                    op = candidate;
+                    pos += candidate.length();
+                    break;
+                }
+            }
+            JsonNode literal = null;
+            if (op != null) {
+                skipSpaces();
+                final char c = peek();
+                if (c == '\'' || c == '"') {
+                    literal = JsonNode.stringNode(quoted());
+                } else {
+                    final int start = pos;
+                    while (pos < src.length() && src.charAt(pos) != ')' && src.charAt(pos) != ' ') {
+                        pos++;
+                    }
+                    literal = JsonNode.varNode(src.substring(start, pos));
+                    if (literal.getType() == JsonNodeType.STRING) {
+                        throw error("literal expected");
+                    }
+                }
+            }
+            skipSpaces();
+            return new Filter(members.toArray(new String[0]), op, literal);
+        }
+
+        private String name() {
+            final int start = pos;
+            while (pos < src.length() && ".[]()=!<> ".indexOf(src.charAt(pos)) < 0) {
+                pos++;
+            }
+            if (start == pos) {
+                throw error("member name expected");
+            }
+            return src.substring(start, pos);
+        }
+
+        private String quoted() {
+            final char quote = src.charAt(pos++);
+            final int end = src.indexOf(quote, pos);
+            if (end < 0) {
+                throw error("unclosed quote");
+            }
+            final String s = src.substring(pos, end);
+            pos = end + 1;
+            return s;
+        }
+
+        private char peek() {
+            return pos < src.length() ? src.charAt(pos) : 0;
+        }
+
+        private void skipSpaces() {
+            while (peek() == ' ') {
+                pos++;
+            }
+        }
+
+        private void expect(char c) {
+            skipSpaces();
+            if (peek() != c) {
+                throw error("'" + c + "' expected");
+            }
+            pos++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("JSONPath " + src + " at " + pos + ": " + message + ".");
+        }
+    }
+}
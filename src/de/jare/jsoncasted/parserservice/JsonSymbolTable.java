@@ -0,0 +1,202 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+/**
+ * Symbol table returning canonical string instances for object keys.
+ *
+ * <p>Keys are looked up directly from a character range, so a key that was seen
+ * before costs no allocation. All objects of a parse then share the same key
+ * instances. Each {@link ParseStreamReader} owns a table for one parse; a table can
+ * be shared by several sequential parses via
+ * {@link ParseStreamReader#setSymbolTable(JsonSymbolTable)}. A table is not
+ * thread-safe.</p>
+ *
+ * <p>The number of symbols is limited, so documents with unique keys (e.g. maps keyed
+ * by id) do not grow the table without bound. Keys beyond the limit are returned as new
+ * strings.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonSymbolTable {
+
+    /**
+     * Default maximum number of symbols.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private final int maxSize;
+    private String[] symbols;
+    private int[] hashes;
+    private int size;
+    private boolean underscore;
+
+    /**
+     * Constructs a symbol table with the default maximum size.
+     */
+    public JsonSymbolTable() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Constructs a symbol table with the specified maximum size.
+     *
+     * @param maxSize the maximum number of symbols kept.
+     */
+    public JsonSymbolTable(int maxSize) {
+        this.maxSize = maxSize;
+        this.symbols = new String[64];
+        this.hashes = new int[64];
+        this.size = 0;
+    }
+
+    /**
+     * Returns the canonical string for the characters of the specified array range.
+     *
+     * @param buf the character array.
+     * @param off the index of the first character.
+     * @param len the number of characters.
+     * @return the canonical string.
+     */
+    public String intern(char[] buf, int off, int len) {
+        int h = 0;
+        for (int i = off, end = off + len; i < end; i++) {
+            h = 31 * h + buf[i];
+        }
+        final int mask = symbols.length - 1;
+        int idx = mix(h) & mask;
+        String s;
+        while ((s = symbols[idx]) != null) {
+            if (hashes[idx] == h && s.length() == len && matches(s, buf, off)) {
+                return s;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return add(new String(buf, off, len), h, idx);
+    }
+
+    /**
+     * Returns the canonical string for the characters of the specified sequence range.
+     *
+     * @param cs the character sequence.
+     * @param start the index of the first character.
+     * @param end the index after the last character.
+     * @return the canonical string.
+     */
+    public String intern(CharSequence cs, int start, int end) {
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + cs.charAt(i);
+        }
+        final int len = end - start;
+        final int mask = symbols.length - 1;
+        int idx = mix(h) & mask;
+        String s;
+        while ((s = symbols[idx]) != null) {
+            if (hashes[idx] == h && s.length() == len && matches(s, cs, start)) {
+                return s;
+            }
+            idx = (idx + 1) & mask;
+        }
+        return add(cs.subSequence(start, end).toString(), h, idx);
+    }
+
+    /**
+     * Returns the canonical string for the characters of the specified sequence with
+     * leading and trailing whitespace removed.
+     *
+     * @param cs the character sequence.
+     * @return the canonical trimmed string.
+     */
+    public String internTrimmed(CharSequence cs) {
+        int start = 0;
+        int end = cs.length();
+        while (start < end && cs.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && cs.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return intern(cs, start, end);
+    }
+
+    /**
+     * Returns the number of symbols in this table.
+     *
+     * @return the symbol count.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether a symbol starting with an underscore was looked up, as the terms
+     * of the wood linking do. Until then, no member of the parse can carry such a term.
+     *
+     * @return {@code true} if such a symbol was seen.
+     */
+    public boolean hasUnderscoreSymbol() {
+        return underscore;
+    }
+
+    private String add(String s, int h, int idx) {
+        if (!s.isEmpty() && s.charAt(0) == '_') {
+            underscore = true;
+        }
+        if (size >= maxSize) {
+            return s;
+        }
+        symbols[idx] = s;
+        hashes[idx] = h;
+        size++;
+        if (size * 2 > symbols.length) {
+            rehash();
+        }
+        return s;
+    }
+
+    private void rehash() {
+        final String[] oldSymbols = symbols;
+        final int[] oldHashes = hashes;
+        symbols = new String[oldSymbols.length * 2];
+        hashes = new int[oldSymbols.length * 2];
+        final int mask = symbols.length - 1;
+        for (int i = 0; i < oldSymbols.length; i++) {
+            if (oldSymbols[i] != null) {
+                int idx = mix(oldHashes[i]) & mask;
+                while (symbols[idx] != null) {
+                    idx = (idx + 1) & mask;
+                }
+                symbols[idx] = oldSymbols[i];
+                hashes[idx] = oldHashes[i];
+            }
+        }
+    }
+
+    private static int mix(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static boolean matches(String s, char[] buf, int off) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) != buf[off + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(String s, CharSequence cs, int start) {
+        for (int i = 0; i < s.length(); i++) {
+            if (s.charAt(i) != cs.charAt(start + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,111 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonTape;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_CLASS;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Reads a document from a {@link JsonTokenReader} into a {@link JsonTape}.
+ *
+ * <p>
+ * The tape holds the same values as the tree of {@link JsonTokenReader#readNode()}: a
+ * cast adds the {@code _class} member after the other members of its object.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+final class JsonTapeReader {
+
+    private JsonTapeReader() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Reads the root value from the stream.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param maxDepth the maximum nesting depth.
+     * @param offHeap {@code true} to write the tape into direct buffers.
+     * @return the tape of the root value.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the input is malformed.
+     */
+    static JsonTape read(ParseStreamReader psr, int maxDepth, boolean offHeap) throws IOException, JsonParseException {
+        final JsonTokenReader tr = new JsonTokenReader(psr);
+        tr.setMaxDepth(maxDepth);
+        final JsonTape.Builder builder = new JsonTape.Builder(offHeap);
+        JsonToken t = tr.nextToken();
+        if (t == null) {
+            return builder.string("").build();
+        }
+        String[] casts = new String[16];
+        int n = 0;
+        while (true) {
+            switch (t) {
+                case FIELD_NAME:
+                    builder.key(tr.getFieldName());
+                    t = tr.nextToken();
+                    continue;
+                case CAST:
+                case START_OBJECT:
+                case START_ARRAY:
+                    if (n == casts.length) {
+                        casts = Arrays.copyOf(casts, n * 2);
+                    }
+                    if (t == JsonToken.CAST) {
+                        casts[n] = tr.getText();
+                        if (tr.nextToken() != JsonToken.START_OBJECT) {
+                            throw new JsonParseException(psr.getRow(), "Expected START_OBJECT after a cast.");
+                        }
+                    } else {
+                        casts[n] = null;
+                    }
+                    n++;
+                    if (t == JsonToken.START_ARRAY) {
+                        builder.startArray();
+                    } else {
+                        builder.startObject();
+                    }
+                    t = tr.nextToken();
+                    continue;
+                case END_OBJECT:
+                case END_ARRAY:
+                    final String cast = casts[--n];
+                    if (cast != null) {
+                        builder.key(TERM_CLASS).string(cast);
+                    }
+                    builder.end();
+                    break;
+                case VALUE_STRING:
+                    builder.string(tr.getText());
+                    break;
+                case VALUE_LONG:
+                    builder.longValue(tr.getLongValue());
+                    break;
+                case VALUE_NUMBER:
+                    builder.doubleValue(tr.getNumberValue());
+                    break;
+                case VALUE_TRUE:
+                case VALUE_FALSE:
+                    builder.booleanValue(tr.getBooleanValue());
+                    break;
+                default:
+                    builder.nullValue();
+            }
+            if (n == 0) {
+                return builder.build();
+            }
+            t = tr.nextToken();
+            if (t == null) {
+                throw new JsonParseException(psr.getRow(), "End of file inside a structure.");
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+/**
+ * Enumeration of the tokens emitted by the {@link JsonTokenReader}.
+ *
+ * @author Janusch Rentenatus
+ */
+public enum JsonToken {
+
+    /**
+     * Start of an object, {@code '{'}.
+     */
+    START_OBJECT,
+    /**
+     * End of an object, {@code '}'}.
+     */
+    END_OBJECT,
+    /**
+     * Start of an array, {@code '['}.
+     */
+    START_ARRAY,
+    /**
+     * End of an array, {@code ']'}.
+     */
+    END_ARRAY,
+    /**
+     * Name of an object member; the value token follows.
+     */
+    FIELD_NAME,
+    /**
+     * Type cast {@code (Type)}; a {@link #START_OBJECT} always follows.
+     */
+    CAST,
+    /**
+     * String value, quoted or an unquoted identifier.
+     */
+    VALUE_STRING,
+    /**
+     * Integer value that fits into a long.
+     */
+    VALUE_LONG,
+    /**
+     * Floating-point value.
+     */
+    VALUE_NUMBER,
+    /**
+     * The literal {@code true}.
+     */
+    VALUE_TRUE,
+    /**
+     * The literal {@code false}.
+     */
+    VALUE_FALSE,
+    /**
+     * The literal {@code null}.
+     */
+    VALUE_NULL;
+
+    /**
+     * Checks if this token starts a structure.
+     *
+     * @return {@code true} for {@link #START_OBJECT}, {@link #START_ARRAY} and {@link #CAST}.
+     */
+    public boolean isStart() {
+        return this == START_OBJECT || this == START_ARRAY || this == CAST;
+    }
+
+    /**
+     * Checks if this token ends a structure.
+     *
+     * @return {@code true} for {@link #END_OBJECT} and {@link #END_ARRAY}.
+     */
+    public boolean isEnd() {
+        return this == END_OBJECT || this == END_ARRAY;
+    }
+
+    /**
+     * Checks if this token is a scalar value.
+     *
+     * @return {@code true} for all {@code VALUE_*} tokens.
+     */
+    public boolean isScalar() {
+        return ordinal() >= VALUE_STRING.ordinal();
+    }
+}
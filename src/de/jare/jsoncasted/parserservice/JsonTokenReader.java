@@ -0,0 +1,621 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_CLASS;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Pull parser emitting the jsonCasted dialect as a sequence of {@link JsonToken}s.
+ *
+ * <p>The reader accepts the same lenient syntax as {@link ObjectParser},
+ * {@link ListParser} and {@link CastingParser}: unquoted and single-quoted keys,
+ * {@code =} as separator, unquoted scalars, empty list elements, trailing commas and
+ * type casts {@code (Type){...}}. A cast is reported as {@link JsonToken#CAST}
+ * followed by {@link JsonToken#START_OBJECT}.</p>
+ *
+ * <p>Only the current token is held in memory; nesting is tracked on an explicit
+ * state stack. Input the tree parsers would silently drop, like a second value for
+ * one member, is rejected with a {@link JsonParseException}.</p>
+ *
+ * <pre>
+ * JsonTokenReader tr = new JsonTokenReader(psr);
+ * tr.nextToken();                  // START_ARRAY
+ * while (tr.nextToken() != JsonToken.END_ARRAY) {
+ *     JsonNode element = tr.readNode();
+ * }
+ * </pre>
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonTokenReader {
+
+    private static final int ROOT = 0;
+    private static final int ROOT_DONE = 1;
+    private static final int KEY = 2;
+    private static final int VALUE = 3;
+    private static final int AFTER_VALUE = 4;
+    private static final int ARRAY = 5;
+    private static final int AFTER_ITEM = 6;
+    private static final int ARRAY_IN_OBJECT = 7;
+
+    /**
+     * Default maximum nesting depth, which does not limit the nesting.
+     */
+    public static final int DEFAULT_MAX_DEPTH = Integer.MAX_VALUE;
+
+    private final ParseStreamReader psr;
+    private final StringBuilder sb;
+    private int[] states;
+    private int top;
+    private int depth;
+    private int maxDepth;
+    private JsonToken current;
+    private JsonToken pending;
+    private String text; // member name or cast; the text of a scalar is derived on demand
+    private JsonNode valueNode;
+
+    /**
+     * Constructs a token reader over the specified stream reader.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     */
+    public JsonTokenReader(ParseStreamReader psr) {
+        this.psr = psr;
+        this.sb = new StringBuilder();
+        this.states = new int[32];
+        this.states[0] = ROOT;
+        this.top = 0;
+        this.depth = 0;
+        this.maxDepth = DEFAULT_MAX_DEPTH;
+    }
+
+    /**
+     * Sets the maximum number of nested objects and arrays. Deeper input is rejected
+     * with a {@link JsonParseException}.
+     *
+     * @param maxDepth the maximum nesting depth.
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns the maximum number of nested objects and arrays.
+     *
+     * @return the maximum nesting depth.
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Reads the next token.
+     *
+     * @return the next token, or {@code null} after the root value is complete.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the input is malformed or ends inside a structure.
+     */
+    public JsonToken nextToken() throws IOException, JsonParseException {
+        if (pending != null) {
+            current = pending;
+            pending = null;
+            if (current.isEnd()) {
+                pop();
+            }
+            return current;
+        }
+        while (true) {
+            final int state = states[top];
+            if (state == ROOT_DONE) {
+                return current = null;
+            }
+            final int read = psr.read();
+            if (read < 0) {
+                return current = atEnd(state);
+            }
+            final char c = (char) read;
+            if (c == ' ' && state != ROOT) {
+                continue;
+            }
+            switch (state) {
+                case ROOT: {
+                    final JsonToken t = startValue(c, ROOT_DONE);
+                    if (t != null) {
+                        return current = t;
+                    }
+                    sb.append(c);
+                    break;
+                }
+                case KEY: {
+                    final JsonToken t = key(c);
+                    if (t != null) {
+                        return current = t;
+                    }
+                    break;
+                }
+                case VALUE: {
+                    if (c == '}') {
+                        pending = JsonToken.END_OBJECT;
+                        return current = scalar();
+                    }
+                    if (c == ',') {
+                        states[top] = KEY;
+                        return current = scalar();
+                    }
+                    final JsonToken t = startValue(c, AFTER_VALUE);
+                    if (t != null) {
+                        return current = t;
+                    }
+                    sb.append(c);
+                    psr.appendNumberRun(sb); // the rest of a number in one step
+                    break;
+                }
+                case AFTER_VALUE: {
+                    if (c == '}') {
+                        pop();
+                        return current = JsonToken.END_OBJECT;
+                    }
+                    if (c == ',') {
+                        states[top] = KEY;
+                    } else if (isValueStart(c)) {
+                        throw new JsonParseException(psr.getRow(), "Unexpected second member value starting with '" + c + "'.");
+                    }
+                    break;
+                }
+                case ARRAY: {
+                    if (c == ']') {
+                        if (isBlank()) {
+                            sb.setLength(0);
+                            pop();
+                            return current = JsonToken.END_ARRAY;
+                        }
+                        pending = JsonToken.END_ARRAY;
+                        return current = scalar();
+                    }
+                    if (c == ',') {
+                        if (!isBlank()) {
+                            return current = scalar();
+                        }
+                        sb.setLength(0);
+                        break;
+                    }
+                    final JsonToken t = startValue(c, AFTER_ITEM);
+                    if (t != null) {
+                        return current = t;
+                    }
+                    sb.append(c);
+                    psr.appendNumberRun(sb); // the rest of a number in one step
+                    break;
+                }
+                case AFTER_ITEM: {
+                    if (c == ']') {
+                        pop();
+                        return current = JsonToken.END_ARRAY;
+                    }
+                    if (c == ',') {
+                        states[top] = ARRAY;
+                    } else if (isValueStart(c)) {
+                        throw new JsonParseException(psr.getRow(), "Unexpected character '" + c + "'");
+                    }
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unknown state " + state);
+            }
+        }
+    }
+
+    /**
+     * Handles a character while waiting for a member name.
+     *
+     * @param c the character read.
+     * @return the token to emit, or {@code null} to continue reading.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the input is malformed.
+     */
+    private JsonToken key(char c) throws IOException, JsonParseException {
+        if (c == '}') {
+            pop();
+            sb.setLength(0);
+            return JsonToken.END_OBJECT;
+        }
+        if (c == '[') {
+            throw new JsonParseException(psr.getRow(), "Unexpected characters before an array bracket: '" + sb + "'");
+        }
+        if (c == '"' || c == '\'') {
+            text = StringParser.parseKey(psr, c).trim();
+            while (psr.hasNext() && psr.next() != ':') {
+            }
+        } else if (c == ':' || c == '=') {
+            text = psr.getSymbolTable().internTrimmed(sb);
+        } else {
+            sb.append(c);
+            return null;
+        }
+        sb.setLength(0);
+        states[top] = VALUE;
+        return JsonToken.FIELD_NAME;
+    }
+
+    /**
+     * Starts a quoted, nested or casted value if {@code c} opens one.
+     *
+     * @param c the character read.
+     * @param afterState the state of the enclosing frame once the value is complete.
+     * @return the token to emit, or {@code null} if {@code c} does not start such a value.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the input is malformed.
+     */
+    private JsonToken startValue(char c, int afterState) throws IOException, JsonParseException {
+        switch (c) {
+            case '"':
+            case '\'':
+                states[top] = afterState;
+                sb.setLength(0);
+                text = null;
+                valueNode = StringParser.parseNode(psr, c);
+                return JsonToken.VALUE_STRING;
+            case '[':
+                states[top] = afterState;
+                sb.setLength(0);
+                push(ARRAY);
+                return JsonToken.START_ARRAY;
+            case '{':
+                states[top] = afterState;
+                sb.setLength(0);
+                // blanks before the array bracket, as ObjectParser trims them
+                while (psr.hasNext() && psr.view() <= ' ') {
+                    psr.next();
+                }
+                if (psr.hasNext() && psr.view() == '[') {
+                    psr.next();
+                    push(ARRAY_IN_OBJECT);
+                    depth--;
+                    push(ARRAY);
+                    return JsonToken.START_ARRAY;
+                }
+                push(KEY);
+                return JsonToken.START_OBJECT;
+            case '(':
+                states[top] = afterState;
+                sb.setLength(0);
+                text = readCast();
+                push(KEY);
+                pending = JsonToken.START_OBJECT;
+                return JsonToken.CAST;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Reads a type cast after the opening parenthesis up to and including the opening
+     * brace of the casted object.
+     *
+     * @return the trimmed type name.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if no object follows the cast.
+     */
+    private String readCast() throws IOException, JsonParseException {
+        StringBuilder cast = new StringBuilder();
+        while (psr.hasNext()) {
+            char c = psr.next();
+            if (c == ')') {
+                while (psr.hasNext()) {
+                    c = psr.next();
+                    if (c == '{') {
+                        return cast.toString().trim();
+                    }
+                    if (c != ' ' && c != '\t') {
+                        throw new JsonParseException(psr.getRow(), "After the end of the cast, '{' must follow for the object definition.");
+                    }
+                }
+                break;
+            }
+            cast.append(c);
+        }
+        throw new JsonParseException("End of file without end of cast.");
+    }
+
+    /**
+     * Emits the accumulated unquoted characters as a scalar value.
+     *
+     * @return the scalar token.
+     */
+    private JsonToken scalar() {
+        valueNode = JsonNode.varNode(sb);
+        text = null;
+        sb.setLength(0);
+        switch (valueNode.getType()) {
+            case NULL:
+                return JsonToken.VALUE_NULL;
+            case BOOLEAN:
+                return valueNode.asBoolean() ? JsonToken.VALUE_TRUE : JsonToken.VALUE_FALSE;
+            case LONG:
+                return JsonToken.VALUE_LONG;
+            case NUMBER:
+                return JsonToken.VALUE_NUMBER;
+            default:
+                return JsonToken.VALUE_STRING;
+        }
+    }
+
+    /**
+     * Handles the end of input.
+     *
+     * @param state the current state.
+     * @return the last token, or {@code null} if nothing is left.
+     * @throws JsonParseException if the input ends inside a structure.
+     */
+    private JsonToken atEnd(int state) throws JsonParseException {
+        switch (state) {
+            case ROOT:
+                states[top] = ROOT_DONE;
+                return sb.length() == 0 ? null : scalar();
+            case ARRAY:
+            case AFTER_ITEM:
+                throw new JsonParseException(psr.getRow(), "End of file without end of list.");
+            default:
+                throw new JsonParseException(psr.getRow(), "End of file without end of object.");
+        }
+    }
+
+    private boolean isBlank() {
+        for (int i = 0; i < sb.length(); i++) {
+            if (sb.charAt(i) > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isValueStart(char c) {
+        return c == '"' || c == '\'' || c == '[' || c == '{' || c == '(';
+    }
+
+    private void push(int state) throws JsonParseException {
+        if (depth >= maxDepth) {
+            throw new JsonParseException(psr.getRow(), "Maximum nesting depth of " + maxDepth + " exceeded.");
+        }
+        if (++top == states.length) {
+            states = Arrays.copyOf(states, top * 2);
+        }
+        states[top] = state;
+        depth++;
+    }
+
+    private void pop() throws IOException, JsonParseException {
+        top--;
+        depth--;
+        if (states[top] == ARRAY_IN_OBJECT) {
+            // an object that started with an array ends at the next comma
+            while (psr.hasNext()) {
+                if (psr.next() == ',') {
+                    top--;
+                    return;
+                }
+            }
+            throw new JsonParseException(psr.getRow(), "End of file without end of list.");
+        }
+    }
+
+    /**
+     * Returns the token read last.
+     *
+     * @return the current token, or {@code null} before the first or after the last token.
+     */
+    public JsonToken currentToken() {
+        return current;
+    }
+
+    /**
+     * Returns the text of the current token: the member name for
+     * {@link JsonToken#FIELD_NAME}, the type for {@link JsonToken#CAST}, the string for
+     * {@link JsonToken#VALUE_STRING} and the textual form of other scalars.
+     *
+     * @return the text, or {@code null} for structural tokens and {@code null} values.
+     */
+    public String getText() {
+        if (current == null || current == JsonToken.VALUE_NULL
+                || current == JsonToken.START_OBJECT || current == JsonToken.START_ARRAY || current.isEnd()) {
+            return null;
+        }
+        if (current == JsonToken.FIELD_NAME || current == JsonToken.CAST) {
+            return text;
+        }
+        switch (valueNode.getType()) {
+            case BOOLEAN:
+                return valueNode.asBoolean().toString();
+            case LONG:
+                return valueNode.asLong().toString();
+            case NUMBER:
+                return valueNode.asNumber().toString();
+            default:
+                return valueNode.asText();
+        }
+    }
+
+    /**
+     * Returns the member name of the current {@link JsonToken#FIELD_NAME} token.
+     *
+     * @return the member name.
+     */
+    public String getFieldName() {
+        return current == JsonToken.FIELD_NAME ? text : null;
+    }
+
+    /**
+     * Returns the value of the current {@link JsonToken#VALUE_LONG} token.
+     *
+     * @return the long value.
+     */
+    public long getLongValue() {
+        return valueNode.asLong();
+    }
+
+    /**
+     * Returns the value of the current {@link JsonToken#VALUE_NUMBER} or {@link JsonToken#VALUE_LONG} token.
+     *
+     * @return the numeric value.
+     */
+    public double getNumberValue() {
+        return valueNode.toNumber();
+    }
+
+    /**
+     * Returns the value of the current {@link JsonToken#VALUE_TRUE} or {@link JsonToken#VALUE_FALSE} token.
+     *
+     * @return the boolean value.
+     */
+    public boolean getBooleanValue() {
+        return current == JsonToken.VALUE_TRUE;
+    }
+
+    /**
+     * Returns the current scalar token as a node.
+     *
+     * @return the JsonNode of the current scalar.
+     */
+    public JsonNode getValueNode() {
+        return current != null && current.isScalar() ? valueNode : null;
+    }
+
+    /**
+     * Returns the number of open objects and arrays.
+     *
+     * @return the nesting depth.
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the current line number of the underlying reader.
+     *
+     * @return the 1-based line number.
+     */
+    public int getRow() {
+        return psr.getRow();
+    }
+
+    /**
+     * Skips the children of the current token. If the current token starts a structure,
+     * all tokens up to and including the matching end token are consumed. For other
+     * tokens nothing happens.
+     *
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the input is malformed.
+     */
+    public void skipChildren() throws IOException, JsonParseException {
+        if (current == JsonToken.CAST) {
+            nextToken();
+        }
+        if (current != JsonToken.START_OBJECT && current != JsonToken.START_ARRAY) {
+            return;
+        }
+        final int target = depth - 1;
+        while (depth > target) {
+            if (nextToken() == null) {
+                throw new JsonParseException(psr.getRow(), "End of file inside a structure.");
+            }
+        }
+    }
+
+    /**
+     * Reads the value starting at the current token as a JsonNode tree. The result is
+     * the same as the tree parsers produce for this value; casts add the
+     * {@code _class} member. Afterwards the current token is the last token of the value.
+     *
+     * <p>Nested values are collected on an explicit stack, so the nesting depth is not
+     * limited by the Java call stack.</p>
+     *
+     * @return the JsonNode, or {@code null} if there is no current token.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the input is malformed or the current token does not start a value.
+     */
+    public JsonNode readNode() throws IOException, JsonParseException {
+        if (current == null) {
+            return null;
+        }
+        if (current == JsonToken.FIELD_NAME || current.isEnd()) {
+            throw new JsonParseException(psr.getRow(), "No value starts at token " + current + ".");
+        }
+        if (current.isScalar()) {
+            return getValueNode();
+        }
+        JsonNode[] open = new JsonNode[16];
+        String[] names = new String[16];
+        String[] casts = new String[16];
+        int n = 0;
+        final WoodNodeCollector woods = psr.getWoodCollector();
+        JsonToken t = current;
+        while (true) {
+            JsonNode value;
+            switch (t) {
+                case FIELD_NAME:
+                    names[n - 1] = text;
+                    t = nextToken();
+                    continue;
+                case CAST:
+                case START_OBJECT:
+                case START_ARRAY:
+                    if (n == open.length) {
+                        open = Arrays.copyOf(open, n * 2);
+                        names = Arrays.copyOf(names, n * 2);
+                        casts = Arrays.copyOf(casts, n * 2);
+                    }
+                    if (t == JsonToken.CAST) {
+                        casts[n] = text;
+                        nextToken();
+                        expect(JsonToken.START_OBJECT);
+                    } else {
+                        casts[n] = null;
+                    }
+                    open[n++] = t == JsonToken.START_ARRAY ? JsonNode.arrayNode() : JsonNode.objectNode();
+                    t = nextToken();
+                    continue;
+                case END_OBJECT:
+                case END_ARRAY:
+                    value = open[--n];
+                    open[n] = null;
+                    if (casts[n] != null) {
+                        value.put(TERM_CLASS, JsonNode.stringNode(casts[n]));
+                    }
+                    break;
+                default:
+                    value = getValueNode();
+            }
+            if (n == 0) {
+                return value;
+            }
+            final JsonNode parent = open[n - 1];
+            if (parent.isArray()) {
+                parent.add(value);
+            } else {
+                parent.put(names[n - 1], value);
+                if (woods != null) {
+                    woods.member(parent, names[n - 1]);
+                }
+            }
+            t = nextToken();
+            if (t == null) {
+                throw new JsonParseException(psr.getRow(), "End of file inside a structure.");
+            }
+        }
+    }
+
+    private void expect(JsonToken token) throws JsonParseException {
+        if (current != token) {
+            throw new JsonParseException(psr.getRow(), "Expected " + token + " but found " + current + ".");
+        }
+    }
+
+}
@@ -45,6 +45,20 @@ public class ListParser {
      * @throws JsonParseException if parsing fails (e.g., end of file without closing bracket).
      */
     static JsonNode parse(ParseStreamReader psr) throws IOException, JsonParseException {
+        return parse(psr, null);
+    }
+
+    /**
+     * Parses a JSON array from the stream reader and passes the filter on to the
+     * objects in it.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param filter the filter of the objects in the array, or {@code null} to keep all members.
+     * @return a JsonNode representing the parsed array.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if parsing fails (e.g., end of file without closing bracket).
+     */
+    static JsonNode parse(ParseStreamReader psr, JsonFieldFilter filter) throws IOException, JsonParseException {
         ArrayList<JsonNode> list = new ArrayList<>();
         JsonNode item = null;
         StringBuilder sb = new StringBuilder();
@@ -61,27 +75,27 @@ public class ListParser {
                 if (item != null) {
                     throw new JsonParseException(psr.getRow(), "Unexpected character '('");
                 }
-                item = CastingParser.parse(psr);
+                item = CastingParser.parse(psr, filter);
             } else if (c == '{') {
                 if (item != null) {
                     throw new JsonParseException(psr.getRow(), "Unexpected character '{'");
                 }
-                item = ObjectParser.parse(psr);
+                item = ObjectParser.parse(psr, filter);
             } else if (c == '[') {
                 if (item != null) {
                     throw new JsonParseException(psr.getRow(), "Unexpected character '['");
                 }
-                item = ListParser.parse(psr);
+                item = ListParser.parse(psr, filter);
             } else if (c == '"') {
                 if (item != null) {
                     throw new JsonParseException(psr.getRow(), "Unexpected character '\"'");
                 }
-                item = JsonNode.stringNode(StringParser.parse(psr, '"'));
+                item = StringParser.parseNode(psr, '"');
             } else if (c == '\'') {
                 if (item != null) {
                     throw new JsonParseException(psr.getRow(), "Unexpected character '\''");
                 }
-                item = JsonNode.stringNode(StringParser.parse(psr, '\''));
+                item = StringParser.parseNode(psr, '\'');
             } else if (c == ',') {
                 addItem(list, item, sb);
                 item = null;
@@ -113,14 +127,11 @@ public class ListParser {
             list.add(item);
             return;
         }
-        final String toString = sb.toString().trim();
-        if (toString.isEmpty()) {
-            return;
-        }
-        if ("null".equals(toString.trim())) {
-            list.add(JsonNode.nullNode());
-        } else {
-            list.add(JsonNode.varNode(sb.toString()));
+        for (int i = 0; i < sb.length(); i++) {
+            if (sb.charAt(i) > ' ') {
+                list.add(JsonNode.varNode(sb));
+                return;
+            }
         }
     }
 
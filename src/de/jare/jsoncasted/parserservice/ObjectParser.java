@@ -51,11 +51,26 @@ public class ObjectParser {
      * @throws JsonParseException if JSON parsing fails (e.g., end of file without closing brace).
      */
     static JsonNode parse(ParseStreamReader psr) throws IOException, JsonParseException {
+        return parse(psr, null);
+    }
+
+    /**
+     * Parses a JSON object from the stream reader and skips the members the filter
+     * does not keep without creating nodes for their values.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param filter the filter of this object, or {@code null} to keep all members.
+     * @return a JsonNode representing the parsed object.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails (e.g., end of file without closing brace).
+     */
+    static JsonNode parse(ParseStreamReader psr, JsonFieldFilter filter) throws IOException, JsonParseException {
         JsonNode myObject = JsonNode.objectNode();
+        final StringBuilder sb = new StringBuilder();
         while (psr.hasNext()) {
             String paramName = null;
             JsonNode paramValue = null;
-            StringBuilder sb = new StringBuilder();
+            sb.setLength(0);
             while (psr.hasNext()) {
                 char c = psr.next();
                 if (c == ' ') {
@@ -74,7 +89,7 @@ public class ObjectParser {
                     if (myObject.asObjectValues() != null && !myObject.asObjectValues().isEmpty()) {
                         throw new JsonParseException(psr.getRow(), "Unexpected characters before an array bracket: '" + paramName + "'");
                     }
-                    JsonNode internArr = ListParser.parse(psr);
+                    JsonNode internArr = ListParser.parse(psr, filter);
                     while (psr.hasNext()) {
                         c = psr.next();
                         if (c == ',') {
@@ -84,46 +99,57 @@ public class ObjectParser {
                     throw new JsonParseException("End of file without end of list.");
                 }
                 if (c == '"') {
-                    paramName = StringParser.parse(psr, '"');
+                    paramName = StringParser.parseKey(psr, '"');
                     while (psr.hasNext() && psr.next() != ':') {
                     }
                     break;
                 }
                 if (c == '\'') {
-                    paramName = StringParser.parse(psr, '\'');
+                    paramName = StringParser.parseKey(psr, '\'');
                     while (psr.hasNext() && psr.next() != ':') {
                     }
                     break;
                 }
                 if (c == ':' || c == '=') {
-                    paramName = sb.toString();
+                    paramName = psr.getSymbolTable().internTrimmed(sb);
                     break;
                 }
                 sb.append(c);
             }
 
-            sb = new StringBuilder();
+            JsonFieldFilter childFilter = null;
+            if (filter != null) {
+                final String key = paramKey(paramName);
+                if (!filter.keeps(key)) {
+                    if (skipParam(psr)) {
+                        return myObject;
+                    }
+                    continue;
+                }
+                childFilter = filter.child(key);
+            }
+            sb.setLength(0);
             while (psr.hasNext()) {
                 char c = psr.next();
                 if (c == ' ') {
                     continue;
                 }
                 if (c == '}') {
-                    appendParam(myObject, paramName, paramValue, sb.toString());
+                    appendParam(psr, myObject, paramName, paramValue, sb);
                     return myObject;
                 }
                 if (c == '"') {
-                    paramValue = JsonNode.stringNode(StringParser.parse(psr, '"'));
+                    paramValue = StringParser.parseNode(psr, '"');
                 } else if (c == '\'') {
-                    paramValue = JsonNode.stringNode(StringParser.parse(psr, '\''));
+                    paramValue = StringParser.parseNode(psr, '\'');
                 } else if (c == '[') {
-                    paramValue = ListParser.parse(psr);
+                    paramValue = ListParser.parse(psr, childFilter);
                 } else if (c == '(') {
-                    paramValue = CastingParser.parse(psr);
+                    paramValue = CastingParser.parse(psr, childFilter);
                 } else if (c == '{') {
-                    paramValue = ObjectParser.parse(psr);
+                    paramValue = ObjectParser.parse(psr, childFilter);
                 } else if (c == ',') {
-                    appendParam(myObject, paramName, paramValue, sb.toString());
+                    appendParam(psr, myObject, paramName, paramValue, sb);
                     break;
                 } else {
                     sb.append(c);
@@ -134,16 +160,56 @@ public class ObjectParser {
     }
 
     /**
-     * Adds a parameter to the object node.
+     * Skips the value of a member up to the comma or closing brace that ends it.
+     * Strings are skipped with their escapes, and brackets and braces are balanced.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @return {@code true} if the value was ended by the closing brace of the object.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the end of file is reached first.
+     */
+    private static boolean skipParam(ParseStreamReader psr) throws IOException, JsonParseException {
+        int depth = 0;
+        while (psr.hasNext()) {
+            if (psr.skipPlainRun() > 0) {
+                continue;
+            }
+            final char c = psr.next();
+            if (c == '"' || c == '\'') {
+                StringParser.skip(psr, c);
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                if (depth > 0) {
+                    depth--;
+                } else if (c == '}') {
+                    return true;
+                }
+            } else if (c == ',' && depth == 0) {
+                return false;
+            }
+        }
+        throw new JsonParseException("End of file without end of list.");
+    }
+
+    /**
+     * Adds a parameter to the object node and reports it to the wood collector of the
+     * reader, if there is one.
      *
+     * @param psr the ParseStreamReader providing character input.
      * @param myObject the object node to add the parameter to.
      * @param paramName the parameter name.
      * @param paramValue the parsed parameter value.
-     * @param alternativ fallback string value if paramValue is null.
+     * @param alternativ fallback unquoted characters if paramValue is null.
      */
-    private static void appendParam(JsonNode myObject, String paramName, JsonNode paramValue, String alternativ) {
+    private static void appendParam(ParseStreamReader psr, JsonNode myObject, String paramName, JsonNode paramValue,
+            CharSequence alternativ) {
         String key = paramKey(paramName);
         myObject.put(key, paramValue != null ? paramValue : JsonNode.varNode(alternativ));
+        final WoodNodeCollector woods = psr.getWoodCollector();
+        if (woods != null) {
+            woods.member(myObject, key);
+        }
     }
 
     /**
@@ -0,0 +1,240 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Parallel parser for documents whose root is a large array.
+ *
+ * <p>
+ * A cheap pre-pass over the characters finds the commas that separate the elements of
+ * the top-level array. It skips quoted strings with their escapes and the type names of
+ * casts, and tracks the nesting of objects and arrays. The elements are then grouped
+ * into contiguous chunks that are parsed by {@link ListParser} on a
+ * {@link ForkJoinPool}, and the chunk results are joined in their original order into
+ * one array node.</p>
+ *
+ * <p>
+ * Documents that do not start with an array, that are too small to be split, or that
+ * use the object-as-array form {@code {[...]}} are parsed sequentially. If a chunk
+ * fails, the whole document is parsed again sequentially, so errors are reported with
+ * the same message and row as by {@link RootParser}.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public class ParallelListParser {
+
+    /**
+     * Default minimal number of characters per chunk.
+     */
+    public static final int DEFAULT_MIN_CHUNK_SIZE = 1 << 16;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private ParallelListParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Parses the document into the specified container, splitting a top-level array
+     * across the threads of the pool.
+     *
+     * @param doc the complete JSON document.
+     * @param container the JsonResource to populate with parsed content.
+     * @param pool the pool running the chunk parsers.
+     * @param minChunkSize the minimal number of characters per chunk.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource with root node and metadata.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(String doc, JsonResource container, ForkJoinPool pool, int minChunkSize,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return RootParser.analyze(parseRoot(doc, pool, minChunkSize, debugLevel), container, debugLevel);
+    }
+
+    /**
+     * Parses the root JSON value of the document, splitting a top-level array across
+     * the threads of the pool.
+     *
+     * @param doc the complete JSON document.
+     * @param pool the pool running the chunk parsers.
+     * @param minChunkSize the minimal number of characters per chunk.
+     * @param debugLevel the debug level for logging.
+     * @return the parsed JsonNode root.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonNode parseRoot(String doc, ForkJoinPool pool, int minChunkSize, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException {
+        final int chunkSize = Math.max(Math.max(1, minChunkSize),
+                doc.length() / Math.max(1, pool.getParallelism() * CHUNKS_PER_THREAD));
+        final int[] bounds = split(doc, chunkSize);
+        if (bounds == null) {
+            return RootParser.parseRoot(new ParseStreamReader(new StringReader(doc), debugLevel));
+        }
+        final List<Callable<JsonNode>> tasks = new ArrayList<>(bounds.length - 1);
+        for (int i = 0; i + 1 < bounds.length; i++) {
+            final int start = bounds[i];
+            final int end = bounds[i + 1];
+            tasks.add(() -> ListParser.parse(new CharRangeReader(doc, start, end - 1, debugLevel)));
+        }
+        final ArrayList<JsonNode> list = new ArrayList<>();
+        try {
+            for (Future<JsonNode> part : pool.invokeAll(tasks)) {
+                list.addAll(part.get().asArray());
+            }
+        } catch (ExecutionException ex) {
+            // reparse sequentially for the exact error and row
+            return RootParser.parseRoot(new ParseStreamReader(new StringReader(doc), debugLevel));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Parallel parsing interrupted.", ex);
+        }
+        list.trimToSize();
+        return JsonNode.arrayNode(list);
+    }
+
+    /**
+     * Finds the chunk boundaries of the top-level array.
+     *
+     * <p>
+     * Chunk {@code i} covers the characters from {@code bounds[i]} up to the separator
+     * at {@code bounds[i + 1] - 1}, which is a comma or, for the last chunk, the closing
+     * bracket of the array.</p>
+     *
+     * @param doc the complete JSON document.
+     * @param chunkSize the minimal number of characters per chunk.
+     * @return the chunk boundaries, or {@code null} if the document is not split.
+     */
+    static int[] split(CharSequence doc, int chunkSize) {
+        final int len = doc.length();
+        int i = 0;
+        while (i < len && doc.charAt(i) <= ' ') {
+            i++;
+        }
+        if (i >= len || doc.charAt(i) != '[' || len - i < 2 * chunkSize) {
+            return null;
+        }
+        final List<Integer> bounds = new ArrayList<>();
+        int chunkStart = i + 1;
+        bounds.add(chunkStart);
+        int depth = 0;
+        for (i = chunkStart; i < len; i++) {
+            final char c = doc.charAt(i);
+            switch (c) {
+                case '"', '\'':
+                    i = skipString(doc, i + 1, c);
+                    if (i < 0) {
+                        return null;
+                    }
+                    break;
+                case '(':
+                    // the type name of a cast is taken literally up to ')'
+                    while (++i < len && doc.charAt(i) != ')') {
+                    }
+                    break;
+                case '{':
+                    if (startsArray(doc, i + 1)) {
+                        return null;
+                    }
+                    depth++;
+                    break;
+                case '[':
+                    depth++;
+                    break;
+                case '}':
+                    if (depth == 0) {
+                        return null;
+                    }
+                    depth--;
+                    break;
+                case ']':
+                    if (depth == 0) {
+                        if (bounds.size() < 2) {
+                            return null;
+                        }
+                        bounds.add(i + 1);
+                        return toArray(bounds);
+                    }
+                    depth--;
+                    break;
+                case ',':
+                    if (depth == 0 && i - chunkStart >= chunkSize) {
+                        chunkStart = i + 1;
+                        bounds.add(chunkStart);
+                    }
+                    break;
+                default:
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Skips a quoted string like {@link StringParser}: a backslash escapes the next
+     * character that is not a line break.
+     *
+     * @param doc the document.
+     * @param i the index after the opening quote.
+     * @param quotation the quote character.
+     * @return the index of the closing quote, or {@code -1} if the string does not end.
+     */
+    private static int skipString(CharSequence doc, int i, char quotation) {
+        final int len = doc.length();
+        boolean escape = false;
+        for (; i < len; i++) {
+            final char c = doc.charAt(i);
+            if (c == '\n' || c == '\r') {
+                continue;
+            }
+            if (escape) {
+                escape = false;
+            } else if (c == '\\') {
+                escape = true;
+            } else if (c == quotation) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether an object starts with an array bracket, which makes the object
+     * parser consume the input up to the next comma.
+     */
+    private static boolean startsArray(CharSequence doc, int i) {
+        for (; i < doc.length(); i++) {
+            final char c = doc.charAt(i);
+            if (c > ' ') {
+                return c == '[';
+            }
+        }
+        return false;
+    }
+
+    private static int[] toArray(List<Integer> bounds) {
+        final int[] ret = new int[bounds.size()];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = bounds.get(i);
+        }
+        return ret;
+    }
+
+}
@@ -1,5 +1,5 @@
 /* <copyright>
- * Copyright (C) 2022 Janusch Rentenatus & Thomas Weber  
+ * Copyright (C) 2022 Janusch Rentenatus & Thomas Weber
  * Copyright (c) 2025, Janusch Rentenatus. This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
  * http://www.eclipse.org/legal/epl-v20.html
@@ -10,7 +10,6 @@ package de.jare.jsoncasted.parserservice;
 import de.jare.debug.JsonDebugLevel;
 import de.jare.jsoncasted.parserwriter.JsonParseException;
 import de.jare.jsoncasted.tools.SimpleStringSplitter;
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.Reader;
 import java.util.logging.Level;
@@ -22,14 +21,19 @@ import java.util.logging.Logger;
  * <p>This class provides character-by-character reading from a text input stream
  * with the following features:</p>
  * <ul>
- *   <li>Line-by-line buffering</li>
- *   <li>Character position tracking within lines</li>
+ *   <li>Block buffering in a reusable, fixed-size character window</li>
+ *   <li>Column tracking within lines</li>
  *   <li>Line number tracking</li>
  *   <li>Lookahead capability ({@link #view()})</li>
  *   <li>Multi-character consumption ({@link #next(int)})</li>
  *   <li>Quotation mark validation for debugging</li>
  * </ul>
  *
+ * <p>Line breaks ({@code \n}, {@code \r} and {@code \r\n}) are never returned to the
+ * parsers. They only advance the line counter, exactly like the former line-by-line
+ * reading did. The window is refilled from the underlying {@link Reader}, so even a
+ * minified multi-megabyte single-line document is never copied into one string.</p>
+ *
  * <p>This class implements {@link SimpleStringSplitter} for integration with
  * the string splitting utilities.</p>
  *
@@ -37,59 +41,184 @@ import java.util.logging.Logger;
  */
 public class ParseStreamReader implements SimpleStringSplitter {
 
-    private final BufferedReader in;
+    /**
+     * Default size of the character window.
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Smallest accepted size of the character window.
+     */
+    public static final int MIN_BUFFER_SIZE = 16;
+
+    private final Reader in;
     private final JsonDebugLevel debugLevel;
-    private String line;
-    private boolean end;
+    private final boolean quoteWarning;
+    private final char[] buf;
     private int pos;
+    private int limit;
+    private boolean end;
     private int row;
+    private long bufStart;
+    private long lineStart;
+    private long lastCarriageReturn;
+    private int scanRow;
+    private int scanQuotes;
+    private boolean scanCarriageReturn;
+    private JsonSymbolTable symbolTable;
+    private WoodNodeCollector woodCollector;
 
     /**
      * Constructs a ParseStreamReader with the specified input reader and debug level.
      *
-     * @param in the Reader to read from (will be wrapped in a BufferedReader).
+     * @param in the Reader to read from.
      * @param debugLevel the debug level for logging, or {@code null} for default (SIMPLE).
      */
     public ParseStreamReader(Reader in, JsonDebugLevel debugLevel) {
-        this.in = new BufferedReader(in);
-        this.line = null;
-        this.end = false;
+        this(in, DEFAULT_BUFFER_SIZE, debugLevel);
+    }
+
+    /**
+     * Constructs a ParseStreamReader with the specified input reader, window size and debug level.
+     *
+     * @param in the Reader to read from.
+     * @param bufferSize the size of the character window (at least {@link #MIN_BUFFER_SIZE}).
+     * @param debugLevel the debug level for logging, or {@code null} for default (SIMPLE).
+     */
+    public ParseStreamReader(Reader in, int bufferSize, JsonDebugLevel debugLevel) {
+        this.in = in;
+        this.buf = new char[Math.max(MIN_BUFFER_SIZE, bufferSize)];
         this.pos = 0;
-        this.row = 0;
+        this.limit = 0;
+        this.end = false;
+        this.row = 1;
+        this.bufStart = 0;
+        this.lineStart = 0;
+        this.lastCarriageReturn = -2;
+        this.scanRow = 1;
+        this.scanQuotes = 0;
+        this.scanCarriageReturn = false;
         this.debugLevel = debugLevel == null ? JsonDebugLevel.SIMPLE : debugLevel;
+        this.quoteWarning = this.debugLevel.satisfyWarning();
+        this.symbolTable = null;
+        this.woodCollector = null;
     }
 
     /**
      * Checks if there are more characters available in the stream.
      *
-     * <p>This method loads the next non-empty line if the current line is exhausted.</p>
+     * <p>This method skips line breaks and refills the window if it is exhausted.</p>
      *
      * @return {@code true} if there are more characters, {@code false} if end of stream.
      * @throws IOException if an I/O error occurs.
      */
     public boolean hasNext() throws IOException {
+        while (true) {
+            if (pos >= limit && !fill()) {
+                return false;
+            }
+            final char c = buf[pos];
+            if (c > '\r' || (c != '\n' && c != '\r')) {
+                return true;
+            }
+            skipLineBreak(c);
+        }
+    }
+
+    /**
+     * Consumes a line break and advances the line counter.
+     *
+     * @param c the line break character at the current position.
+     */
+    private void skipLineBreak(char c) {
+        final long abs = bufStart + pos;
+        if (c == '\r') {
+            row++;
+            lastCarriageReturn = abs;
+        } else if (lastCarriageReturn != abs - 1) {
+            row++;
+        }
+        pos++;
+        lineStart = abs + 1;
+    }
+
+    /**
+     * Refills the character window from the underlying reader.
+     *
+     * @return {@code true} if at least one character is available.
+     * @throws IOException if an I/O error occurs.
+     */
+    private boolean fill() throws IOException {
         if (end) {
             return false;
         }
-        if (line == null) {
-            line = "";
-            while (line.isEmpty()) {
-                line = in.readLine();
-                row++;
-                pos = 0;
-                if (line == null) {
-                    end = true;
-                    return false;
-                }
-                final int simpleCount = simpleCount(line, "\"");
-                if ((simpleCount & 1) == 1 && debugLevel.satisfyWarning()) {
-                    Logger.getGlobal().log(Level.WARNING, "Line {0} has {1} quotation '\"'.", new Object[]{row, simpleCount});
-                }
+        bufStart += limit;
+        pos = 0;
+        limit = 0;
+        int n;
+        do {
+            n = read(buf, 0, buf.length);
+        } while (n == 0);
+        if (n < 0) {
+            end = true;
+            if (quoteWarning) {
+                checkQuotes();
             }
+            return false;
+        }
+        limit = n;
+        if (quoteWarning) {
+            scanQuotes(0, n);
         }
         return true;
     }
 
+    /**
+     * Reads characters into the window. Subclasses override this to decode
+     * other sources than a {@link Reader}.
+     *
+     * @param cbuf the destination window.
+     * @param off the offset to start storing characters.
+     * @param len the maximum number of characters to read.
+     * @return the number of characters read, or -1 at end of stream.
+     * @throws IOException if an I/O error occurs.
+     */
+    protected int read(char[] cbuf, int off, int len) throws IOException {
+        return in.read(cbuf, off, len);
+    }
+
+    /**
+     * Counts quotation marks per line in a freshly filled part of the window.
+     *
+     * @param from the first index to scan.
+     * @param to the index after the last one to scan.
+     */
+    private void scanQuotes(int from, int to) {
+        for (int i = from; i < to; i++) {
+            final char c = buf[i];
+            if (c == '"') {
+                scanQuotes++;
+                scanCarriageReturn = false;
+            } else if (c == '\r' || (c == '\n' && !scanCarriageReturn)) {
+                checkQuotes();
+                scanRow++;
+                scanCarriageReturn = c == '\r';
+            } else {
+                scanCarriageReturn = false;
+            }
+        }
+    }
+
+    /**
+     * Logs a warning if the line scanned last contains an odd number of quotation marks.
+     */
+    private void checkQuotes() {
+        if ((scanQuotes & 1) == 1) {
+            Logger.getGlobal().log(Level.WARNING, "Line {0} has {1} quotation '\"'.", new Object[]{scanRow, scanQuotes});
+        }
+        scanQuotes = 0;
+    }
+
     /**
      * Returns the current line number.
      *
@@ -99,6 +228,15 @@ public class ParseStreamReader implements SimpleStringSplitter {
         return row;
     }
 
+    /**
+     * Returns the current column within the current line.
+     *
+     * @return the 1-based column of the next character.
+     */
+    public int getColumn() {
+        return (int) (bufStart + pos - lineStart) + 1;
+    }
+
     /**
      * Consumes and returns the next character from the stream.
      *
@@ -110,12 +248,52 @@ public class ParseStreamReader implements SimpleStringSplitter {
         if (!hasNext()) {
             throw new JsonParseException("End of stream.");
         }
-        char ret = line.charAt(pos);
+        return buf[pos++];
+    }
+
+    /**
+     * Consumes and returns the next character like {@link #next()}, but reports the end
+     * of the stream by its result instead of an exception.
+     *
+     * @return the next character, or {@code -1} at the end of the stream.
+     * @throws IOException if an I/O error occurs.
+     */
+    int read() throws IOException {
+        return hasNext() ? buf[pos++] : -1;
+    }
+
+    /**
+     * Consumes and returns the next character like {@link #read()}, but returns line
+     * breaks as well. They still advance the line counter.
+     *
+     * @return the next character, or {@code -1} at the end of the stream.
+     * @throws IOException if an I/O error occurs.
+     */
+    int readRaw() throws IOException {
+        if (pos >= limit && !fill()) {
+            return -1;
+        }
+        final char c = buf[pos];
+        if (c == '\n' || c == '\r') {
+            skipLineBreak(c);
+            return c;
+        }
         pos++;
-        if (pos >= line.length()) {
-            line = null;
+        return c;
+    }
+
+    /**
+     * Returns the next character without consuming it and without skipping line
+     * breaks; the window is refilled if it is exhausted.
+     *
+     * @return the next character, or {@code -1} at the end of the stream.
+     * @throws IOException if an I/O error occurs.
+     */
+    int viewRaw() throws IOException {
+        if (pos >= limit && !fill()) {
+            return -1;
         }
-        return ret;
+        return buf[pos];
     }
 
     /**
@@ -129,7 +307,7 @@ public class ParseStreamReader implements SimpleStringSplitter {
         if (!hasNext()) {
             throw new JsonParseException("End of stream.");
         }
-        return line.charAt(pos);
+        return buf[pos];
     }
 
     /**
@@ -141,19 +319,241 @@ public class ParseStreamReader implements SimpleStringSplitter {
      * @throws JsonParseException if at end of stream.
      */
     public String next(int count) throws IOException, JsonParseException {
-        if (!hasNext()) {
-            throw new JsonParseException("End of stream.");
+        char[] chars = new char[count];
+        for (int i = 0; i < count; i++) {
+            chars[i] = next();
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Appends the characters in the current window up to the next {@code stop}
+     * character, backslash or line break to the builder without consuming the
+     * character that ended the run.
+     *
+     * <p>This lets string parsers copy plain runs in bulk instead of character by
+     * character. The run also ends at the end of the window, so callers loop until
+     * they see the character they are waiting for.</p>
+     *
+     * @param sb the builder to append to.
+     * @param stop the character that ends the run.
+     * @return the number of characters appended.
+     */
+    int appendRun(StringBuilder sb, char stop) {
+        final int start = pos;
+        int i = start;
+        while (i < limit) {
+            final char c = buf[i];
+            if (c == stop || c == '\\' || c == '\n' || c == '\r') {
+                break;
+            }
+            i++;
         }
-        if (pos + count < line.length()) {
-            pos += count;
-            return line.substring(pos - count, pos);
-        } else {
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < count; i++) {
-                sb.append(next());
+        sb.append(buf, start, i - start);
+        pos = i;
+        return i - start;
+    }
+
+    /**
+     * Skips the characters in the current window up to the next {@code stop}
+     * character, backslash or line break, like {@link #appendRun(StringBuilder, char)}
+     * without copying them.
+     *
+     * @param stop the character that ends the run.
+     * @return the number of characters skipped.
+     */
+    int skipRun(char stop) {
+        final int start = pos;
+        int i = start;
+        while (i < limit) {
+            final char c = buf[i];
+            if (c == stop || c == '\\' || c == '\n' || c == '\r') {
+                break;
+            }
+            i++;
+        }
+        pos = i;
+        return i - start;
+    }
+
+    /**
+     * Skips the characters in the current window that have no structural meaning, that
+     * is everything but quotes, brackets, braces, commas and line breaks.
+     *
+     * @return the number of characters skipped.
+     */
+    int skipPlainRun() {
+        final int start = pos;
+        int i = start;
+        while (i < limit) {
+            final char c = buf[i];
+            if (c == '"' || c == '\'' || c == '{' || c == '}' || c == '[' || c == ']' || c == ','
+                    || c == '\n' || c == '\r') {
+                break;
             }
-            return sb.toString();
+            i++;
         }
+        pos = i;
+        return i - start;
+    }
+
+    /**
+     * Consumes spaces, tabs and line breaks and then the next other character.
+     *
+     * @return the next character that is not blank, or {@code -1} at the end of the stream.
+     * @throws IOException if an I/O error occurs.
+     */
+    int nextNonBlank() throws IOException {
+        while (true) {
+            if (pos >= limit && !fill()) {
+                return -1;
+            }
+            final char c = buf[pos];
+            if (c == ' ' || c == '\t') {
+                pos++;
+            } else if (c == '\n' || c == '\r') {
+                skipLineBreak(c);
+            } else {
+                pos++;
+                return c;
+            }
+        }
+    }
+
+    /**
+     * Appends the characters that may occur in a number ({@code 0-9 . e E + -}) from
+     * the current window to the builder.
+     *
+     * @param sb the builder to append to.
+     * @return the number of characters appended.
+     */
+    int appendNumberRun(StringBuilder sb) {
+        final int start = pos;
+        int i = start;
+        while (i < limit) {
+            final char c = buf[i];
+            if ((c < '0' || c > '9') && c != '.' && c != 'e' && c != 'E' && c != '+' && c != '-') {
+                break;
+            }
+            i++;
+        }
+        sb.append(buf, start, i - start);
+        pos = i;
+        return i - start;
+    }
+
+    /**
+     * Reads the characters up to the next {@code stop} character as a canonical key
+     * from the symbol table, if the whole key lies in the current window and contains
+     * no backslash or line break. The stop character is consumed.
+     *
+     * @param stop the character that ends the key.
+     * @return the canonical key, or {@code null} if nothing was consumed.
+     */
+    String internRun(char stop) {
+        for (int i = pos; i < limit; i++) {
+            final char c = buf[i];
+            if (c == stop) {
+                final String key = getSymbolTable().intern(buf, pos, i - pos);
+                pos = i + 1;
+                return key;
+            }
+            if (c == '\\' || c == '\n' || c == '\r') {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reads the characters up to the next {@code stop} character as a canonical key,
+     * if the whole key lies in the current window and contains no backslash and no
+     * control character. The stop character is consumed.
+     *
+     * @param stop the character that ends the key.
+     * @return the canonical key, or {@code null} if nothing was consumed.
+     */
+    String internPlainRun(char stop) {
+        final int end = plainRunEnd(stop);
+        if (end < 0) {
+            return null;
+        }
+        final String key = getSymbolTable().intern(buf, pos, end - pos);
+        pos = end + 1;
+        return key;
+    }
+
+    /**
+     * Reads the characters up to the next {@code stop} character as a new string, if
+     * they all lie in the current window and contain no backslash and no control
+     * character. The stop character is consumed.
+     *
+     * @param stop the character that ends the string.
+     * @return the string, or {@code null} if nothing was consumed.
+     */
+    String plainRun(char stop) {
+        final int end = plainRunEnd(stop);
+        if (end < 0) {
+            return null;
+        }
+        final String s = new String(buf, pos, end - pos);
+        pos = end + 1;
+        return s;
+    }
+
+    private int plainRunEnd(char stop) {
+        for (int i = pos; i < limit; i++) {
+            final char c = buf[i];
+            if (c == stop) {
+                return i;
+            }
+            if (c == '\\' || c < ' ') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the symbol table used for object keys. A table is created with the first
+     * call unless one was set before.
+     *
+     * @return the symbol table.
+     */
+    public JsonSymbolTable getSymbolTable() {
+        if (symbolTable == null) {
+            symbolTable = new JsonSymbolTable();
+        }
+        return symbolTable;
+    }
+
+    /**
+     * Sets the symbol table used for object keys, e.g. to share canonical keys across
+     * several sequential parses.
+     *
+     * @param symbolTable the symbol table.
+     */
+    public void setSymbolTable(JsonSymbolTable symbolTable) {
+        this.symbolTable = symbolTable;
+    }
+
+    /**
+     * Returns the collector the parsers report object members to.
+     *
+     * @return the collector, or {@code null} if members are not reported.
+     */
+    WoodNodeCollector getWoodCollector() {
+        return woodCollector;
+    }
+
+    /**
+     * Sets the collector the parsers report object members to, so the objects carrying
+     * wood terms are known without traversing the parsed tree again.
+     *
+     * @param woodCollector the collector, or {@code null} to stop reporting.
+     */
+    void setWoodCollector(WoodNodeCollector woodCollector) {
+        this.woodCollector = woodCollector;
     }
 
     /**
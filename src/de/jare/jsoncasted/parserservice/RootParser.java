@@ -10,6 +10,8 @@ package de.jare.jsoncasted.parserservice;
 import de.jare.debug.JsonDebugLevel;
 import de.jare.jsoncasted.lang.JsonNode;
 import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.lang.JsonTape;
+import de.jare.jsoncasted.lang.LinkingSet;
 import de.jare.jsoncasted.lang.calculator.JsonWoodProviderTinkerResult;
 import de.jare.jsoncasted.lang.calculator.JsonWoodProviderTinker;
 import de.jare.jsoncasted.lang.calculator.JsonWoodProviderScanResult;
@@ -31,6 +33,11 @@ import java.io.IOException;
  *   <li>Processes and stores any exceptions from the scanning/building process</li>
  * </ul>
  *
+ * <p>The {@code parse} methods let the parsers report the objects carrying wood terms
+ * to a {@link WoodNodeCollector}, so providers, object IDs and links are known when
+ * the tree is complete and the tree is not traversed again. Paths are only searched
+ * when an entry or an exception asks for them.</p>
+ *
  * @author Janusch Rentenatus
  *
  */
@@ -55,11 +62,87 @@ public class RootParser {
      * @throws JsonParseException if JSON parsing fails.
      */
     public static JsonResource parse(ParseStreamReader psr, JsonResource container, JsonDebugLevel debugLevel) throws IOException, JsonParseException {
-        final JsonNode rootNode = parseRoot(psr);
+        return parseCollected(psr, () -> parseRoot(psr), container, debugLevel);
+    }
+
+    /**
+     * Parses JSON content from the stream reader into the specified container with the
+     * selected parser engine.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param container the JsonResource to populate with parsed content.
+     * @param mode the parser engine.
+     * @param maxDepth the maximum nesting depth; not checked by {@link JsonParserMode#RECURSIVE}.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource with root node and metadata.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(ParseStreamReader psr, JsonResource container, JsonParserMode mode, int maxDepth,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        if (mode == JsonParserMode.TAPE || mode == JsonParserMode.OFF_HEAP) {
+            final JsonTape tape = readTape(psr, mode, maxDepth);
+            return analyze(tape.getRoot(), container, WoodIdFinder.collect(tape), debugLevel);
+        }
+        return parseCollected(psr, () -> parseRoot(psr, mode, maxDepth), container, debugLevel);
+    }
+
+    /**
+     * Parses JSON content from the stream reader into the specified container and skips
+     * the object members the filter does not keep.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param container the JsonResource to populate with parsed content.
+     * @param filter the filter of the root, see {@link JsonFieldFilter#of}.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource with root node and metadata.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    public static JsonResource parse(ParseStreamReader psr, JsonResource container, JsonFieldFilter filter,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        return parseCollected(psr, () -> parseRoot(psr, filter), container, debugLevel);
+    }
+
+    /**
+     * Stores an already parsed root node in the specified container and runs the
+     * analysis steps of {@link #parse(ParseStreamReader, JsonResource, JsonDebugLevel)}:
+     * wood provider scanning, linking set construction and exception collection.
+     *
+     * @param rootNode the parsed root node.
+     * @param container the JsonResource to populate.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource with root node and metadata.
+     */
+    public static JsonResource analyze(JsonNode rootNode, JsonResource container, JsonDebugLevel debugLevel) {
         container.setRoot(rootNode);
         JsonWoodProviderScanResult scan = JsonWoodProviderScanner.INSTANCE.scan(rootNode);
         JsonWoodProviderTinkerResult result = JsonWoodProviderTinker.INSTANCE.build(scan, debugLevel);
-        container.setLinkingSet(WoodIdFinder.buildLinkingSet(rootNode, container.getProviderName(), debugLevel));
+        return store(container, result,
+                WoodIdFinder.buildLinkingSet(rootNode, container.getProviderName(), debugLevel));
+    }
+
+    /**
+     * Stores an already parsed root node in the specified container and runs the
+     * analysis steps on the objects the collector found while parsing.
+     *
+     * @param rootNode the parsed root node.
+     * @param container the JsonResource to populate.
+     * @param woods the collector that was set on the reader while parsing.
+     * @param debugLevel the debug level for logging.
+     * @return the populated JsonResource with root node and metadata.
+     */
+    static JsonResource analyze(JsonNode rootNode, JsonResource container, WoodNodeCollector woods,
+            JsonDebugLevel debugLevel) {
+        container.setRoot(rootNode);
+        JsonWoodProviderScanResult scan = woods.scanResult(rootNode);
+        JsonWoodProviderTinkerResult result = JsonWoodProviderTinker.INSTANCE.build(scan, debugLevel);
+        return store(container, result, woods.linkingSet(rootNode, container.getProviderName()));
+    }
+
+    private static JsonResource store(JsonResource container, JsonWoodProviderTinkerResult result,
+            LinkingSet linkingSet) {
+        container.setLinkingSet(linkingSet);
         if (result.hasExceptions()) {
             container.addExceptions(result.getExceptions());
         }
@@ -67,6 +150,62 @@ public class RootParser {
         return container;
     }
 
+    private static JsonResource parseCollected(ParseStreamReader psr, RootReader reader, JsonResource container,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        final WoodNodeCollector woods = new WoodNodeCollector();
+        final WoodNodeCollector previous = psr.getWoodCollector();
+        psr.setWoodCollector(woods);
+        final JsonNode root;
+        try {
+            root = reader.read();
+        } finally {
+            psr.setWoodCollector(previous);
+        }
+        return analyze(root, container, woods, debugLevel);
+    }
+
+    /**
+     * Reads the root node with one of the parser engines.
+     */
+    @FunctionalInterface
+    private interface RootReader {
+
+        JsonNode read() throws IOException, JsonParseException;
+    }
+
+    private static JsonTape readTape(ParseStreamReader psr, JsonParserMode mode, int maxDepth)
+            throws IOException, JsonParseException {
+        return JsonTapeReader.read(psr, maxDepth, mode == JsonParserMode.OFF_HEAP);
+    }
+
+    /**
+     * Parses the root JSON value from the stream with the selected parser engine.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param mode the parser engine.
+     * @param maxDepth the maximum nesting depth; not checked by {@link JsonParserMode#RECURSIVE}.
+     * @return the parsed JsonNode root.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    static JsonNode parseRoot(ParseStreamReader psr, JsonParserMode mode, int maxDepth) throws IOException, JsonParseException {
+        if (mode == JsonParserMode.STRICT) {
+            return StrictParser.parseRoot(psr, maxDepth);
+        }
+        if (mode == JsonParserMode.TAPE || mode == JsonParserMode.OFF_HEAP) {
+            return readTape(psr, mode, maxDepth).getRoot();
+        }
+        if (mode != JsonParserMode.ITERATIVE) {
+            return parseRoot(psr);
+        }
+        JsonTokenReader tr = new JsonTokenReader(psr);
+        tr.setMaxDepth(maxDepth);
+        if (tr.nextToken() == null) {
+            return JsonNode.varNode("");
+        }
+        return tr.readNode();
+    }
+
     /**
      * Parses the root JSON value from the stream.
      *
@@ -85,27 +224,42 @@ public class RootParser {
      * @throws JsonParseException if JSON parsing fails.
      */
     static JsonNode parseRoot(ParseStreamReader psr) throws IOException, JsonParseException {
+        return parseRoot(psr, (JsonFieldFilter) null);
+    }
+
+    /**
+     * Parses the root JSON value from the stream and skips the object members the
+     * filter does not keep.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param filter the filter of the root object or the objects in the root array, or
+     * {@code null} to keep all members.
+     * @return the parsed JsonNode root.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if JSON parsing fails.
+     */
+    static JsonNode parseRoot(ParseStreamReader psr, JsonFieldFilter filter) throws IOException, JsonParseException {
         StringBuilder sb = new StringBuilder();
         while (psr.hasNext()) {
             char c = psr.next();
             if (c == '{') {
-                return ObjectParser.parse(psr);
+                return ObjectParser.parse(psr, filter);
             }
             if (c == '[') {
-                return ListParser.parse(psr);
+                return ListParser.parse(psr, filter);
             }
             if (c == '"') {
-                return JsonNode.stringNode(StringParser.parse(psr, '"'));
+                return StringParser.parseNode(psr, '"');
             }
             if (c == '\'') {
-                return JsonNode.stringNode(StringParser.parse(psr, '\''));
+                return StringParser.parseNode(psr, '\'');
             }
             if (c == '(') {
-                return CastingParser.parse(psr);
+                return CastingParser.parse(psr, filter);
             }
             sb.append(c);
         }
-        return JsonNode.varNode(sb.toString());
+        return JsonNode.varNode(sb);
     }
 
 }
@@ -0,0 +1,340 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Parser accepting only standard JSON as defined by RFC 8259.
+ *
+ * <p>
+ * Keys must be double-quoted and followed by {@code :}, strings must be double-quoted
+ * and may only use the standard escapes, numbers must follow the JSON number grammar,
+ * and neither trailing commas, empty elements, unquoted values nor casts are accepted.
+ * Type information is given by a plain {@code "_class"} member. Because every
+ * character has only a few valid meanings, the parser runs as one tight loop with an
+ * explicit stack instead of the chain of lenient checks of {@link ObjectParser},
+ * {@link ListParser} and {@link CastingParser}.</p>
+ *
+ * <p>
+ * For standard input the nodes are the same as those of the lenient parsers; strings
+ * keep their escapes in the same way (see {@link JsonNode#rawStringNode(String)}).
+ * Unlike there, member names are not trimmed, and line breaks are whitespace only
+ * between tokens: inside strings, member names, numbers and literals they are
+ * rejected.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public class StrictParser {
+
+    private StrictParser() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * Parses the root JSON value from the stream.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param maxDepth the maximum number of nested objects and arrays.
+     * @return the parsed JsonNode root.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if the input is not standard JSON.
+     */
+    static JsonNode parseRoot(ParseStreamReader psr, int maxDepth) throws IOException, JsonParseException {
+        final StringBuilder sb = new StringBuilder();
+        JsonNode[] open = new JsonNode[16];
+        String[] names = new String[16];
+        int n = 0;
+        final WoodNodeCollector woods = psr.getWoodCollector();
+        final JsonSymbolTable symbols = psr.getSymbolTable();
+        char c = skipBlank(psr);
+        parse:
+        while (true) {
+            JsonNode value;
+            switch (c) {
+                case '{':
+                case '[':
+                    if (n >= maxDepth) {
+                        throw new JsonParseException(psr.getRow(), "Maximum nesting depth of " + maxDepth + " exceeded.");
+                    }
+                    if (n == open.length) {
+                        open = Arrays.copyOf(open, n * 2);
+                        names = Arrays.copyOf(names, n * 2);
+                    }
+                    final char first = skipBlank(psr);
+                    if (c == '{') {
+                        if (first == '}') {
+                            value = JsonNode.objectNode();
+                            break;
+                        }
+                        open[n] = JsonNode.objectNode();
+                        names[n++] = key(psr, first, sb);
+                        c = skipBlank(psr);
+                    } else {
+                        if (first == ']') {
+                            value = JsonNode.arrayNode();
+                            break;
+                        }
+                        open[n++] = JsonNode.arrayNode();
+                        c = first;
+                    }
+                    continue;
+                case '"':
+                    value = string(psr, sb);
+                    break;
+                case 't':
+                    literal(psr, "rue");
+                    value = JsonNode.booleanNode(true);
+                    break;
+                case 'f':
+                    literal(psr, "alse");
+                    value = JsonNode.booleanNode(false);
+                    break;
+                case 'n':
+                    literal(psr, "ull");
+                    value = JsonNode.nullNode();
+                    break;
+                default:
+                    if (c == '-' || (c >= '0' && c <= '9')) {
+                        value = number(psr, c, sb);
+                        break;
+                    }
+                    throw unexpected(psr, c, "a value");
+            }
+            // attach the completed value and close finished structures
+            while (n > 0) {
+                final JsonNode parent = open[n - 1];
+                c = skipBlank(psr);
+                if (parent.isArray()) {
+                    parent.add(value);
+                    if (c == ',') {
+                        c = skipBlank(psr);
+                        continue parse;
+                    }
+                    if (c != ']') {
+                        throw unexpected(psr, c, "',' or ']'");
+                    }
+                } else {
+                    parent.put(names[n - 1], value);
+                    if (woods != null && symbols.hasUnderscoreSymbol()) {
+                        // without such a key in the table, no member is a wood term
+                        woods.member(parent, names[n - 1]);
+                    }
+                    if (c == ',') {
+                        names[n - 1] = key(psr, skipBlank(psr), sb);
+                        c = skipBlank(psr);
+                        continue parse;
+                    }
+                    if (c != '}') {
+                        throw unexpected(psr, c, "',' or '}'");
+                    }
+                }
+                value = parent;
+                open[--n] = null;
+            }
+            final int rest = psr.nextNonBlank();
+            if (rest >= 0) {
+                throw unexpected(psr, (char) rest, "the end of the document");
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Reads a member name and the following colon.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param c the first character of the member, which must be a double quote.
+     * @param sb a reusable builder.
+     * @return the canonical member name.
+     */
+    private static String key(ParseStreamReader psr, char c, StringBuilder sb) throws IOException, JsonParseException {
+        if (c != '"') {
+            throw unexpected(psr, c, "a double-quoted member name");
+        }
+        String key = psr.viewRaw() >= 0 ? psr.internPlainRun('"') : null;
+        if (key == null) {
+            // escapes, control characters or the end of the window
+            final String text = string(psr, sb).asText();
+            key = psr.getSymbolTable().intern(text, 0, text.length());
+        }
+        c = skipBlank(psr);
+        if (c != ':') {
+            throw unexpected(psr, c, "':'");
+        }
+        return key;
+    }
+
+    /**
+     * Reads a string after its opening quote.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param sb a reusable builder.
+     * @return the string node; raw if the string contains escapes.
+     */
+    private static JsonNode string(ParseStreamReader psr, StringBuilder sb) throws IOException, JsonParseException {
+        final String plain = psr.viewRaw() >= 0 ? psr.plainRun('"') : null;
+        if (plain != null) {
+            return JsonNode.stringNode(plain);
+        }
+        sb.setLength(0);
+        boolean escaped = false;
+        while (true) {
+            final int from = sb.length();
+            if (psr.appendRun(sb, '"') > 0) {
+                checkControl(psr, sb, from);
+                continue;
+            }
+            final int read = psr.readRaw();
+            if (read < 0) {
+                throw new JsonParseException(psr.getRow(), "End of file without end of string.");
+            }
+            char c = (char) read;
+            if (c == '"') {
+                return escaped ? JsonNode.rawStringNode(sb.toString()) : JsonNode.stringNode(sb.toString());
+            }
+            if (c < ' ') {
+                throw new JsonParseException(psr.getRow(), "Unescaped control character in string.");
+            }
+            if (c != '\\') {
+                // the run ended with the window
+                sb.append(c);
+                continue;
+            }
+            escaped = true;
+            sb.append(c);
+            c = next(psr);
+            sb.append(c);
+            switch (c) {
+                case '"', '\\', '/', 'b', 'f', 'n', 'r', 't':
+                    break;
+                case 'u':
+                    for (int i = 0; i < 4; i++) {
+                        c = next(psr);
+                        if (Character.digit(c, 16) < 0) {
+                            throw unexpected(psr, c, "a hex digit");
+                        }
+                        sb.append(c);
+                    }
+                    break;
+                default:
+                    throw unexpected(psr, c, "an escape character");
+            }
+        }
+    }
+
+    /**
+     * Reads a number following the JSON number grammar.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param c the first character of the number.
+     * @param sb a reusable builder.
+     * @return the long or number node.
+     */
+    private static JsonNode number(ParseStreamReader psr, char c, StringBuilder sb) throws IOException, JsonParseException {
+        sb.setLength(0);
+        sb.append(c);
+        while (psr.viewRaw() >= 0 && psr.appendNumberRun(sb) > 0) {
+            // the number may continue in the next window; a line break ends it
+        }
+        final int len = sb.length();
+        int i = sb.charAt(0) == '-' ? 1 : 0;
+        long value = 0;
+        final int intStart = i;
+        if (i < len && sb.charAt(i) == '0') {
+            i++;
+        } else {
+            while (i < len && sb.charAt(i) >= '0' && sb.charAt(i) <= '9') {
+                value = value * 10 + (sb.charAt(i++) - '0');
+            }
+        }
+        final int intDigits = i - intStart;
+        if (intDigits == 0) {
+            throw invalidNumber(psr, sb);
+        }
+        boolean integral = true;
+        if (i < len && sb.charAt(i) == '.') {
+            integral = false;
+            i = digits(psr, sb, i + 1);
+        }
+        if (i < len && (sb.charAt(i) == 'e' || sb.charAt(i) == 'E')) {
+            integral = false;
+            i++;
+            if (i < len && (sb.charAt(i) == '+' || sb.charAt(i) == '-')) {
+                i++;
+            }
+            i = digits(psr, sb, i);
+        }
+        if (i != len) {
+            throw invalidNumber(psr, sb);
+        }
+        if (integral && intDigits < 19) {
+            return JsonNode.longNode(intStart == 1 ? -value : value);
+        }
+        return JsonNode.varNode(sb);
+    }
+
+    private static int digits(ParseStreamReader psr, StringBuilder sb, int i) throws JsonParseException {
+        final int start = i;
+        while (i < sb.length() && sb.charAt(i) >= '0' && sb.charAt(i) <= '9') {
+            i++;
+        }
+        if (i == start) {
+            throw invalidNumber(psr, sb);
+        }
+        return i;
+    }
+
+    private static JsonParseException invalidNumber(ParseStreamReader psr, CharSequence sb) {
+        return new JsonParseException(psr.getRow(), "Invalid number '" + sb + "'.");
+    }
+
+    private static void literal(ParseStreamReader psr, String rest) throws IOException, JsonParseException {
+        for (int i = 0; i < rest.length(); i++) {
+            final char c = next(psr);
+            if (c != rest.charAt(i)) {
+                throw unexpected(psr, c, "'" + rest.charAt(i) + "'");
+            }
+        }
+    }
+
+    private static char skipBlank(ParseStreamReader psr) throws IOException, JsonParseException {
+        final int c = psr.nextNonBlank();
+        if (c < 0) {
+            throw new JsonParseException(psr.getRow(), "Unexpected end of file.");
+        }
+        return (char) c;
+    }
+
+    /**
+     * Consumes the next character, line breaks included.
+     */
+    private static char next(ParseStreamReader psr) throws IOException, JsonParseException {
+        final int c = psr.readRaw();
+        if (c < 0) {
+            throw new JsonParseException(psr.getRow(), "Unexpected end of file.");
+        }
+        return (char) c;
+    }
+
+    private static void checkControl(ParseStreamReader psr, CharSequence cs, int from) throws JsonParseException {
+        for (int i = from; i < cs.length(); i++) {
+            if (cs.charAt(i) < ' ') {
+                throw new JsonParseException(psr.getRow(), "Unescaped control character in string.");
+            }
+        }
+    }
+
+    private static JsonParseException unexpected(ParseStreamReader psr, char c, String expected) {
+        final String shown = c < ' ' ? String.format("\\u%04x", (int) c) : String.valueOf(c);
+        return new JsonParseException(psr.getRow(), "Unexpected character '" + shown + "', expected " + expected + ".");
+    }
+
+}
@@ -7,6 +7,7 @@
  */
 package de.jare.jsoncasted.parserservice;
 
+import de.jare.jsoncasted.lang.JsonNode;
 import de.jare.jsoncasted.parserwriter.JsonParseException;
 import java.io.IOException;
 
@@ -44,6 +45,9 @@ public class StringParser {
         StringBuilder sb = new StringBuilder();
 
         while (psr.hasNext()) {
+            if (!escape && psr.appendRun(sb, quotation) > 0) {
+                continue;
+            }
             char c = psr.next();
             if (escape) {
                 escape = false;
@@ -76,4 +80,95 @@ public class StringParser {
         throw new JsonParseException("End of file without end of string.");
     }
 
+    /**
+     * Parses a quoted string value into a string node without decoding its escapes.
+     * A string without escapes becomes a plain string node of its content; otherwise the
+     * raw content is kept and decoded on first access (see
+     * {@link JsonNode#rawStringNode(String)}). Unicode escapes are validated here, so
+     * malformed input is still reported with its position.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param quotation the quote character (either '"' or '\'').
+     * @return the string node.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if parsing fails (e.g., end of file without closing quote).
+     */
+    static JsonNode parseNode(ParseStreamReader psr, char quotation) throws IOException, JsonParseException {
+        boolean escaped = false;
+        StringBuilder sb = new StringBuilder();
+
+        while (psr.hasNext()) {
+            if (psr.appendRun(sb, quotation) > 0) {
+                continue;
+            }
+            char c = psr.next();
+            if (c == quotation) {
+                return escaped ? JsonNode.rawStringNode(sb.toString()) : JsonNode.stringNode(sb.toString());
+            }
+            sb.append(c);
+            if (c == '\\' && psr.hasNext()) {
+                escaped = true;
+                c = psr.next();
+                sb.append(c);
+                if (c == 'u') {
+                    final String hex = psr.next(4);
+                    for (int i = 0; i < hex.length(); i++) {
+                        if (Character.digit(hex.charAt(i), 16) < 0) {
+                            throw new JsonParseException("Invalid unicode escape \\u" + hex
+                                    + " in row " + psr.getRow() + ".");
+                        }
+                    }
+                    sb.append(hex);
+                }
+            }
+        }
+        throw new JsonParseException("End of file without end of string.");
+    }
+
+    /**
+     * Skips a quoted string after its opening quote without building its content.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param quotation the quote character (either '"' or '\'').
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if parsing fails (e.g., end of file without closing quote).
+     */
+    static void skip(ParseStreamReader psr, char quotation) throws IOException, JsonParseException {
+        while (psr.hasNext()) {
+            if (psr.skipRun(quotation) > 0) {
+                continue;
+            }
+            final char c = psr.next();
+            if (c == quotation) {
+                return;
+            }
+            if (c == '\\' && psr.hasNext()) {
+                psr.next();
+            }
+        }
+        throw new JsonParseException("End of file without end of string.");
+    }
+
+    /**
+     * Parses a quoted object key and returns its canonical instance from the symbol
+     * table of the reader. Keys that lie completely in the reader window are looked up
+     * without any allocation.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param quotation the quote character (either '"' or '\'').
+     * @return the canonical key (without quotes).
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonParseException if parsing fails (e.g., end of file without closing quote).
+     */
+    static String parseKey(ParseStreamReader psr, char quotation) throws IOException, JsonParseException {
+        if (psr.hasNext()) {
+            final String key = psr.internRun(quotation);
+            if (key != null) {
+                return key;
+            }
+        }
+        final String key = parse(psr, quotation);
+        return psr.getSymbolTable().intern(key, 0, key.length());
+    }
+
 }
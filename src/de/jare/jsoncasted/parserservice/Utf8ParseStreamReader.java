@@ -0,0 +1,238 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Parse stream reader working directly on UTF-8 encoded bytes.
+ *
+ * <p>The bytes are decoded straight into the character window of the
+ * {@link ParseStreamReader} without a {@link java.io.Reader} or
+ * {@link java.nio.charset.CharsetDecoder} in between. Runs of ASCII bytes, which
+ * make up all structural characters, keys and numbers of typical documents, are
+ * copied with a single comparison per byte. Multi-byte sequences are decoded by hand;
+ * malformed sequences become {@code U+FFFD} as with the default decoder. A leading
+ * byte order mark is skipped.</p>
+ *
+ * <p>Supported sources are an {@link InputStream}, a {@code byte[]} range and a
+ * {@link ByteBuffer} (heap, direct or memory-mapped).</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public class Utf8ParseStreamReader extends ParseStreamReader {
+
+    private static final char REPLACEMENT = '\uFFFD';
+
+    private final InputStream stream;
+    private final ByteBuffer buffer;
+    private byte[] bytes;
+    private int bpos;
+    private int blim;
+    private boolean bomChecked;
+
+    /**
+     * Constructs a reader decoding UTF-8 bytes from an input stream.
+     *
+     * @param in the InputStream to read from.
+     * @param debugLevel the debug level for logging, or {@code null} for default (SIMPLE).
+     */
+    public Utf8ParseStreamReader(InputStream in, JsonDebugLevel debugLevel) {
+        super(null, DEFAULT_BUFFER_SIZE, debugLevel);
+        this.stream = in;
+        this.buffer = null;
+        this.bytes = new byte[DEFAULT_BUFFER_SIZE];
+        this.bpos = 0;
+        this.blim = 0;
+    }
+
+    /**
+     * Constructs a reader decoding a complete UTF-8 byte array.
+     *
+     * @param data the encoded document.
+     * @param debugLevel the debug level for logging, or {@code null} for default (SIMPLE).
+     */
+    public Utf8ParseStreamReader(byte[] data, JsonDebugLevel debugLevel) {
+        this(data, 0, data.length, debugLevel);
+    }
+
+    /**
+     * Constructs a reader decoding a range of a UTF-8 byte array. The array is
+     * used in place and must not change while parsing.
+     *
+     * @param data the array containing the encoded document.
+     * @param offset the index of the first byte.
+     * @param length the number of bytes.
+     * @param debugLevel the debug level for logging, or {@code null} for default (SIMPLE).
+     */
+    public Utf8ParseStreamReader(byte[] data, int offset, int length, JsonDebugLevel debugLevel) {
+        super(null, DEFAULT_BUFFER_SIZE, debugLevel);
+        if (offset < 0 || length < 0 || offset + length > data.length) {
+            throw new IndexOutOfBoundsException("Range " + offset + "+" + length + " outside of " + data.length + " bytes.");
+        }
+        this.stream = null;
+        this.buffer = null;
+        this.bytes = data;
+        this.bpos = offset;
+        this.blim = offset + length;
+    }
+
+    /**
+     * Constructs a reader decoding the remaining bytes of a buffer. The position of
+     * the given buffer is not changed. Heap buffers are read in place, other buffers
+     * are copied in small chunks.
+     *
+     * @param data the buffer containing the encoded document.
+     * @param debugLevel the debug level for logging, or {@code null} for default (SIMPLE).
+     */
+    public Utf8ParseStreamReader(ByteBuffer data, JsonDebugLevel debugLevel) {
+        super(null, DEFAULT_BUFFER_SIZE, debugLevel);
+        this.stream = null;
+        if (data.hasArray()) {
+            this.buffer = null;
+            this.bytes = data.array();
+            this.bpos = data.arrayOffset() + data.position();
+            this.blim = data.arrayOffset() + data.limit();
+        } else {
+            this.buffer = data.duplicate();
+            this.bytes = new byte[DEFAULT_BUFFER_SIZE];
+            this.bpos = 0;
+            this.blim = 0;
+        }
+    }
+
+    @Override
+    protected int read(char[] cbuf, int off, int len) throws IOException {
+        if (!bomChecked) {
+            bomChecked = true;
+            if (ensure(3) && bytes[bpos] == (byte) 0xEF && bytes[bpos + 1] == (byte) 0xBB && bytes[bpos + 2] == (byte) 0xBF) {
+                bpos += 3;
+            }
+        }
+        final int end = off + len;
+        int out = off;
+        while (out < end) {
+            if (bpos >= blim && !ensure(1)) {
+                break;
+            }
+            final byte b0 = bytes[bpos];
+            if (b0 >= 0) {
+                // ASCII fast path
+                final byte[] src = bytes;
+                int p = bpos;
+                final int max = Math.min(blim, p + end - out);
+                while (p < max && src[p] >= 0) {
+                    cbuf[out++] = (char) src[p++];
+                }
+                bpos = p;
+                continue;
+            }
+            final int need;
+            if ((b0 & 0xE0) == 0xC0) {
+                need = 2;
+            } else if ((b0 & 0xF0) == 0xE0) {
+                need = 3;
+            } else if ((b0 & 0xF8) == 0xF0) {
+                need = 4;
+                if (out + 1 >= end) {
+                    break;
+                }
+            } else {
+                cbuf[out++] = REPLACEMENT;
+                bpos++;
+                continue;
+            }
+            if (!ensure(need)) {
+                // truncated sequence at end of input
+                cbuf[out++] = REPLACEMENT;
+                bpos = blim;
+                continue;
+            }
+            out = decode(cbuf, out, need);
+        }
+        return out == off ? -1 : out - off;
+    }
+
+    /**
+     * Decodes one multi-byte sequence whose bytes are all available.
+     *
+     * @param cbuf the destination window.
+     * @param out the index to store the decoded character(s).
+     * @param need the length of the sequence.
+     * @return the index after the decoded character(s).
+     */
+    private int decode(char[] cbuf, int out, int need) {
+        final byte[] src = bytes;
+        final int p = bpos;
+        int cp = src[p] & (0xFF >> (need + 1));
+        for (int i = 1; i < need; i++) {
+            final int c = src[p + i];
+            if ((c & 0xC0) != 0x80) {
+                cbuf[out] = REPLACEMENT;
+                bpos = p + i;
+                return out + 1;
+            }
+            cp = (cp << 6) | (c & 0x3F);
+        }
+        bpos = p + need;
+        if (need == 2 && cp >= 0x80
+                || need == 3 && cp >= 0x800 && (cp < 0xD800 || cp > 0xDFFF)) {
+            cbuf[out] = (char) cp;
+            return out + 1;
+        }
+        if (need == 4 && cp >= 0x10000 && cp <= 0x10FFFF) {
+            cbuf[out] = Character.highSurrogate(cp);
+            cbuf[out + 1] = Character.lowSurrogate(cp);
+            return out + 2;
+        }
+        cbuf[out] = REPLACEMENT;
+        return out + 1;
+    }
+
+    /**
+     * Makes sure that at least {@code count} undecoded bytes are available, refilling
+     * the byte window from the stream or the direct buffer if necessary.
+     *
+     * @param count the number of bytes needed.
+     * @return {@code true} if enough bytes are available.
+     * @throws IOException if an I/O error occurs.
+     */
+    private boolean ensure(int count) throws IOException {
+        if (blim - bpos >= count) {
+            return true;
+        }
+        if (stream == null && buffer == null) {
+            return false;
+        }
+        final int rest = blim - bpos;
+        System.arraycopy(bytes, bpos, bytes, 0, rest);
+        bpos = 0;
+        blim = rest;
+        while (blim < count) {
+            int n;
+            if (stream != null) {
+                n = stream.read(bytes, blim, bytes.length - blim);
+            } else {
+                n = Math.min(buffer.remaining(), bytes.length - blim);
+                if (n == 0) {
+                    n = -1;
+                } else {
+                    buffer.get(bytes, blim, n);
+                }
+            }
+            if (n < 0) {
+                return false;
+            }
+            blim += n;
+        }
+        return true;
+    }
+
+}
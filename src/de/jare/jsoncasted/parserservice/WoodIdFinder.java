@@ -8,11 +8,15 @@ package de.jare.jsoncasted.parserservice;
 
 import de.jare.debug.JsonDebugLevel;
 import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonNodeType;
+import de.jare.jsoncasted.lang.JsonTape;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_LINK;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_OBJECT_ID;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_PROVIDERS;
+import de.jare.jsoncasted.lang.JsonTreeCursor;
 import de.jare.jsoncasted.lang.LinkNodeEntry;
 import de.jare.jsoncasted.lang.LinkingSet;
 import de.jare.jsoncasted.parserwriter.JsonParseException;
-import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -40,7 +44,7 @@ public final class WoodIdFinder {
     /**
      * Builds a linking set from the specified root node.
      *
-     * <p>Traverses the entire node tree recursively and collects all object IDs
+     * <p>Traverses the entire node tree with a {@link JsonTreeCursor} and collects all object IDs
      * and link references into a LinkingSet.</p>
      *
      * @param root the root JsonNode to traverse (must not be null).
@@ -54,67 +58,80 @@ public final class WoodIdFinder {
         Objects.requireNonNull(providerName, "providerName must not be null");
 
         LinkingSet result = new LinkingSet(providerName);
-        traverse("$", root, providerName, result, debugLevel);
+        JsonTreeCursor cursor = new JsonTreeCursor(root);
+        while (cursor.next()) {
+            final JsonNode node = cursor.getNode();
+            if (node != null && node.isObject()) {
+                visit(cursor, node, providerName, result);
+            }
+        }
         return result;
     }
 
     /**
-     * Recursively traverses a JSON node tree and populates the linking set.
+     * Collects the objects with wood terms of a tape in one pass over the tape, without
+     * creating views on the other values.
      *
-     * @param path the current path in the tree (for error reporting).
-     * @param node the current node to process.
-     * @param providerName the provider name for object ID normalization.
-     * @param result the LinkingSet to populate.
-     * @param debugLevel the debug level for logging.
+     * @param tape the tape.
+     * @return the collector with a view on each object carrying a wood term.
      */
-    private static void traverse(String path, JsonNode node,
-            String providerName, LinkingSet result, JsonDebugLevel debugLevel) {
-        if (node == null) {
-            return;
-        }
-
-        if (node.isObject()) {
-            try {
-                String key = node.getObjectId(providerName);
-                if (key != null) {
-                    final LinkNodeEntry linkNodeEntry = new LinkNodeEntry(node, key, path);
-                    result.getObjectIdMap().put(key, linkNodeEntry);
-                }
-            } catch (JsonParseException ex) {
-                result.registerException(path, node, ex);
-                LOG.log(Level.WARNING, "Could not read _woodObjectId as text.", ex);
+    static WoodNodeCollector collect(JsonTape tape) {
+        final WoodNodeCollector woods = new WoodNodeCollector();
+        final int length = tape.getTapeLength();
+        int p = tape.root();
+        while (p < length) {
+            if (tape.isKey(p)) {
+                p = tape.valueOf(p);
+                continue;
             }
-
-            try {
-                String normalizedKey = node.getLink(providerName);
-                if (normalizedKey != null) {
-                    final LinkNodeEntry linkNodeEntry = new LinkNodeEntry(node, normalizedKey, path);
-                    result.getLinkMap().put(normalizedKey, linkNodeEntry);
+            final JsonNodeType type = tape.getType(p);
+            if (type == JsonNodeType.OBJECT) {
+                JsonNode object = null;
+                final int end = tape.next(p);
+                for (int k = tape.firstChild(p); k < end; k = tape.next(tape.valueOf(k))) {
+                    if (tape.keyEquals(k, TERM_WOOD_OBJECT_ID) || tape.keyEquals(k, TERM_WOOD_LINK)
+                            || tape.keyEquals(k, TERM_WOOD_PROVIDERS)) {
+                        if (object == null) {
+                            object = tape.node(p);
+                        }
+                        woods.member(object, tape.getKey(k));
+                    }
                 }
-            } catch (JsonParseException ex) {
-                result.registerException(path, node, ex);
-                LOG.log(Level.WARNING, "Could not read _woodLink as text.", ex);
             }
+            p = type == JsonNodeType.OBJECT || type == JsonNodeType.ARRAY ? tape.firstChild(p) : tape.next(p);
+        }
+        return woods;
+    }
 
-            Map<String, JsonNode> children = node.asObjectValues();
-            if (children == null || children.isEmpty()) {
-                return;
+    /**
+     * Registers the object ID and the link of an object node in the linking set.
+     *
+     * @param cursor the cursor positioned at the node, for its path.
+     * @param node the current object node.
+     * @param providerName the provider name for object ID normalization.
+     * @param result the LinkingSet to populate.
+     */
+    private static void visit(JsonTreeCursor cursor, JsonNode node, String providerName, LinkingSet result) {
+        try {
+            String key = node.getObjectId(providerName);
+            if (key != null) {
+                final LinkNodeEntry linkNodeEntry = new LinkNodeEntry(node, key, cursor.getPath());
+                result.getObjectIdMap().put(key, linkNodeEntry);
             }
-            children.forEach((key, childNode) -> {
-                String childPath = path + "." + key;
-                traverse(childPath, childNode, providerName, result, debugLevel);
-            });
-
-            return;
+        } catch (JsonParseException ex) {
+            result.registerException(cursor.getPath(), node, ex);
+            LOG.log(Level.WARNING, "Could not read _woodObjectId as text.", ex);
         }
 
-        if (node.isArray()) {
-            List<JsonNode> array = node.asArray();
-            for (int i = 0; i < array.size(); i++) {
-                final JsonNode childNode = array.get(i);
-                String childPath = path + "[" + i + "]";
-                traverse(childPath, childNode, providerName, result, debugLevel);
+        try {
+            String normalizedKey = node.getLink(providerName);
+            if (normalizedKey != null) {
+                final LinkNodeEntry linkNodeEntry = new LinkNodeEntry(node, normalizedKey, cursor.getPath());
+                result.getLinkMap().put(normalizedKey, linkNodeEntry);
             }
+        } catch (JsonParseException ex) {
+            result.registerException(cursor.getPath(), node, ex);
+            LOG.log(Level.WARNING, "Could not read _woodLink as text.", ex);
         }
     }
 
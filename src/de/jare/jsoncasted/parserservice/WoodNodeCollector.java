@@ -0,0 +1,126 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_LINK;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_OBJECT_ID;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_PROVIDERS;
+import de.jare.jsoncasted.lang.JsonTreeCursor;
+import de.jare.jsoncasted.lang.LinkNodeEntry;
+import de.jare.jsoncasted.lang.LinkingSet;
+import de.jare.jsoncasted.lang.calculator.JsonWoodProviderScanResult;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Collects the objects carrying wood terms while they are parsed.
+ *
+ * <p>
+ * The parsers report every member they add to an object (see
+ * {@link ParseStreamReader#setWoodCollector(WoodNodeCollector)}). Objects with a
+ * {@code _woodProviders}, {@code _woodObjectId} or {@code _woodLink} member are kept in
+ * the order their first wood member was read. After parsing, the scan result of
+ * {@link de.jare.jsoncasted.lang.calculator.JsonWoodProviderScanner} and the linking set
+ * of {@link WoodIdFinder} are built from these objects alone, so the tree is not
+ * traversed again. The paths of the entries are only searched in the tree when they
+ * are requested, e.g. for an exception entry.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+final class WoodNodeCollector {
+
+    private static final Logger LOG = Logger.getLogger(WoodNodeCollector.class.getName());
+
+    private final List<JsonNode> objects = new ArrayList<>();
+    private final Map<JsonNode, Boolean> known = new IdentityHashMap<>();
+
+    /**
+     * Reports a member added to an object.
+     *
+     * @param object the object node.
+     * @param key the member name.
+     */
+    void member(JsonNode object, String key) {
+        if (key.length() > 5 && key.charAt(0) == '_' && isWoodTerm(key) && known.put(object, Boolean.TRUE) == null) {
+            objects.add(object);
+        }
+    }
+
+    private static boolean isWoodTerm(String key) {
+        return TERM_WOOD_OBJECT_ID.equals(key) || TERM_WOOD_LINK.equals(key) || TERM_WOOD_PROVIDERS.equals(key);
+    }
+
+    /**
+     * Checks if no object with a wood term was reported.
+     *
+     * @return {@code true} if nothing was collected.
+     */
+    boolean isEmpty() {
+        return objects.isEmpty();
+    }
+
+    /**
+     * Builds the provider scan result from the collected objects.
+     *
+     * @param root the root of the parsed tree, for the paths.
+     * @return the scan result.
+     */
+    JsonWoodProviderScanResult scanResult(JsonNode root) {
+        final JsonWoodProviderScanResult result = new JsonWoodProviderScanResult();
+        for (JsonNode object : objects) {
+            final JsonNode providers = object.asObjectValues().get(TERM_WOOD_PROVIDERS);
+            if (providers != null) {
+                result.registerProviderNode(providers, path(root, object));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Builds the linking set from the collected objects.
+     *
+     * @param root the root of the parsed tree, for the paths.
+     * @param providerName the provider name for this resource.
+     * @return the linking set with all object IDs and links.
+     */
+    LinkingSet linkingSet(JsonNode root, String providerName) {
+        final LinkingSet result = new LinkingSet(providerName);
+        for (JsonNode object : objects) {
+            try {
+                final String key = object.getObjectId(providerName);
+                if (key != null) {
+                    result.getObjectIdMap().put(key, new LinkNodeEntry(object, key, path(root, object)));
+                }
+            } catch (JsonParseException ex) {
+                result.registerException(path(root, object).get(), object, ex);
+                LOG.log(Level.WARNING, "Could not read _woodObjectId as text.", ex);
+            }
+            try {
+                final String normalizedKey = object.getLink(providerName);
+                if (normalizedKey != null) {
+                    result.getLinkMap().put(normalizedKey, new LinkNodeEntry(object, normalizedKey, path(root, object)));
+                }
+            } catch (JsonParseException ex) {
+                result.registerException(path(root, object).get(), object, ex);
+                LOG.log(Level.WARNING, "Could not read _woodLink as text.", ex);
+            }
+        }
+        return result;
+    }
+
+    private static Supplier<String> path(JsonNode root, JsonNode object) {
+        return () -> JsonTreeCursor.pathOf(root, object);
+    }
+
+}
@@ -0,0 +1,186 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserwriter;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.item.JsonItem;
+import de.jare.jsoncasted.item.builder.JsonBuilder;
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.model.JsonBuildException;
+import de.jare.jsoncasted.model.JsonModel;
+import de.jare.jsoncasted.model.descriptor.JsonModelDescriptor;
+import de.jare.jsoncasted.parserservice.JsonToken;
+import de.jare.jsoncasted.parserservice.JsonTokenReader;
+import de.jare.jsoncasted.parserservice.ParseStreamReader;
+import de.jare.jsoncasted.parserservice.RootParser;
+import de.jare.jsoncasted.pconvertservice.RootConverter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over the built Java objects of the top-level array of a JSON document.
+ *
+ * <p>
+ * Each element is read with a {@link JsonTokenReader}, converted by
+ * {@link RootConverter} into a {@link JsonItem} and built by {@link JsonBuilder}. Only
+ * one element exists as JsonNode, JsonItem and Java object at a time, so the memory
+ * needed does not grow with the length of the array. Wood links are resolved within
+ * each element. If the root is not an array, the root itself is the only element.</p>
+ *
+ * <p>
+ * Errors surface as {@link JsonStreamException}. The underlying source is closed when
+ * the last element has been read or when {@link #close()} is called.</p>
+ *
+ * @param <T> the type of the built elements.
+ * @author Janusch Rentenatus
+ */
+public class JsonElementIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final JsonTokenReader tokenReader;
+    private final Closeable source;
+    private final String resourceName;
+    private final JsonModelDescriptor descriptor;
+    private final JsonModel model;
+    private final String elementType;
+    private final Class<T> type;
+    private final JsonDebugLevel debugLevel;
+    private boolean started;
+    private boolean inArray;
+    private boolean finished;
+    private JsonToken lookahead;
+    private int index;
+
+    /**
+     * Constructs an iterator over the elements read from the specified stream reader.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param source the source to close at the end, or {@code null}.
+     * @param resourceName the name of the resource used for each element.
+     * @param definition the item definition containing model and descriptor.
+     * @param elementType the name of the element type for type resolution.
+     * @param type the Java type of the built elements.
+     * @param debugLevel the debug level for controlling debug output.
+     */
+    public JsonElementIterator(ParseStreamReader psr, Closeable source, String resourceName,
+            JsonItemDefinition definition, String elementType, Class<T> type, JsonDebugLevel debugLevel) {
+        this.tokenReader = new JsonTokenReader(psr);
+        this.source = source;
+        this.resourceName = resourceName;
+        this.descriptor = definition.getDescriptor();
+        this.model = definition.getModel();
+        this.elementType = elementType;
+        this.type = type;
+        this.debugLevel = debugLevel == null ? JsonDebugLevel.SIMPLE : debugLevel;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!finished && lookahead == null) {
+            advance();
+        }
+        return !finished;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            JsonNode node = tokenReader.readNode();
+            lookahead = null;
+            return build(node);
+        } catch (IOException | JsonParseException ex) {
+            throw fail(ex);
+        } finally {
+            index++;
+        }
+    }
+
+    /**
+     * Reads the first token of the next element.
+     */
+    private void advance() {
+        try {
+            JsonToken t;
+            if (!started) {
+                started = true;
+                t = tokenReader.nextToken();
+                if (t == JsonToken.START_ARRAY) {
+                    inArray = true;
+                    t = tokenReader.nextToken();
+                }
+            } else {
+                t = inArray ? tokenReader.nextToken() : null;
+            }
+            if (t == null || t == JsonToken.END_ARRAY) {
+                close();
+                return;
+            }
+            lookahead = t;
+        } catch (IOException | JsonParseException ex) {
+            throw fail(ex);
+        }
+    }
+
+    /**
+     * Converts and builds one element.
+     *
+     * @param node the element node.
+     * @return the built element.
+     * @throws JsonParseException if the conversion fails.
+     */
+    private T build(JsonNode node) throws JsonParseException {
+        JsonResource res = RootParser.analyze(node, JsonResource.forFile(resourceName), debugLevel);
+        JsonItem item = RootConverter.convert(res, elementType, descriptor, debugLevel);
+        if (item == null) {
+            throw new JsonParseException("Element " + index + " cannot be converted to " + elementType + ".");
+        }
+        try {
+            return type.cast(JsonBuilder.buildInstance(model, true, item));
+        } catch (JsonBuildException | ClassCastException ex) {
+            throw fail(ex);
+        }
+    }
+
+    private JsonStreamException fail(Exception ex) {
+        close();
+        return new JsonStreamException("Element " + index + " of " + resourceName + ": " + ex.getMessage(), ex);
+    }
+
+    /**
+     * Returns the number of elements returned so far.
+     *
+     * @return the element count.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Closes the underlying source. Further calls to {@link #hasNext()} return {@code false}.
+     */
+    @Override
+    public void close() {
+        if (finished) {
+            return;
+        }
+        finished = true;
+        lookahead = null;
+        if (source != null) {
+            try {
+                source.close();
+            } catch (IOException ex) {
+                throw new JsonStreamException("Cannot close " + resourceName + ".", ex);
+            }
+        }
+    }
+
+}
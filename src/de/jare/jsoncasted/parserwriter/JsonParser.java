@@ -9,14 +9,32 @@ package de.jare.jsoncasted.parserwriter;
 
 import de.jare.debug.JsonDebugLevel;
 import de.jare.jsoncasted.item.JsonItem;
+import de.jare.jsoncasted.item.builder.BuilderService;
+import de.jare.jsoncasted.item.builder.JsonBuilder;
 import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.model.JsonBuildException;
 import de.jare.jsoncasted.model.descriptor.JsonModelDescriptor;
 import de.jare.jsoncasted.model.item.JsonClass;
+import de.jare.jsoncasted.parserservice.JsonFieldFilter;
 import de.jare.jsoncasted.parserservice.JsonParserService;
+import de.jare.jsoncasted.parserservice.ParseStreamReader;
+import de.jare.jsoncasted.parserservice.Utf8ParseStreamReader;
+import de.jare.jsoncasted.pconvertservice.JsonItemReader;
+import de.jare.jsoncasted.pconvertservice.JsonWoodTermException;
 import de.jare.jsoncasted.pconvertservice.RootConverter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * The JsonParser class provides static methods for parsing JSON data from
@@ -76,6 +94,92 @@ public class JsonParser {
         return parse(res, descriptor, root, debugLevel);
     }
 
+    /**
+     * Parses JSON from a file and converts it to a JsonItem. Object members that are
+     * not fields of the model are skipped while parsing (see {@link JsonFieldFilter}),
+     * so no nodes are created for them.
+     *
+     * @param file The file containing UTF-8 encoded JSON data to parse.
+     * @param descriptor The model descriptor containing type definitions.
+     * @param root The name of the root class for type resolution.
+     * @param debugLevel The debug level for controlling debug output.
+     * @return The parsed JsonItem.
+     * @throws JsonParseException If parsing fails.
+     * @throws IOException If I/O errors occur.
+     */
+    public static JsonItem parseKnownFields(File file, JsonModelDescriptor descriptor, String root, JsonDebugLevel debugLevel) throws JsonParseException, IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            JsonResource res = JsonParserService.parse(in, JsonResource.forFile(file.getPath()),
+                    JsonFieldFilter.of(descriptor, root), debugLevel);
+            return parse(res, descriptor, root, debugLevel);
+        }
+    }
+
+    /**
+     * Parses JSON from a string and converts it to a JsonItem while parsing, without
+     * building the JsonNode tree (see {@link JsonItemReader}). Documents using wood
+     * terms are parsed again with {@link #parse(String, JsonModelDescriptor, String, JsonDebugLevel)}.
+     *
+     * @param s The JSON string to parse.
+     * @param descriptor The model descriptor containing type definitions.
+     * @param root The name of the root class for type resolution.
+     * @param debugLevel The debug level for controlling debug output.
+     * @return The parsed JsonItem.
+     * @throws JsonParseException If parsing fails.
+     * @throws IOException If I/O errors occur.
+     */
+    public static JsonItem parseDirect(String s, JsonModelDescriptor descriptor, String root, JsonDebugLevel debugLevel) throws JsonParseException, IOException {
+        try {
+            return JsonItemReader.read(new ParseStreamReader(new StringReader(s), debugLevel), root, descriptor, debugLevel);
+        } catch (JsonWoodTermException ex) {
+            return parse(s, descriptor, root, debugLevel);
+        }
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON from a file and converts it to a JsonItem while parsing,
+     * without building the JsonNode tree (see {@link JsonItemReader}). Files using wood
+     * terms are parsed again with {@link #parse(File, JsonModelDescriptor, String, JsonDebugLevel)}.
+     *
+     * @param file The file containing UTF-8 encoded JSON data to parse.
+     * @param descriptor The model descriptor containing type definitions.
+     * @param root The name of the root class for type resolution.
+     * @param debugLevel The debug level for controlling debug output.
+     * @return The parsed JsonItem.
+     * @throws JsonParseException If parsing fails.
+     * @throws IOException If I/O errors occur.
+     */
+    public static JsonItem parseDirect(File file, JsonModelDescriptor descriptor, String root, JsonDebugLevel debugLevel) throws JsonParseException, IOException {
+        try (InputStream in = new FileInputStream(file)) {
+            return JsonItemReader.read(new Utf8ParseStreamReader(in, debugLevel), root, descriptor, debugLevel);
+        } catch (JsonWoodTermException ex) {
+            return parse(file, descriptor, root, debugLevel);
+        }
+    }
+
+    /**
+     * Parses a UTF-8 encoded JSON Lines file and converts every document to a
+     * JsonItem. The lines are parsed in batches on the threads of the pool, if one is
+     * given, and converted in the order of the lines.
+     *
+     * @param file The file containing one JSON document per line.
+     * @param descriptor The model descriptor containing type definitions.
+     * @param root The name of the root class of every document.
+     * @param pool The pool running the line parsers, or {@code null} to parse sequentially.
+     * @param debugLevel The debug level for controlling debug output.
+     * @return One JsonItem per document.
+     * @throws JsonParseException If parsing fails.
+     * @throws IOException If I/O errors occur.
+     */
+    public static List<JsonItem> parseLines(File file, JsonModelDescriptor descriptor, String root, ForkJoinPool pool, JsonDebugLevel debugLevel) throws JsonParseException, IOException {
+        List<JsonResource> resources = JsonParserService.parseLines(file, pool, debugLevel);
+        List<JsonItem> items = new ArrayList<>(resources.size());
+        for (JsonResource res : resources) {
+            items.add(parse(res, descriptor, root, debugLevel));
+        }
+        return items;
+    }
+
     /**
      * Parses a JSON resource and converts it to a JsonItem.
      *
@@ -197,4 +301,146 @@ public class JsonParser {
         return parse(file, definition.getDescriptor(), root.getcName());
     }
 
+    /**
+     * Parses JSON from a string and builds its Java object while parsing. Objects and
+     * arrays are built as soon as they are read (see
+     * {@link JsonItemReader#build(ParseStreamReader, String, JsonModelDescriptor, BuilderService, JsonDebugLevel)}),
+     * so neither the JsonNode tree nor the JsonItem tree of the document is kept.
+     * Documents using wood terms are parsed again with
+     * {@link #parse(String, JsonModelDescriptor, String, JsonDebugLevel)} and built by
+     * {@link JsonBuilder}.
+     *
+     * @param s The JSON string to parse.
+     * @param definition The item definition containing model and descriptor.
+     * @param root The JsonClass to use as the root.
+     * @param throwClassEx If true, throws exceptions when classes are not found.
+     * @param debugLevel The debug level for controlling debug output.
+     * @return The built Java object.
+     * @throws JsonParseException If parsing fails.
+     * @throws IOException If I/O errors occur.
+     * @throws JsonBuildException If object construction fails.
+     */
+    public static Object parseInstance(String s, JsonItemDefinition definition, JsonClass root, boolean throwClassEx, JsonDebugLevel debugLevel) throws JsonParseException, IOException, JsonBuildException {
+        try {
+            return JsonItemReader.build(new ParseStreamReader(new StringReader(s), debugLevel), root.getcName(),
+                    definition.getDescriptor(), new BuilderService(definition.getModel(), throwClassEx), debugLevel);
+        } catch (JsonWoodTermException ex) {
+            return JsonBuilder.buildInstance(definition.getModel(), throwClassEx,
+                    parse(s, definition.getDescriptor(), root.getcName(), debugLevel));
+        }
+    }
+
+    /**
+     * Parses UTF-8 encoded JSON from a file and builds its Java object while parsing,
+     * see {@link #parseInstance(String, JsonItemDefinition, JsonClass, boolean, JsonDebugLevel)}.
+     * Files using wood terms are parsed again with
+     * {@link #parse(File, JsonModelDescriptor, String, JsonDebugLevel)}.
+     *
+     * @param file The file containing UTF-8 encoded JSON data to parse.
+     * @param definition The item definition containing model and descriptor.
+     * @param root The JsonClass to use as the root.
+     * @param throwClassEx If true, throws exceptions when classes are not found.
+     * @param debugLevel The debug level for controlling debug output.
+     * @return The built Java object.
+     * @throws JsonParseException If parsing fails.
+     * @throws IOException If I/O errors occur.
+     * @throws JsonBuildException If object construction fails.
+     */
+    public static Object parseInstance(File file, JsonItemDefinition definition, JsonClass root, boolean throwClassEx, JsonDebugLevel debugLevel) throws JsonParseException, IOException, JsonBuildException {
+        try (InputStream in = new FileInputStream(file)) {
+            return JsonItemReader.build(new Utf8ParseStreamReader(in, debugLevel), root.getcName(),
+                    definition.getDescriptor(), new BuilderService(definition.getModel(), throwClassEx), debugLevel);
+        } catch (JsonWoodTermException ex) {
+            return JsonBuilder.buildInstance(definition.getModel(), throwClassEx,
+                    parse(file, definition.getDescriptor(), root.getcName(), debugLevel));
+        }
+    }
+
+    /**
+     * Parses JSON from a string and builds its Java object while parsing. Uses the
+     * default debug level (SIMPLE) and throws exceptions when classes are not found.
+     *
+     * @param s The JSON string to parse.
+     * @param definition The item definition containing model and descriptor.
+     * @param root The JsonClass to use as the root.
+     * @return The built Java object.
+     * @throws JsonParseException If parsing fails.
+     * @throws IOException If I/O errors occur.
+     * @throws JsonBuildException If object construction fails.
+     */
+    public static Object parseInstance(String s, JsonItemDefinition definition, JsonClass root) throws JsonParseException, IOException, JsonBuildException {
+        return parseInstance(s, definition, root, true, JsonDebugLevel.SIMPLE);
+    }
+
+    /**
+     * Returns an iterator over the built Java objects of the top-level array in a
+     * file. Elements are parsed, converted and built one at a time, so the memory needed
+     * does not depend on the length of the array. The iterator should be closed if it is
+     * not read to the end.
+     *
+     * @param <T> the type of the built elements.
+     * @param file The file containing a JSON array.
+     * @param definition The item definition containing model and descriptor.
+     * @param elementType The name of the element class for type resolution.
+     * @param type The Java type of the built elements.
+     * @param debugLevel The debug level for controlling debug output.
+     * @return The element iterator.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static <T> JsonElementIterator<T> iterator(File file, JsonItemDefinition definition, String elementType, Class<T> type, JsonDebugLevel debugLevel) throws IOException {
+        InputStream in = new FileInputStream(file);
+        return new JsonElementIterator<>(new Utf8ParseStreamReader(in, debugLevel), in, file.getPath(),
+                definition, elementType, type, debugLevel);
+    }
+
+    /**
+     * Returns a sequential stream of the built Java objects of the top-level array in a
+     * file. Elements are parsed, converted and built lazily, one at a time. Use the
+     * stream in a try-with-resources statement to close the file.
+     *
+     * @param <T> the type of the built elements.
+     * @param file The file containing a JSON array.
+     * @param definition The item definition containing model and descriptor.
+     * @param elementType The name of the element class for type resolution.
+     * @param type The Java type of the built elements.
+     * @param debugLevel The debug level for controlling debug output.
+     * @return The stream of built elements.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static <T> Stream<T> stream(File file, JsonItemDefinition definition, String elementType, Class<T> type, JsonDebugLevel debugLevel) throws IOException {
+        JsonElementIterator<T> it = iterator(file, definition, elementType, type, debugLevel);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(it, Spliterator.ORDERED), false)
+                .onClose(it::close);
+    }
+
+    /**
+     * Returns a sequential stream of the built Java objects of the top-level array in a
+     * file. Uses the default debug level (SIMPLE).
+     *
+     * @param file The file containing a JSON array.
+     * @param definition The item definition containing model and descriptor.
+     * @param elementType The JsonClass of the elements.
+     * @return The stream of built elements.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static Stream<Object> stream(File file, JsonItemDefinition definition, JsonClass elementType) throws IOException {
+        return stream(file, definition, elementType.getcName(), Object.class, JsonDebugLevel.SIMPLE);
+    }
+
+    /**
+     * Returns a sequential stream of the built Java objects of the top-level array in a
+     * file. Uses the type name of the specified Class object as the element type.
+     *
+     * @param <T> the type of the built elements.
+     * @param file The file containing a JSON array.
+     * @param definition The item definition containing model and descriptor.
+     * @param type The Java type of the built elements, also used as element type name.
+     * @param debugLevel The debug level for controlling debug output.
+     * @return The stream of built elements.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static <T> Stream<T> stream(File file, JsonItemDefinition definition, Class<T> type, JsonDebugLevel debugLevel) throws IOException {
+        return stream(file, definition, type.getTypeName(), type, debugLevel);
+    }
+
 }
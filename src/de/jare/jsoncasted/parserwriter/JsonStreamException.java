@@ -0,0 +1,35 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserwriter;
+
+/**
+ * Unchecked exception thrown by streaming iterators when reading, converting or
+ * building an element fails.
+ *
+ * <p>
+ * {@link java.util.Iterator} and {@link java.util.stream.Stream} do not allow checked
+ * exceptions, so the original {@link JsonParseException},
+ * {@link de.jare.jsoncasted.model.JsonBuildException} or {@link java.io.IOException} is
+ * available as the cause.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonStreamException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a JsonStreamException with a specified error message and cause.
+     *
+     * @param message the error message describing the failure.
+     * @param cause the underlying checked exception.
+     */
+    public JsonStreamException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
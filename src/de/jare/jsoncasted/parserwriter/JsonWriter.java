@@ -7,6 +7,7 @@
  */
 package de.jare.jsoncasted.parserwriter;
 
+import de.jare.jsoncasted.model.JsonType;
 import de.jare.jsoncasted.model.item.JsonClass;
 import de.jare.jsoncasted.writer.inner.RootObjectWriter;
 import java.io.ByteArrayOutputStream;
@@ -14,8 +15,10 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -152,4 +155,42 @@ public class JsonWriter {
         }
     }
 
+    /**
+     * Serializes objects as JSON Lines: each object is written compactly on a line of
+     * its own, terminated by {@code \n}. The output is UTF-8 encoded and the stream is
+     * closed afterwards.
+     *
+     * @param obs The objects to serialize.
+     * @param out The output stream to write the JSON Lines output.
+     * @param definition The JSON item definition containing model information.
+     * @param root The declared JSON type of each object, e.g. an interface, or {@code null}.
+     * @throws IOException If an I/O error occurs during writing.
+     * @throws JsonParseException If parsing fails during serialization.
+     */
+    public static void writeLines(Iterable<?> obs, OutputStream out, JsonItemDefinition definition, JsonType root) throws IOException, JsonParseException {
+        try (PrintWriter prn = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8))) {
+            RootObjectWriter writer = new RootObjectWriter(definition, root);
+            writer.setCompact(true);
+            for (Object ob : obs) {
+                writer.write(prn, ob);
+                prn.print('\n');
+            }
+            prn.flush();
+        }
+    }
+
+    /**
+     * Serializes objects as JSON Lines and writes them to a file.
+     *
+     * @param obs The objects to serialize.
+     * @param file The target file to write the JSON Lines output.
+     * @param definition The JSON item definition containing model information.
+     * @param root The declared JSON type of each object, e.g. an interface, or {@code null}.
+     * @throws JsonParseException If parsing fails during serialization.
+     * @throws IOException If an I/O error occurs during writing.
+     */
+    public static void writeLines(Iterable<?> obs, File file, JsonItemDefinition definition, JsonType root) throws JsonParseException, IOException {
+        writeLines(obs, new FileOutputStream(file), definition, root);
+    }
+
 }
@@ -0,0 +1,512 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.pconvertservice;
+
+import de.jare.debug.DebugTuple;
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.item.JsonBuilt;
+import de.jare.jsoncasted.item.JsonItem;
+import de.jare.jsoncasted.item.JsonList;
+import de.jare.jsoncasted.item.JsonObject;
+import de.jare.jsoncasted.item.JsonValue;
+import de.jare.jsoncasted.item.builder.BuilderService;
+import de.jare.jsoncasted.lang.JsonNode;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_CLASS;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_LINK;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_OBJECT_ID;
+import static de.jare.jsoncasted.lang.JsonTerms.TERM_WOOD_PROVIDERS;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.lang.JsonTreeCursor;
+import de.jare.jsoncasted.lang.LinkingSet;
+import de.jare.jsoncasted.model.JsonBuildException;
+import de.jare.jsoncasted.model.descriptor.JsonFieldDescriptor;
+import de.jare.jsoncasted.model.descriptor.JsonModelDescriptor;
+import de.jare.jsoncasted.model.descriptor.JsonTypeDescriptor;
+import de.jare.jsoncasted.parserservice.JsonToken;
+import de.jare.jsoncasted.parserservice.JsonTokenReader;
+import de.jare.jsoncasted.parserservice.ParseStreamReader;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Reader converting a document into JsonItems while it is parsed, without building
+ * the JsonNode tree first.
+ *
+ * <p>
+ * The reader pulls tokens from a {@link JsonTokenReader} and looks up the
+ * {@link JsonTypeDescriptor} of every value as it is read. Objects become
+ * {@link JsonObject}s, arrays {@link JsonList}s and scalars {@link de.jare.jsoncasted.item.JsonValue}s,
+ * with the same field lookup, cast rules and conversion errors as
+ * {@link JsonNodeConverter} and {@link JsonObjectConverter}. Members the type does not
+ * know are skipped without creating nodes.</p>
+ *
+ * <p>
+ * A cast must be known before the members of an object are converted. It is, if the
+ * object is written with a cast {@code (Type){...}} or its first member is
+ * {@code _class}, as the writers of this library do, or if the declared type has
+ * neither implementors nor subtypes. Otherwise this one object is read as a JsonNode
+ * and converted by {@link JsonNodeConverter}.</p>
+ *
+ * <p>
+ * Documents using {@code _woodProviders}, {@code _woodObjectId} or {@code _woodLink}
+ * need the wood resolution, which works on the complete JsonNode tree. For them a
+ * {@link JsonWoodTermException} is thrown; the caller reads the document again with
+ * the JsonNode pipeline.</p>
+ *
+ * <p>
+ * With {@link #build(ParseStreamReader, String, JsonModelDescriptor, BuilderService, JsonDebugLevel)}
+ * every object and array is built by the {@link BuilderService} as soon as its end is
+ * read and replaced by a {@link JsonBuilt}. Only the items of the objects still open
+ * are kept, not the items of the whole document.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public final class JsonItemReader {
+
+    private final JsonTokenReader tr;
+    private final ConvertService service;
+    private final BuilderService builderService;
+    private final Map<JsonTypeDescriptor, Boolean> castable = new IdentityHashMap<>();
+    private JsonParseException syntaxError;
+    private JsonParseException buildFailure;
+
+    private JsonItemReader(JsonTokenReader tr, ConvertService service, BuilderService builderService) {
+        this.tr = tr;
+        this.service = service;
+        this.builderService = builderService;
+    }
+
+    /**
+     * Reads a document and converts it into a JsonItem.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param cName the name of the root class.
+     * @param descriptor the model descriptor containing type definitions.
+     * @param debugLevel the debug level for controlling debug output.
+     * @return the converted JsonItem, or {@code null} if the document is empty or the
+     * root class is not described.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonWoodTermException if the document uses a wood term.
+     * @throws JsonParseException if parsing or conversion fails.
+     */
+    public static JsonItem read(ParseStreamReader psr, String cName, JsonModelDescriptor descriptor,
+            JsonDebugLevel debugLevel) throws IOException, JsonParseException {
+        final JsonTypeDescriptor contextClass = descriptor.getType(cName);
+        if (contextClass == null) {
+            return null;
+        }
+        final JsonItemReader reader = create(psr, descriptor, null, debugLevel);
+        if (reader.next() == null) {
+            return null;
+        }
+        return reader.value(contextClass, null, null);
+    }
+
+    /**
+     * Reads a document and builds its Java object while it is parsed.
+     *
+     * @param psr the ParseStreamReader providing character input.
+     * @param cName the name of the root class.
+     * @param descriptor the model descriptor containing type definitions.
+     * @param builderService the builder service creating the objects.
+     * @param debugLevel the debug level for controlling debug output.
+     * @return the built object, or {@code null} if the document is empty or the root
+     * class is not described.
+     * @throws IOException if an I/O error occurs.
+     * @throws JsonWoodTermException if the document uses a wood term.
+     * @throws JsonParseException if parsing or conversion fails.
+     * @throws JsonBuildException if object construction fails.
+     */
+    public static Object build(ParseStreamReader psr, String cName, JsonModelDescriptor descriptor,
+            BuilderService builderService, JsonDebugLevel debugLevel)
+            throws IOException, JsonParseException, JsonBuildException {
+        final JsonTypeDescriptor contextClass = descriptor.getType(cName);
+        if (contextClass == null) {
+            return null;
+        }
+        final JsonItemReader reader = create(psr, descriptor, builderService, debugLevel);
+        try {
+            if (reader.next() == null) {
+                return null;
+            }
+            return builderService.build(reader.value(contextClass, null, null));
+        } catch (JsonParseException ex) {
+            if (ex == reader.buildFailure) {
+                throw (JsonBuildException) ex.getCause();
+            }
+            throw ex;
+        }
+    }
+
+    private static JsonItemReader create(ParseStreamReader psr, JsonModelDescriptor descriptor,
+            BuilderService builderService, JsonDebugLevel debugLevel) {
+        final JsonResource res = JsonResource.empty();
+        res.setLinkingSet(new LinkingSet(res.getProviderName()));
+        return new JsonItemReader(new JsonTokenReader(psr),
+                new ConvertService(res, descriptor, new WoodResolution(), debugLevel), builderService);
+    }
+
+    /**
+     * Converts the value starting at the current token.
+     *
+     * @param type the declared type of the value.
+     * @param ownerClass the type of the object holding the value, or {@code null} if the
+     * value is not converted for a field (root, array item, map entry).
+     * @param paramName the field name.
+     * @return the JsonItem, or {@code null} if the field is skipped.
+     */
+    private JsonItem value(JsonTypeDescriptor type, JsonTypeDescriptor ownerClass, String paramName)
+            throws IOException, JsonParseException {
+        final JsonToken t = tr.currentToken();
+        if (t == JsonToken.CAST || t == JsonToken.START_OBJECT) {
+            return built(object(type, ownerClass, paramName));
+        }
+        JsonTypeDescriptor casted = type;
+        if (ownerClass != null) {
+            casted = JsonObjectConverter.castOrGet(ownerClass, type, null, paramName, service);
+            if (casted == null) {
+                tr.skipChildren();
+                return null;
+            }
+        }
+        if (t == JsonToken.START_ARRAY) {
+            return built(list(casted, false));
+        }
+        return JsonNodeConverter.convert(tr.getValueNode(), casted, service);
+    }
+
+    /**
+     * Converts the items of the array starting at the current token.
+     */
+    private JsonItem list(JsonTypeDescriptor contextClass, boolean asList) throws IOException, JsonParseException {
+        final ArrayList<JsonItem> list = new ArrayList<>();
+        final int outside = tr.getDepth() - 1;
+        while (next() != JsonToken.END_ARRAY) {
+            try {
+                list.add(value(contextClass, null, null));
+            } catch (JsonParseException ex) {
+                if (!isFatal(ex)) {
+                    // the items are not converted any further, as in JsonNodeConverter
+                    while (tr.currentToken() != JsonToken.END_ARRAY || tr.getDepth() != outside) {
+                        tr.skipChildren();
+                        next();
+                    }
+                }
+                throw ex;
+            }
+        }
+        return new JsonList(list, asList, contextClass);
+    }
+
+    /**
+     * Converts the object starting at the current token.
+     */
+    private JsonItem object(JsonTypeDescriptor type, JsonTypeDescriptor ownerClass, String paramName)
+            throws IOException, JsonParseException {
+        String cast = null;
+        String pending = null;
+        JsonNode classNode = null;
+        final boolean casted = tr.currentToken() == JsonToken.CAST;
+        if (casted) {
+            cast = tr.getText();
+            next();
+        }
+        final boolean open = next() == JsonToken.FIELD_NAME;
+        if (open) {
+            if (!casted && TERM_CLASS.equals(tr.getFieldName())) {
+                next();
+                classNode = tr.readNode();
+                cast = classNode.asText();
+            } else {
+                pending = tr.getFieldName();
+            }
+        }
+        if (cast == null && pending != null && mayCast(type)) {
+            return nodeValue(rest(pending), type, ownerClass, paramName);
+        }
+        JsonTypeDescriptor contextClass = type;
+        if (ownerClass != null) {
+            contextClass = JsonObjectConverter.castOrGet(ownerClass, type, cast, paramName, service);
+            if (contextClass == null) {
+                skipMembers(pending, open);
+                return null;
+            }
+        }
+        if (contextClass == null && cast != null) {
+            contextClass = service.getType(cast);
+        }
+        if (contextClass == null) {
+            skipMembers(pending, open);
+            throw new JsonParseException("No Class.");
+        }
+        final JsonTypeDescriptor castedType = JsonObjectConverter.castOrGet(contextClass, contextClass, cast, "this", service);
+        if (castedType != null) {
+            contextClass = castedType;
+        }
+        final JsonObject myObject = new JsonObject(contextClass);
+        final JsonFieldDescriptor mapping = contextClass.getMappingAllFields();
+        if (mapping != null && classNode != null) {
+            // a map keeps the _class member as an entry, as in JsonObjectConverter
+            mapEntry(myObject, mapping, TERM_CLASS, classNode);
+        }
+        members(myObject, contextClass, pending, open);
+        if (mapping != null && casted) {
+            mapEntry(myObject, mapping, TERM_CLASS, JsonNode.stringNode(cast));
+        }
+        return myObject;
+    }
+
+    private void mapEntry(JsonObject myObject, JsonFieldDescriptor mapping, String paramName, JsonNode node)
+            throws JsonParseException {
+        final JsonTypeDescriptor childType = service.getType(mapping.getTypeName());
+        myObject.putParam(paramName, mapping.isAsListOrArray()
+                ? JsonNodeConverter.convertArray(node, childType, mapping.isAsList(), service)
+                : JsonNodeConverter.convert(node, childType, service));
+    }
+
+    /**
+     * Converts the members of an object up to its end.
+     *
+     * @param myObject the object to fill.
+     * @param contextClass the type of the object.
+     * @param pending the name of a member already read, or {@code null}.
+     * @param open {@code false} if the end of the object was read already.
+     */
+    private void members(JsonObject myObject, JsonTypeDescriptor contextClass, String pending, boolean open)
+            throws IOException, JsonParseException {
+        final ArrayList<JsonParseException> exList = new ArrayList<>();
+        String paramName = pending;
+        boolean more = pending != null || (open && nextMember());
+        while (more) {
+            if (paramName == null) {
+                paramName = tr.getFieldName();
+            }
+            checkWoodTerm(paramName);
+            next();
+            try {
+                calculateParam(myObject, contextClass, paramName);
+            } catch (JsonParseException ex) {
+                if (isFatal(ex)) {
+                    throw ex;
+                }
+                final String name = paramName;
+                service.warning(() -> new DebugTuple(
+                        "[WARNING] " + contextClass.getTypeName() + "." + name
+                        + ": Convert failed.",
+                        ex
+                ));
+                exList.add(ex);
+            }
+            paramName = null;
+            more = nextMember();
+        }
+        if (exList.isEmpty()) {
+            return;
+        }
+        if (exList.size() == 1) {
+            throw exList.get(0);
+        }
+        StringJoiner joiner = new StringJoiner("; ");
+        for (JsonParseException ex : exList) {
+            joiner.add(ex.getMessage());
+        }
+        throw new JsonParseException(joiner.toString(), exList.get(0));
+    }
+
+    /**
+     * Converts the value of a member, see
+     * {@link JsonObjectConverter#calculateParam(String, JsonNode)}.
+     */
+    private void calculateParam(JsonObject myObject, JsonTypeDescriptor contextClass, String paramName)
+            throws IOException, JsonParseException {
+        final JsonFieldDescriptor mapping = contextClass.getMappingAllFields();
+        if (mapping != null) {
+            final JsonTypeDescriptor childType = service.getType(mapping.getTypeName());
+            final JsonItem paramObject = mapping.isAsListOrArray()
+                    ? listParam(childType, null, paramName, mapping.isAsList())
+                    : value(childType, null, null);
+            myObject.putParam(paramName, paramObject);
+            return;
+        }
+        final JsonFieldDescriptor field = contextClass.getField(paramName);
+        if (field == null) {
+            tr.skipChildren();
+            if (!TERM_CLASS.equals(paramName)) {
+                service.info(() -> new DebugTuple("{0}: Field {1} not found.",
+                        contextClass.getTypeName(), paramName)
+                );
+            }
+            return;
+        }
+        final JsonTypeDescriptor childType = service.getType(field.getTypeName());
+        final JsonItem paramObject = field.isAsListOrArray()
+                ? listParam(childType, contextClass, paramName, field.isAsList())
+                : value(childType, contextClass, paramName);
+        if (paramObject != null) {
+            myObject.putParam(paramName, paramObject);
+        }
+    }
+
+    /**
+     * Converts the value of a list or array field.
+     */
+    private JsonItem listParam(JsonTypeDescriptor childType, JsonTypeDescriptor ownerClass, String paramName,
+            boolean asList) throws IOException, JsonParseException {
+        if (tr.currentToken() != JsonToken.START_ARRAY) {
+            final JsonNode node = tr.readNode();
+            checkWoodTerms(node);
+            JsonTypeDescriptor casted = childType;
+            if (ownerClass != null) {
+                final JsonNode cast = node.isObject() ? node.asObjectValues().get(TERM_CLASS) : null;
+                casted = JsonObjectConverter.castOrGet(ownerClass, childType, cast == null ? null : cast.asText(),
+                        paramName, service);
+                if (casted == null) {
+                    return null;
+                }
+            }
+            return built(JsonNodeConverter.convertArray(node, casted, asList, service));
+        }
+        JsonTypeDescriptor casted = childType;
+        if (ownerClass != null) {
+            casted = JsonObjectConverter.castOrGet(ownerClass, childType, null, paramName, service);
+            if (casted == null) {
+                tr.skipChildren();
+                return null;
+            }
+        }
+        return built(list(casted, asList));
+    }
+
+    /**
+     * Converts an object that was read as a JsonNode.
+     */
+    private JsonItem nodeValue(JsonNode node, JsonTypeDescriptor type, JsonTypeDescriptor ownerClass, String paramName)
+            throws JsonParseException {
+        JsonTypeDescriptor casted = type;
+        if (ownerClass != null) {
+            final JsonNode cast = node.asObjectValues().get(TERM_CLASS);
+            casted = JsonObjectConverter.castOrGet(ownerClass, type, cast == null ? null : cast.asText(), paramName, service);
+            if (casted == null) {
+                return null;
+            }
+        }
+        return JsonNodeConverter.convert(node, casted, service);
+    }
+
+    /**
+     * Reads the rest of the current object as a JsonNode.
+     *
+     * @param pending the name of the member already read.
+     */
+    private JsonNode rest(String pending) throws IOException, JsonParseException {
+        final JsonNode node = JsonNode.objectNode();
+        String paramName = pending;
+        do {
+            checkWoodTerm(paramName);
+            next();
+            final JsonNode value = tr.readNode();
+            checkWoodTerms(value);
+            node.put(paramName, value);
+            paramName = nextMember() ? tr.getFieldName() : null;
+        } while (paramName != null);
+        return node;
+    }
+
+    /**
+     * Skips the members of the current object up to its end.
+     *
+     * @param pending the name of a member already read, or {@code null}.
+     * @param open {@code false} if the end of the object was read already.
+     */
+    private void skipMembers(String pending, boolean open) throws IOException, JsonParseException {
+        boolean more = pending != null || (open && nextMember());
+        while (more) {
+            next();
+            tr.skipChildren();
+            more = nextMember();
+        }
+    }
+
+    /**
+     * Moves to the next member name.
+     *
+     * @return {@code false} at the end of the object.
+     */
+    private boolean nextMember() throws IOException, JsonParseException {
+        return next() == JsonToken.FIELD_NAME;
+    }
+
+    /**
+     * Checks if a cast could still change the type of an object whose first member is
+     * not {@code _class}.
+     */
+    private boolean mayCast(JsonTypeDescriptor type) {
+        if (type == null) {
+            return true;
+        }
+        return castable.computeIfAbsent(type, t -> {
+            if (!t.getImplementors().isEmpty()) {
+                return true;
+            }
+            for (JsonTypeDescriptor other : service.getDescriptor().values()) {
+                if (other != t && other.containsSuper(t)) {
+                    return true;
+                }
+            }
+            return false;
+        });
+    }
+
+    private void checkWoodTerm(String name) throws JsonWoodTermException {
+        if (TERM_WOOD_LINK.equals(name) || TERM_WOOD_OBJECT_ID.equals(name) || TERM_WOOD_PROVIDERS.equals(name)) {
+            throw new JsonWoodTermException(tr.getRow(), name);
+        }
+    }
+
+    private void checkWoodTerms(JsonNode node) throws JsonWoodTermException {
+        final JsonTreeCursor cursor = new JsonTreeCursor(node);
+        while (cursor.next()) {
+            if (cursor.getKey() != null) {
+                checkWoodTerm(cursor.getKey());
+            }
+        }
+    }
+
+    /**
+     * Builds the object of a converted object or array, if the reader has a builder
+     * service.
+     */
+    private JsonItem built(JsonItem item) throws JsonParseException {
+        if (builderService == null || item == null || item instanceof JsonValue) {
+            return item;
+        }
+        try {
+            return new JsonBuilt(item.buildInstance(builderService), item.getPrintClassName());
+        } catch (JsonBuildException ex) {
+            buildFailure = new JsonParseException(ex.getMessage(), ex);
+            throw buildFailure;
+        }
+    }
+
+    private boolean isFatal(JsonParseException ex) {
+        return ex == syntaxError || ex == buildFailure || ex instanceof JsonWoodTermException;
+    }
+
+    private JsonToken next() throws IOException, JsonParseException {
+        try {
+            return tr.nextToken();
+        } catch (JsonParseException ex) {
+            syntaxError = ex;
+            throw ex;
+        }
+    }
+
+}
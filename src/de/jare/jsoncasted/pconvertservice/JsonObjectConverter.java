@@ -242,31 +242,49 @@ public class JsonObjectConverter {
      * @return The resolved type descriptor, or null if casting fails.
      */
     public JsonTypeDescriptor castOrGet(JsonTypeDescriptor suspectedType, Map<String, JsonNode> childValues, String paramName) {
-        JsonTypeDescriptor castedChildType = suspectedType;
         final JsonNode cast = childValues == null ? null : childValues.get(TERM_CLASS);
+        return castOrGet(contextClass, suspectedType, cast == null ? null : cast.asText(), paramName, service);
+    }
+
+    /**
+     * Attempts to cast or retrieve the type for a child, given the type name of its
+     * cast. Implements the rules of
+     * {@link #castOrGet(JsonTypeDescriptor, Map, String)} for readers that see the cast
+     * before the rest of the child.
+     *
+     * @param ownerClass The type of the object holding the child, for logging.
+     * @param suspectedType The initially suspected type.
+     * @param cast The type name of the cast, or {@code null} if the child has none.
+     * @param paramName The parameter name for logging.
+     * @param service The convert service for type lookup and logging.
+     * @return The resolved type descriptor, or null if casting fails.
+     */
+    static JsonTypeDescriptor castOrGet(JsonTypeDescriptor ownerClass, JsonTypeDescriptor suspectedType, String cast,
+            String paramName, ConvertService service) {
+        JsonTypeDescriptor castedChildType = suspectedType;
         if (suspectedType == null) {
             if (cast == null) {
                 Logger.getGlobal().log(Level.SEVERE, "{0}.{1}: Missing cast.",
-                        new Object[]{contextClass.getTypeName(), paramName});
+                        new Object[]{ownerClass.getTypeName(), paramName});
                 return null;
             }
-            castedChildType = service.getTypePerceptive(cast.asText());
+            castedChildType = service.getTypePerceptive(cast);
             if (castedChildType == null) {
                 Logger.getGlobal().log(Level.SEVERE, "{0}.{1}: Unknown class: {2}",
-                        new Object[]{contextClass.getTypeName(), paramName, cast.asText()});
+                        new Object[]{ownerClass.getTypeName(), paramName, cast});
                 return null;
             }
             service.info(() -> new DebugTuple("{0}.{1}: Cast used: {2}",
-                    contextClass.getTypeName(), paramName, cast.asText())
+                    ownerClass.getTypeName(), paramName, cast)
             );
         } else if (cast != null) {
             final List<JsonTypeDescriptor> implementors = suspectedType.getImplementors();
-            final JsonTypeDescriptor candidate = service.getTypePerceptive(cast.asText());
+            final JsonTypeDescriptor candidate = service.getTypePerceptive(cast);
             if (implementors.isEmpty()) {
                 if (candidate.containsSuper(suspectedType)) {
 
                     service.info(() -> new DebugTuple("{0}.{1}: Cast used: {2} extends {3}",
-                            contextClass.getTypeName(),
+                            ownerClass.getTypeName(),
                             paramName,
                             candidate.getTypeName(),
                             suspectedType.getTypeName()));
@@ -274,7 +292,7 @@ public class JsonObjectConverter {
                 }
             } else {
                 if (candidate == null) {
-                    Logger.getGlobal().log(Level.SEVERE, "Unknown class: {0}", cast.asText());
+                    Logger.getGlobal().log(Level.SEVERE, "Unknown class: {0}", cast);
                     return null;
                 }
                 castedChildType = null;
@@ -282,7 +300,7 @@ public class JsonObjectConverter {
                     if (im.getTypeName().equals(candidate.getTypeName())) {
                         castedChildType = candidate;
                         service.info(() -> new DebugTuple("{0}.{1}: Cast used: {2} implements {3}",
-                                contextClass.getTypeName(),
+                                ownerClass.getTypeName(),
                                 paramName,
                                 candidate.getTypeName(),
                                 suspectedType.getTypeName()
@@ -292,7 +310,7 @@ public class JsonObjectConverter {
                 }
                 if (castedChildType == null) {
                     Logger.getGlobal().log(Level.SEVERE, "{0}.{1}: Wrong cast: {2} inmplemts {3}",
-                            new Object[]{contextClass.getTypeName(), paramName, cast.asText(), suspectedType.getTypeName()});
+                            new Object[]{ownerClass.getTypeName(), paramName, cast, suspectedType.getTypeName()});
                     return null;
                 }
             }
@@ -0,0 +1,33 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.pconvertservice;
+
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+
+/**
+ * Thrown by {@link JsonItemReader} when a document uses {@code _woodProviders},
+ * {@code _woodObjectId} or {@code _woodLink}. Such documents need the wood resolution
+ * of the JsonNode pipeline and must be read again with
+ * {@link RootConverter#convert}.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonWoodTermException extends JsonParseException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Constructs a JsonWoodTermException for the specified term.
+     *
+     * @param lineNumber the line where the term was found.
+     * @param term the wood term.
+     */
+    public JsonWoodTermException(int lineNumber, String term) {
+        super(lineNumber, "Wood term " + term + " needs the JsonNode pipeline.");
+    }
+
+}
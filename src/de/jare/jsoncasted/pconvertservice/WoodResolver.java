@@ -16,13 +16,11 @@ import de.jare.jsoncasted.lang.LinkNodeEntry;
 import de.jare.jsoncasted.lang.LinkingSet;
 import de.jare.jsoncasted.model.descriptor.JsonModelDescriptor;
 import de.jare.jsoncasted.model.descriptor.JsonTypeDescriptor;
-import de.jare.jsoncasted.parserservice.ParseStreamReader;
-import de.jare.jsoncasted.parserservice.RootParser;
+import de.jare.jsoncasted.parserservice.JsonParserService;
 import de.jare.jsoncasted.parserwriter.JsonParseException;
 import de.jare.jsoncasted.wood.WoodProvider;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -108,7 +106,8 @@ public final class WoodResolver {
     }
 
     /**
-     * Loads a JSON resource from a wood provider.
+     * Loads a JSON resource from a wood provider. The provider file is read as UTF-8; large
+     * provider files are memory-mapped.
      *
      * @param provider The wood provider containing the file information.
      * @param debugLevel The debug level for controlling debug output.
@@ -119,10 +118,9 @@ public final class WoodResolver {
      */
     public static JsonResource load(WoodProvider provider, JsonDebugLevel debugLevel) throws FileNotFoundException, IOException, JsonParseException {
         File file = new File(provider.getFilename());
-        ParseStreamReader psr = new ParseStreamReader(new FileReader(file), debugLevel);
         JsonResource subContainer = JsonResource.forFile(provider.getFilename());
         subContainer.setProviderName(provider.getSynonym());
-        return RootParser.parse(psr, subContainer, debugLevel);
+        return JsonParserService.parse(file, subContainer, JsonParserService.DEFAULT_MAPPING_THRESHOLD, debugLevel);
     }
 
     /**
@@ -0,0 +1,361 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.tools;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * The CompactMap class is an insertion-ordered map for the few members of a JSON
+ * object. Keys and values are stored in two parallel arrays, without an entry object
+ * per member. Up to {@value #LINEAR_LIMIT} members are found by a linear scan; above
+ * that, an open-addressing table of slot numbers is added. Null keys are not
+ * supported.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ * @author Janusch Rentenatus
+ */
+public class CompactMap<K, V> extends AbstractMap<K, V> {
+
+    private static final int LINEAR_LIMIT = 8;
+    private static final Object[] EMPTY = {};
+
+    private Object[] keys = EMPTY;
+    private Object[] values = EMPTY;
+    private int[] table; // slot + 1, or 0 for a free bucket; null while linear
+    private int size;
+    private int modCount;
+
+    /**
+     * Constructs an empty CompactMap.
+     */
+    public CompactMap() {
+        // arrays are created with the first member
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return slotOf(key) >= 0;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        final int slot = slotOf(key);
+        return slot < 0 ? null : (V) values[slot];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V put(K key, V value) {
+        Objects.requireNonNull(key, "key must not be null");
+        final int slot = slotOf(key);
+        if (slot >= 0) {
+            final V old = (V) values[slot];
+            values[slot] = value;
+            return old;
+        }
+        if (size == keys.length) {
+            final int capacity = size == 0 ? 4 : size + (size >> 1);
+            keys = Arrays.copyOf(keys, capacity);
+            values = Arrays.copyOf(values, capacity);
+        }
+        keys[size] = key;
+        values[size] = value;
+        size++;
+        modCount++;
+        if (table != null) {
+            if (size * 2 > table.length) {
+                rehash();
+            } else {
+                insert(size - 1);
+            }
+        } else if (size > LINEAR_LIMIT) {
+            rehash();
+        }
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V remove(Object key) {
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        final V old = (V) values[slot];
+        removeSlot(slot);
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(keys, 0, size, null);
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+            table = null;
+            modCount++;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        final int expected = modCount;
+        for (int i = 0; i < size; i++) {
+            action.accept((K) keys[i], (V) values[i]);
+        }
+        if (expected != modCount) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        return new AbstractSet<Entry<K, V>>() {
+            @Override
+            public Iterator<Entry<K, V>> iterator() {
+                return new SlotIterator<Entry<K, V>>() {
+                    @Override
+                    Entry<K, V> at(int slot) {
+                        return new SlotEntry(slot);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Iterator<K> iterator() {
+                return new SlotIterator<K>() {
+                    @Override
+                    K at(int slot) {
+                        return (K) keys[slot];
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Iterator<V> iterator() {
+                return new SlotIterator<V>() {
+                    @Override
+                    V at(int slot) {
+                        return (V) values[slot];
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    private int slotOf(Object key) {
+        if (key == null) {
+            return -1;
+        }
+        if (table == null) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == key || keys[i].equals(key)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        final int mask = table.length - 1;
+        int b = spread(key.hashCode()) & mask;
+        int slot;
+        while ((slot = table[b]) != 0) {
+            final Object k = keys[slot - 1];
+            if (k == key || k.equals(key)) {
+                return slot - 1;
+            }
+            b = (b + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void removeSlot(int slot) {
+        final int tail = size - slot - 1;
+        if (tail > 0) {
+            System.arraycopy(keys, slot + 1, keys, slot, tail);
+            System.arraycopy(values, slot + 1, values, slot, tail);
+        }
+        size--;
+        keys[size] = null;
+        values[size] = null;
+        modCount++;
+        if (table != null) {
+            if (size > LINEAR_LIMIT) {
+                rehash();
+            } else {
+                table = null;
+            }
+        }
+    }
+
+    private void rehash() {
+        table = new int[Integer.highestOneBit(size * 4 - 1)];
+        for (int i = 0; i < size; i++) {
+            insert(i);
+        }
+    }
+
+    private void insert(int slot) {
+        final int mask = table.length - 1;
+        int b = spread(keys[slot].hashCode()) & mask;
+        while (table[b] != 0) {
+            b = (b + 1) & mask;
+        }
+        table[b] = slot + 1;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Iterator over the slots in insertion order.
+     */
+    private abstract class SlotIterator<T> implements Iterator<T> {
+
+        private int next;
+        private int last = -1;
+        private int expected = modCount;
+
+        abstract T at(int slot);
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public T next() {
+            if (expected != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= size) {
+                throw new NoSuchElementException();
+            }
+            last = next++;
+            return at(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (expected != modCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeSlot(last);
+            next = last;
+            last = -1;
+            expected = modCount;
+        }
+    }
+
+    /**
+     * Entry writing its value through to the map.
+     */
+    private final class SlotEntry implements Entry<K, V> {
+
+        private final int slot;
+
+        private SlotEntry(int slot) {
+            this.slot = slot;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public K getKey() {
+            return (K) keys[slot];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V getValue() {
+            return (V) values[slot];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public V setValue(V value) {
+            final V old = (V) values[slot];
+            values[slot] = value;
+            return old;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Map.Entry
+                    && Objects.equals(getKey(), ((Map.Entry<?, ?>) o).getKey())
+                    && Objects.equals(getValue(), ((Map.Entry<?, ?>) o).getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+}
@@ -251,7 +251,11 @@ public interface SimpleStringSplitter {
      * @return The formatted string.
      */
     public default String maskEscapes(Object attr) {
-        String roh = simpleReplace(String.valueOf(attr), "\"", "\\\"");
+        String roh = String.valueOf(attr);
+        if (!needsMask(roh)) {
+            return roh;
+        }
+        roh = simpleReplace(roh, "\"", "\\\"");
         roh = simpleReplace(roh, "\r", "\\r");
         roh = simpleReplace(roh, "\t", "\\t");
         roh = simpleReplace(roh, "\b", "\\b");
@@ -259,6 +263,23 @@ public interface SimpleStringSplitter {
         return simpleReplace(roh, "\n", "\\n");
     }
 
+    /**
+     * Checks whether the string contains a character masked by {@link #maskEscapes(Object)}.
+     *
+     * @param roh The string to check.
+     * @return {@code true} if masking changes the string.
+     */
+    private static boolean needsMask(String roh) {
+        for (int i = 0; i < roh.length(); i++) {
+            switch (roh.charAt(i)) {
+                case '"', '\r', '\t', '\b', '\f', '\n':
+                    return true;
+                default:
+            }
+        }
+        return false;
+    }
+
     /**
      * Processes a JSON string by replacing escape sequences with their respective characters.
      *
@@ -266,7 +287,11 @@ public interface SimpleStringSplitter {
      * @return The processed string value.
      */
     public default String buildEscapes(Object attr) {
-        String roh = simpleReplace(String.valueOf(attr), "\\\"", "\"");
+        String roh = String.valueOf(attr);
+        if (roh.indexOf('\\') < 0) {
+            return roh;
+        }
+        roh = simpleReplace(roh, "\\\"", "\"");
         roh = simpleReplace(roh, "\\r", "\r");
         roh = simpleReplace(roh, "\\t", "\t");
         roh = simpleReplace(roh, "\\b", "\b");
@@ -31,6 +31,7 @@ class ListWriter {
     private String intentString;
     private final JsonCastingLevel castingLevel;
     private final JsonModel model;
+    private boolean compact;
 
     /**
      * Constructs a ListWriter instance with default indentation.
@@ -88,6 +89,27 @@ class ListWriter {
         this.intentString = intentString;
     }
 
+    /**
+     * Sets whether line breaks and indentation are left out.
+     *
+     * @param compact {@code true} for single-line output.
+     */
+    void setCompact(boolean compact) {
+        this.compact = compact;
+    }
+
+    private void lineBreak(PrintWriter out) {
+        if (!compact) {
+            out.println();
+        }
+    }
+
+    private void indent(PrintWriter out, String iString) {
+        if (!compact) {
+            out.print(iString);
+        }
+    }
+
     /**
      * Writes a collection or object as a JSON array.
      *
@@ -99,8 +121,8 @@ class ListWriter {
         String iString = intentString + "  ";
 
         if (!jType.isPrimitive()) {
-            out.println();
-            out.print(iString);
+            lineBreak(out);
+            indent(out, iString);
         }
 
         Collection<?> list = (ob instanceof Collection<?>) ? (Collection<?>) ob : jType.asList(ob);
@@ -113,15 +135,15 @@ class ListWriter {
             if (it.hasNext()) {
                 out.print(", ");
                 if (!jType.isPrimitive()) {
-                    out.println();
-                    out.print(iString);
+                    lineBreak(out);
+                    indent(out, iString);
                 }
             }
         }
 
         if (!jType.isPrimitive()) {
-            out.println();
-            out.print(intentString);
+            lineBreak(out);
+            indent(out, intentString);
         }
         out.print(']');
         out.flush();
@@ -164,6 +186,7 @@ class ListWriter {
      */
     protected void writeObject(PrintWriter out, Object attr, String iString) {
         ObjectWriter reWriter = new ObjectWriter(model, jType, iString, castingLevel);
+        reWriter.setCompact(compact);
         reWriter.write(out, reWriter.calculateJsonClass(attr), attr);
     }
 
@@ -177,11 +200,12 @@ class ListWriter {
         out.print('[');
         if (node != null && node.getType() != JsonNodeType.ARRAY) {
             ObjectWriter reWriter = new ObjectWriter(model, null, intentString, castingLevel);
+            reWriter.setCompact(compact);
             reWriter.writeNode(out, node);
         } else {
             writeNodeArrayItems(out, node, intentString);
         }
-        out.print(intentString);
+        indent(out, intentString);
         out.print(']');
         out.flush();
     }
@@ -195,21 +219,22 @@ class ListWriter {
      */
     protected void writeNodeArrayItems(PrintWriter out, JsonNode node, String iString) {
         ObjectWriter reWriter = new ObjectWriter(model, null, iString + "  ", castingLevel);
+        reWriter.setCompact(compact);
         List<JsonNode> list = node.asArray();
         if (list != null && !list.isEmpty()) {
-            out.println();
+            lineBreak(out);
             String childIndent = iString + " ";
             boolean first = true;
             for (JsonNode item : list) {
                 if (!first) {
                     out.print(',');
-                    out.println();
+                    lineBreak(out);
                 }
                 first = false;
-                out.print(childIndent);
+                indent(out, childIndent);
                 reWriter.writeNode(out, item, childIndent);
             }
-            out.println();
+            lineBreak(out);
         }
     }
 
@@ -36,6 +36,7 @@ public class ObjectWriter {
     String intentString;
     private final JsonCastingLevel castingLevel;
     private final JsonModel model;
+    private boolean compact;
 
     /**
      * Constructs an ObjectWriter instance with default indentation.
@@ -93,6 +94,48 @@ public class ObjectWriter {
         this.intentString = intentString;
     }
 
+    /**
+     * Returns whether line breaks and indentation are left out.
+     *
+     * @return {@code true} if each document is written on a single line.
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
+    /**
+     * Sets whether line breaks and indentation are left out, so that each document is
+     * written on a single line, e.g. for JSON Lines.
+     *
+     * @param compact {@code true} for single-line output.
+     */
+    public void setCompact(boolean compact) {
+        this.compact = compact;
+    }
+
+    /**
+     * Writes a line break unless the output is compact.
+     *
+     * @param out The PrintWriter for output.
+     */
+    protected void lineBreak(PrintWriter out) {
+        if (!compact) {
+            out.println();
+        }
+    }
+
+    /**
+     * Writes the indentation unless the output is compact.
+     *
+     * @param out The PrintWriter for output.
+     * @param iString The indentation string.
+     */
+    protected void indent(PrintWriter out, String iString) {
+        if (!compact) {
+            out.print(iString);
+        }
+    }
+
     /**
      * Writes an object as a JSON structure.
      *
@@ -104,7 +147,7 @@ public class ObjectWriter {
      */
     protected void write(PrintWriter out, Object ob) throws NullPointerException, ClassCastException {
         JsonClass jClass = calculateJsonClass(ob);
-        out.print(intentString);
+        indent(out, intentString);
         write(out, jClass, ob);
     }
 
@@ -168,8 +211,8 @@ public class ObjectWriter {
         String iString = intentString + "  ";
         if (jType != null && jType.needClassDef(castingLevel)
                 || jClass.needClassDef(castingLevel)) {
-            out.println();
-            out.print(iString);
+            lineBreak(out);
+            indent(out, iString);
             out.print("\"_class\": \"");
             out.print(jClass.getcName());
             out.print('\"');
@@ -178,7 +221,7 @@ public class ObjectWriter {
             }
         }
         if (jClass.hasFieldKeys(ob)) {
-            out.println();
+            lineBreak(out);
         }
         Iterator<String> it = jClass.keysForWriteIterator(ob);
         boolean isFollowing = false;
@@ -191,10 +234,10 @@ public class ObjectWriter {
             }
             if (isFollowing) {
                 out.print(',');
-                out.println();
+                lineBreak(out);
             }
             isFollowing = true;
-            out.print(iString);
+            indent(out, iString);
             out.print('"');
             out.print(next.getfName());
             out.print('"');
@@ -203,10 +246,10 @@ public class ObjectWriter {
         }
 
         if (isFollowing) {
-            out.println();
+            lineBreak(out);
         }
         if (jClass.hasFieldKeys(ob)) {
-            out.print(intentString);
+            indent(out, intentString);
         }
         out.print('}');
         out.flush();
@@ -257,6 +300,7 @@ public class ObjectWriter {
      */
     protected void writeList(PrintWriter out, JsonType jTypeItem, Object attr, String iString) {
         ListWriter reWriter = new ListWriter(model, jTypeItem, iString, castingLevel);
+        reWriter.setCompact(compact);
         reWriter.write(out, attr);
     }
 
@@ -270,6 +314,7 @@ public class ObjectWriter {
      */
     protected void writeObject(PrintWriter out, JsonType jTypeItem, Object attr, String iString) {
         ObjectWriter reWriter = new ObjectWriter(model, jTypeItem, iString, castingLevel);
+        reWriter.setCompact(compact);
         reWriter.write(out, reWriter.calculateJsonClass(attr), attr);
     }
 
@@ -346,24 +391,24 @@ public class ObjectWriter {
         out.print('{');
         Map<String, JsonNode> map = node.asObjectValues();
         if (map != null && !map.isEmpty()) {
-            out.println();
+            lineBreak(out);
             String childIndent = iString + "  ";
             boolean first = true;
             for (Map.Entry<String, JsonNode> e : map.entrySet()) {
                 if (!first) {
                     out.print(',');
-                    out.println();
+                    lineBreak(out);
                 }
                 first = false;
-                out.print(childIndent);
+                indent(out, childIndent);
                 out.print('"');
                 out.print(escape(String.valueOf(e.getKey())));
                 out.print('"');
                 out.print(": ");
                 writeNode(out, (JsonNode) e.getValue(), childIndent);
             }
-            out.println();
-            out.print(iString);
+            lineBreak(out);
+            indent(out, iString);
         }
         out.print('}');
         out.flush();
@@ -378,6 +423,7 @@ public class ObjectWriter {
      */
     protected void writeNodeArray(PrintWriter out, JsonNode node, String iString) {
         ListWriter reWriter = new ListWriter(model, null, iString, castingLevel);
+        reWriter.setCompact(compact);
         reWriter.writeNode(out, node);
     }
 
@@ -87,7 +87,7 @@ public class RootObjectWriter extends ObjectWriter {
 
         List<?> myList = (List<?>) ob;
         if (myList.isEmpty()) {
-            out.print(intentString);
+            indent(out, intentString);
             out.print("[]");
             out.flush();
             return;
@@ -95,18 +95,19 @@ public class RootObjectWriter extends ObjectWriter {
 
         Object ob0 = myList.get(0);
         JsonClass jClass = calculateJsonClass(ob0);
-        out.print("[\n");
+        out.print(isCompact() ? "[" : "[\n");
         Iterator<?> it = myList.iterator();
-        out.print(intentString);
+        indent(out, intentString);
         super.write(out, jClass, it.next());
 
         while (it.hasNext()) {
-            out.println(",");
-            out.print(intentString);
+            out.print(',');
+            lineBreak(out);
+            indent(out, intentString);
             super.write(out, jClass, it.next());
         }
 
-        out.print("\n]");
+        out.print(isCompact() ? "]" : "\n]");
         out.flush();
     }
 
@@ -7,8 +7,6 @@
  */
 package de.jare.jsonpost;
 
-import de.jare.jsoncasted.item.JsonItem;
-import de.jare.jsoncasted.item.builder.JsonBuilder;
 import de.jare.jsoncasted.model.JsonBuildException;
 import de.jare.jsoncasted.model.item.JsonClass;
 import de.jare.jsoncasted.parserwriter.JsonItemDefinition;
@@ -62,13 +60,12 @@ public class PostJsonClient {
     }
 
     public Object buildObject(String answer, JsonItemDefinition definition, final JsonClass readClass) throws JsonBuildException, IOException {
-        JsonItem obj = null;
         try {
-            obj = JsonParser.parse(answer, definition.getDescriptor(), readClass.getcName());
+            return JsonParser.parseInstance(answer, definition, readClass);
         } catch (JsonParseException ex) {
             Logger.getGlobal().log(Level.SEVERE, null, ex);
         }
-        return JsonBuilder.buildInstance(definition.getModel(), true, obj);
+        return null;
     }
 
 }
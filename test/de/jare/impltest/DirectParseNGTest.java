@@ -0,0 +1,89 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.impltest;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.item.JsonItem;
+import de.jare.jsoncasted.item.builder.JsonBuilder;
+import de.jare.jsoncasted.parserwriter.JsonParser;
+import de.jare.jsoncasted.parserwriter.JsonWriter;
+import java.io.File;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for converting documents into JsonItems and Java objects while parsing.
+ *
+ * @author Janusch Rentenatus
+ */
+public class DirectParseNGTest {
+
+    private static final String DOC = "{ subsub: { text: \"sub\", _class: ValueStringSubSub, frage: true },"
+            + " junk: { a: [1, {b: 2}] },"
+            + " one: { _class: \"ValueInteger\", zahl: 7, extra: [\"x\"] },"
+            + " arr: [ { _class: \"ValueInteger\", zahl: 42 }, (ValueString){ text: \"Hallo\\nWelt\" }, {zahl: 3, _class: ValueInteger} ],"
+            + " list: [ (ValueBoolean){ frage: false }, { _class: \"ValueStringSubSub\", text: \"T\", frage: true } ] }";
+
+    private static String built(JsonItem item) throws Exception {
+        ImplTestDefinition definition = ImplTestDefinition.getInstance();
+        Object box = JsonBuilder.buildInstance(definition.getModel(), false, item);
+        return JsonWriter.writeToString(box, definition, definition.getTestBox());
+    }
+
+    /**
+     * Tests that a document without wood terms is converted like the JsonNode pipeline
+     * does, including casts that are not the first member.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testLikeNodePipeline() throws Exception {
+        ImplTestDefinition definition = ImplTestDefinition.getInstance();
+        String root = definition.getTestBox().getcName();
+        String expected = built(JsonParser.parse(DOC, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE));
+        String actual = built(JsonParser.parseDirect(DOC, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE));
+        assertEquals(actual, expected);
+        assertTrue(actual.contains("ValueStringSubSub"), actual);
+        // written documents start every object with _class
+        assertEquals(built(JsonParser.parseDirect(expected, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE)),
+                built(JsonParser.parse(expected, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE)));
+    }
+
+    /**
+     * Tests that a file with wood terms falls back to the JsonNode pipeline.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testWoodFallback() throws Exception {
+        ImplTestDefinition definition = ImplTestDefinition.getInstance();
+        String root = definition.getTestBox().getcName();
+        File file = new File("./assets/config/testbox.json");
+        assertEquals(built(JsonParser.parseDirect(file, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE)),
+                built(JsonParser.parse(file, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE)));
+    }
+
+    /**
+     * Tests that objects built while parsing equal the objects built from the parsed
+     * JsonItem, with and without wood terms.
+     *
+     * @throws Exception If parsing or building fails.
+     */
+    @Test
+    public void testBuildWhileParsing() throws Exception {
+        ImplTestDefinition definition = ImplTestDefinition.getInstance();
+        String root = definition.getTestBox().getcName();
+        Object box = JsonParser.parseInstance(DOC, definition, definition.getTestBox(), false, JsonDebugLevel.SIMPLE);
+        assertEquals(JsonWriter.writeToString(box, definition, definition.getTestBox()),
+                built(JsonParser.parse(DOC, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE)));
+        File file = new File("./assets/config/testbox.json");
+        box = JsonParser.parseInstance(file, definition, definition.getTestBox(), false, JsonDebugLevel.SIMPLE);
+        assertEquals(JsonWriter.writeToString(box, definition, definition.getTestBox()),
+                built(JsonParser.parse(file, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE)));
+    }
+}
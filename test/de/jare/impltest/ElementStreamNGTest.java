@@ -0,0 +1,68 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.impltest;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.parserwriter.JsonElementIterator;
+import de.jare.jsoncasted.parserwriter.JsonParser;
+import java.io.File;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for streaming the elements of a top-level array as built objects.
+ *
+ * @author Janusch Rentenatus
+ */
+public class ElementStreamNGTest {
+
+    private static final File VALUES = new File("./assets/stream/values.json");
+
+    /**
+     * Tests that all elements are built in order through the stream API.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testStream() throws Exception {
+        assertTrue(VALUES.exists(), "asset file must exist: " + VALUES.getAbsolutePath());
+        ImplTestDefinition definition = ImplTestDefinition.getInstance();
+        List<ValueInterface> values;
+        try (Stream<ValueInterface> stream = JsonParser.stream(VALUES, definition, ValueInterface.class, JsonDebugLevel.SIMPLE)) {
+            values = stream.collect(Collectors.toList());
+        }
+        assertEquals(values.size(), 4);
+        assertTrue(values.get(0) instanceof ValueInteger);
+        assertEquals(((ValueInteger) values.get(0)).getZahl(), Integer.valueOf(1));
+        assertEquals(values.get(1).getText(), "zwei");
+        assertTrue(values.get(2) instanceof ValueSeason);
+        assertTrue(values.get(3) instanceof ValueBoolean);
+    }
+
+    /**
+     * Tests that the iterator can be closed before the end.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testIteratorClose() throws Exception {
+        ImplTestDefinition definition = ImplTestDefinition.getInstance();
+        String elementType = ValueInterface.class.getTypeName();
+        try (JsonElementIterator<ValueInterface> it = JsonParser.iterator(VALUES, definition, elementType, ValueInterface.class, JsonDebugLevel.SIMPLE)) {
+            assertTrue(it.hasNext());
+            assertEquals(it.next().getText(), new ValueInteger(1).getText());
+            it.close();
+            assertFalse(it.hasNext());
+            assertEquals(it.getIndex(), 1);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.impltest;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.item.JsonItem;
+import de.jare.jsoncasted.item.builder.JsonBuilder;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.parserservice.JsonFieldFilter;
+import de.jare.jsoncasted.parserservice.JsonParserService;
+import de.jare.jsoncasted.parserwriter.JsonParser;
+import de.jare.jsoncasted.parserwriter.JsonWriter;
+import java.io.File;
+import java.io.StringReader;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for skipping the object members a model cannot convert while parsing.
+ *
+ * @author Janusch Rentenatus
+ */
+public class FieldFilterNGTest {
+
+    private static JsonFieldFilter filter() {
+        ImplTestDefinition definition = ImplTestDefinition.getInstance();
+        return JsonFieldFilter.of(definition.getDescriptor(), definition.getTestBox().getcName());
+    }
+
+    private static String parse(String doc, JsonFieldFilter filter) throws Exception {
+        return JsonParserService.parse(new StringReader(doc), JsonResource.empty(), filter, JsonDebugLevel.SIMPLE)
+                .getRoot().toString();
+    }
+
+    /**
+     * Tests the fields kept for declared types, subtypes and implementors.
+     */
+    @Test
+    public void testFilter() {
+        JsonFieldFilter box = filter();
+        assertTrue(box.keeps("subsub"));
+        assertTrue(box.keeps("_class"));
+        assertTrue(box.keeps("_woodProviders"));
+        assertFalse(box.keeps("unknown"));
+        assertTrue(box.child("subsub").keeps("text"));
+        assertTrue(box.child("subsub").keeps("frage"), "field of a subtype");
+        assertTrue(box.child("list").keeps("zahl"), "field of an implementor");
+        assertTrue(box.child("list").keeps("season"));
+        assertFalse(box.child("list").keeps("subsub"));
+        assertNull(box.child("_woodProviders"));
+    }
+
+    /**
+     * Tests that unknown members are dropped and known members are parsed as usual.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testSkippedMembers() throws Exception {
+        String doc = "{ junk: {a: [1, {b: \"}]\"}], c: '\\',{'}, subsub: (ValueStringSubSub){ text: \"x\", meta: [[], {}],"
+                + " frage: true }, 'extra' : \"s\\\"}\", list: [ {_class: ValueInteger, zahl: 1, z: {}}, [2], 3 ],"
+                + " _woodProviders: [{synonym: s, filename: f}], tail: (Other){ x: 1 } }";
+        String expected = "{ subsub: (ValueStringSubSub){ text: \"x\", frage: true },"
+                + " list: [ {_class: ValueInteger, zahl: 1}, [2], 3 ], _woodProviders: [{synonym: s, filename: f}] }";
+        assertEquals(parse(doc, filter()), parse(expected, null));
+        assertEquals(parse("{junk: 1}", filter()), "{}");
+        assertTrue(parse(doc, null).contains("junk"));
+    }
+
+    /**
+     * Tests that the test box asset is converted and built the same way.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testAssetLikeFullParse() throws Exception {
+        ImplTestDefinition definition = ImplTestDefinition.getInstance();
+        File file = new File("./assets/config/testbox.json");
+        String root = definition.getTestBox().getcName();
+        JsonItem full = JsonParser.parse(file, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE);
+        JsonItem known = JsonParser.parseKnownFields(file, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE);
+        Object expected = JsonBuilder.buildInstance(definition.getModel(), false, full);
+        Object actual = JsonBuilder.buildInstance(definition.getModel(), false, known);
+        assertEquals(JsonWriter.writeToString(actual, definition, definition.getTestBox()),
+                JsonWriter.writeToString(expected, definition, definition.getTestBox()));
+    }
+}
@@ -0,0 +1,95 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.impltest;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.item.JsonItem;
+import de.jare.jsoncasted.item.builder.JsonBuilder;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.parserservice.JsonParserService;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import de.jare.jsoncasted.parserwriter.JsonParser;
+import de.jare.jsoncasted.parserwriter.JsonWriter;
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for reading and writing JSON Lines.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonLinesNGTest {
+
+    /**
+     * Tests that written lines are compact and are read back to equal objects, sequentially
+     * and in parallel.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testRoundTrip() throws Exception {
+        ImplTestDefinition definition = ImplTestDefinition.getInstance();
+        List<ValueInterface> values = new ArrayList<>();
+        for (int i = 0; i < 600; i++) {
+            values.add(i % 2 == 0 ? new ValueInteger(i) : new ValueString("line\n" + i));
+        }
+        File file = File.createTempFile("values", ".jsonl");
+        file.deleteOnExit();
+        String elementType = ValueInterface.class.getTypeName();
+        JsonWriter.writeLines(values, file, definition, definition.getModel().getJsonInter(elementType));
+        List<String> lines = Files.readAllLines(file.toPath(), StandardCharsets.UTF_8);
+        assertEquals(lines.size(), values.size());
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (ForkJoinPool p : new ForkJoinPool[]{null, pool}) {
+                List<JsonItem> items = JsonParser.parseLines(file, definition.getDescriptor(), elementType, p, JsonDebugLevel.SIMPLE);
+                assertEquals(items.size(), values.size());
+                for (int i = 0; i < items.size(); i++) {
+                    ValueInterface built = (ValueInterface) JsonBuilder.buildInstance(definition.getModel(), false, items.get(i));
+                    assertEquals(built.getText(), values.get(i).getText());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Tests blank lines, wood terms and the line number of errors.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testLines() throws Exception {
+        String doc = "{a: 1}\n\n{\"_woodObjectId\": \"7\", b: [1, 2]}\r\n  \n[3]\n";
+        List<JsonResource> res = JsonParserService.parseLines(new StringReader(doc), "test.jsonl", JsonDebugLevel.SIMPLE);
+        assertEquals(res.size(), 3);
+        assertEquals(res.get(0).getRoot().asObjectValues().get("a").asLong(), Long.valueOf(1));
+        assertNotNull(res.get(0).getLinkingSet());
+        assertNull(res.get(0).getExpectedBox());
+        assertEquals(res.get(1).getLinkingSet().getObjectIdMap().size(), 1);
+        assertTrue(res.get(2).getRoot().isArray());
+        try {
+            JsonParserService.parseLines(new StringReader("{a: 1}\n{b: \"open}\n"), "test.jsonl", JsonDebugLevel.SIMPLE);
+            fail("No exception for an unfinished line.");
+        } catch (JsonParseException ex) {
+            assertTrue(ex.getMessage().startsWith("[2]"), ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.lang;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for JsonNode.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonNodeNGTest {
+
+    private static final String[] SCALARS = {
+        "0", "-0", "42", " 42 ", "-17", "+5", "007", "9223372036854775807", "-9223372036854775808",
+        "9223372036854775808", "123456789012345678901234", "1.5", "-2.25", "0.1", "1.", ".5", "1e5", "1E-3",
+        "-1.5e+10", "2f", "3.5d", "1e400", "0.000000000000000000000001", "3.141592653589793238", "NaN",
+        "Infinity", "-Infinity", "true", " false", "SPRING", "a b", "", "  ", ".", "-", "1e", "e5", "1.2.3",
+        "0x10", "0x1p3", "12abc", "--1", "1_000"
+    };
+
+    /**
+     * Reference implementation of the former regex and exception based classification.
+     */
+    private static JsonNode reference(String str) {
+        String trimmed = str.trim();
+        if ("true".equals(trimmed)) {
+            return JsonNode.booleanNode(true);
+        }
+        if ("false".equals(trimmed)) {
+            return JsonNode.booleanNode(false);
+        }
+        if (trimmed.matches("-?\\d+")) {
+            try {
+                return JsonNode.longNode(Long.parseLong(trimmed));
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        try {
+            return JsonNode.numberNode(Double.parseDouble(trimmed));
+        } catch (NumberFormatException e) {
+            return JsonNode.stringNode(str);
+        }
+    }
+
+    /**
+     * Tests that the single-pass classifier matches the former classification.
+     */
+    @Test
+    public void testVarNodeLikeReference() {
+        for (String s : SCALARS) {
+            JsonNode expected = reference(s);
+            JsonNode actual = JsonNode.varNode(s);
+            assertEquals(actual.getType(), expected.getType(), s);
+            assertEquals(actual.toString(), expected.toString(), s);
+            assertEquals(JsonNode.varNode(new StringBuilder(s)).toString(), expected.toString(), s);
+        }
+    }
+
+    /**
+     * Tests that an unquoted null is a null node.
+     */
+    @Test
+    public void testVarNodeNull() {
+        assertEquals(JsonNode.varNode(" null ").getType(), JsonNodeType.NULL);
+        assertEquals(JsonNode.varNode("nulls").getType(), JsonNodeType.STRING);
+    }
+
+    /**
+     * Tests the accessors of the compact node types and the shared nodes.
+     */
+    @Test
+    public void testCompactNodes() {
+        assertSame(JsonNode.booleanNode(true), JsonNode.varNode("true"));
+        assertSame(JsonNode.nullNode(), JsonNode.varNode("null"));
+        JsonNode l = JsonNode.longNode(-5);
+        assertEquals(l.asLong(), Long.valueOf(-5));
+        assertEquals(l.toNumber(), Double.valueOf(-5));
+        assertNull(l.asNumber());
+        assertNull(l.asText());
+        JsonNode d = JsonNode.numberNode(0.5);
+        assertEquals(d.toNumber(), Double.valueOf(0.5));
+        assertNull(d.asLong());
+        assertEquals(JsonNode.rawStringNode("a\\tb").asText(), "a\tb");
+        JsonNode o = JsonNode.objectNode().put("x", l).put("y", JsonNode.booleanNode(false));
+        assertEquals(o.toString(), "{\"x\":-5,\"y\":false}");
+        assertNull(JsonNode.nullNode().asObjectValues());
+        assertNull(JsonNode.nullNode().getJsonDescriptor());
+        try {
+            JsonNode.nullNode().put("x", l);
+            throw new AssertionError("put on a null node");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+    }
+
+    /**
+     * Compares the bytes allocated per node with the former layout of seven fields and
+     * boxed values.
+     */
+    @Test
+    public void testFootprint() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            throw new SkipException("No allocation counter.");
+        }
+        long legacyLong = bytesPerNode(i -> new LegacyNode(JsonNodeType.LONG, null, null, null, null, (long) i + 1000, null));
+        long legacyBool = bytesPerNode(i -> new LegacyNode(JsonNodeType.BOOLEAN, null, null, null, null, null, i % 2 == 0));
+        long compactLong = bytesPerNode(i -> JsonNode.longNode(i + 1000L));
+        long compactDouble = bytesPerNode(i -> JsonNode.numberNode(i + 0.5));
+        long compactBool = bytesPerNode(i -> JsonNode.booleanNode(i % 2 == 0));
+        long compactNull = bytesPerNode(i -> JsonNode.varNode("null"));
+        System.out.println("JsonNode bytes per node: long " + legacyLong + " -> " + compactLong
+                + ", double -> " + compactDouble + ", boolean " + legacyBool + " -> " + compactBool
+                + ", null -> " + compactNull);
+        assertTrue(compactLong * 2 <= legacyLong, compactLong + " / " + legacyLong);
+        assertTrue(compactDouble * 2 <= legacyLong, compactDouble + " / " + legacyLong);
+        assertEquals(compactBool, 0L);
+        assertEquals(compactNull, 0L);
+    }
+
+    /**
+     * Tests that frozen trees reject changes and that copy-on-write edits share the
+     * unchanged members.
+     *
+     * @throws Exception If a reader thread fails.
+     */
+    @Test
+    public void testFreeze() throws Exception {
+        JsonNode sub = JsonNode.objectNode().put("b", JsonNode.longNode(2));
+        JsonNode list = JsonNode.arrayNode().add(JsonNode.stringNode("x"));
+        JsonNode root = JsonNode.objectNode().put("a", sub).put("l", list);
+        assertFalse(root.isFrozen());
+        assertSame(root.freeze(), root);
+        assertTrue(sub.isFrozen() && list.isFrozen());
+        try {
+            sub.put("c", JsonNode.nullNode());
+            fail("A frozen object was changed.");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+        try {
+            list.asArray().add(JsonNode.nullNode());
+            fail("The items of a frozen array were changed.");
+        } catch (UnsupportedOperationException ex) {
+            // expected
+        }
+        JsonNode edited = root.with("c", JsonNode.objectNode().put("d", JsonNode.booleanNode(true)));
+        assertTrue(edited.isFrozen() && edited.asObjectValues().get("c").isFrozen());
+        assertSame(edited.asObjectValues().get("a"), sub);
+        assertEquals(root.toString(), "{\"a\":{\"b\":2},\"l\":[\"x\"]}");
+        assertEquals(edited.toString(), "{\"a\":{\"b\":2},\"l\":[\"x\"],\"c\":{\"d\":true}}");
+        assertEquals(root.without("a").toString(), "{\"l\":[\"x\"]}");
+        JsonNode listEdited = list.withAdded(JsonNode.longNode(1)).with(0, JsonNode.stringNode("y"));
+        assertEquals(listEdited.toString(), "[\"y\",1]");
+        assertEquals(list.toString(), "[\"x\"]");
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> reads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                reads.add(pool.submit(() -> edited.asObjectValues().get("a").asObjectValues().get("b").toText()));
+            }
+            for (Future<String> read : reads) {
+                assertEquals(read.get(), "2");
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        JsonNode deep = JsonNode.longNode(0);
+        JsonNode inner = null;
+        for (int i = 0; i < 100_000; i++) {
+            deep = i % 2 == 0 ? JsonNode.arrayNode().add(deep) : JsonNode.objectNode().put("k", deep);
+            inner = inner == null ? deep : inner;
+        }
+        JsonNode deepEdited = deep.with("n", JsonNode.arrayNode().add(JsonNode.nullNode()));
+        assertTrue(deep.isFrozen() && inner.isFrozen() && deepEdited.asObjectValues().get("n").isFrozen());
+        assertSame(deepEdited.asObjectValues().get("k"), deep.asObjectValues().get("k"));
+        assertEquals(inner.asArray().get(0).asLong(), Long.valueOf(0));
+    }
+
+    /**
+     * Tests that equal subtrees and scalars are shared, and that objects with wood
+     * members are kept.
+     */
+    @Test
+    public void testDeduplicate() {
+        JsonNode root = JsonNode.objectNode();
+        JsonNode list = JsonNode.arrayNode();
+        for (int i = 0; i < 100; i++) {
+            list.add(JsonNode.objectNode().put("_class", JsonNode.stringNode("ValueBoolean"))
+                    .put("frage", JsonNode.booleanNode(true)));
+            list.add(JsonNode.objectNode().put("_woodObjectId", JsonNode.longNode(i))
+                    .put("tags", JsonNode.arrayNode().add(JsonNode.stringNode("t")).add(JsonNode.longNode(7))));
+        }
+        root.put("list", list).put("copy", JsonNode.objectNode().put("_class", JsonNode.stringNode("ValueBoolean"))
+                .put("frage", JsonNode.booleanNode(true)));
+        String before = root.toString();
+        JsonDeduplicator dedup = new JsonDeduplicator();
+        dedup.setMergeContainers(true);
+        assertTrue(dedup.isMergeContainers());
+        assertSame(dedup.deduplicate(root), root);
+        assertEquals(root.toString(), before);
+        List<JsonNode> items = list.asArray();
+        assertSame(items.get(2), items.get(0));
+        assertSame(root.asObjectValues().get("copy"), items.get(0));
+        assertTrue(items.get(0).isFrozen());
+        assertFalse(root.isFrozen() || list.isFrozen());
+        assertTrue(items.get(1) != items.get(3));
+        assertFalse(items.get(1).isFrozen());
+        assertSame(items.get(3).asObjectValues().get("tags"), items.get(1).asObjectValues().get("tags"));
+        // 100 objects and their class names, 99 tag arrays with their string and long,
+        // and the id 7 equal to the tag long; the objects with ids are not merged
+        assertEquals(dedup.getMergedNodes(), 100 * 2 + 99 * 3 + 1);
+        assertTrue(dedup.getSavedBytes() > 100 * 64, String.valueOf(dedup.getSavedBytes()));
+
+        JsonNode other = JsonNode.arrayNode().add(JsonNode.objectNode().put("_class", JsonNode.stringNode("ValueBoolean"))
+                .put("frage", JsonNode.booleanNode(true)));
+        dedup.deduplicate(other);
+        assertSame(other.asArray().get(0), items.get(0));
+        dedup.deduplicate(root);
+        assertEquals(dedup.getMergedNodes(), 100 * 2 + 99 * 3 + 1 + 2);
+    }
+
+    /**
+     * Tests that by default only scalars are shared, and that raw strings are compared
+     * by their raw content.
+     */
+    @Test
+    public void testDeduplicateScalars() {
+        JsonNode list = JsonNode.arrayNode();
+        for (int i = 0; i < 3; i++) {
+            list.add(JsonNode.objectNode().put("name", JsonNode.stringNode("same")).put("n", JsonNode.longNode(1)));
+        }
+        list.add(JsonNode.rawStringNode("a\\nb")).add(JsonNode.rawStringNode("a\\nb"))
+                .add(JsonNode.stringNode("a\nb")).add(JsonNode.rawStringNode("a\\tb"));
+        JsonDeduplicator dedup = new JsonDeduplicator();
+        assertFalse(dedup.isMergeContainers());
+        dedup.deduplicate(list);
+        List<JsonNode> items = list.asArray();
+        assertTrue(items.get(0) != items.get(1));
+        assertFalse(items.get(0).isFrozen());
+        items.get(0).put("extra", JsonNode.nullNode());
+        assertSame(items.get(1).asObjectValues().get("name"), items.get(2).asObjectValues().get("name"));
+        assertSame(items.get(1).asObjectValues().get("n"), items.get(2).asObjectValues().get("n"));
+        assertSame(items.get(4), items.get(3));
+        assertTrue(items.get(5) != items.get(3));
+        assertEquals(items.get(3).asText(), "a\nb");
+        assertEquals(items.get(6).asText(), "a\tb");
+        // two names, two longs and one raw string
+        assertEquals(dedup.getMergedNodes(), 5);
+    }
+
+    /**
+     * Tests the streaming serializer in compact and pretty form, its escapes and deeply
+     * nested trees.
+     *
+     * @throws Exception If writing fails.
+     */
+    @Test
+    public void testWriteTo() throws Exception {
+        JsonNode root = JsonNode.objectNode().put("a", JsonNode.arrayNode().add(JsonNode.longNode(1))
+                .add(JsonNode.numberNode(2.5)).add(JsonNode.objectNode()).add(JsonNode.arrayNode()))
+                .put("s", JsonNode.stringNode("q\"b\\n\nr\rt\t\u0001\u00fc"))
+                .put("n", JsonNode.nullNode()).put("t", JsonNode.booleanNode(true));
+        String compact = "{\"a\":[1,2.5,{},[]],\"s\":\"q\\\"b\\\\n\\nr\\rt\\t\\u0001\u00fc\",\"n\":null,\"t\":true}";
+        assertEquals(root.toString(), compact);
+        StringBuilder pretty = new StringBuilder();
+        root.writeTo(pretty, false);
+        assertEquals(pretty.toString(), "{\n  \"a\": [\n    1,\n    2.5,\n    {},\n    []\n  ],\n"
+                + "  \"s\": \"q\\\"b\\\\n\\nr\\rt\\t\\u0001\u00fc\",\n  \"n\": null,\n  \"t\": true\n}");
+        java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        root.writeTo(bytes, true);
+        assertEquals(bytes.toString(java.nio.charset.StandardCharsets.UTF_8), compact);
+
+        JsonNode deep = JsonNode.stringNode("x");
+        for (int i = 0; i < 100_000; i++) {
+            deep = JsonNode.arrayNode().add(deep);
+        }
+        String text = deep.toString();
+        assertEquals(text.length(), 200_003);
+        assertEquals(text.substring(99_998, 100_005), "[[\"x\"]]");
+    }
+
+    private static long bytesPerNode(IntFunction<Object> factory) {
+        final int n = 100_000;
+        final Object[] keep = new Object[n];
+        final com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long tid = Thread.currentThread().getId();
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < 5; r++) {
+            final long before = mx.getThreadAllocatedBytes(tid);
+            for (int i = 0; i < n; i++) {
+                keep[i] = factory.apply(i);
+            }
+            best = Math.min(best, mx.getThreadAllocatedBytes(tid) - before);
+        }
+        return best / n;
+    }
+
+    /**
+     * The field layout of JsonNode before the compact node types.
+     */
+    private static final class LegacyNode {
+
+        private final JsonNodeType type;
+        private final Map<String, JsonNode> objectValue;
+        private final List<JsonNode> arrayValue;
+        private final String textValue;
+        private final String rawText;
+        private final Double numberValue;
+        private final Long numberLongValue;
+        private final Boolean boolValue;
+        private final Object jsonDescriptor;
+
+        private LegacyNode(JsonNodeType type, Map<String, JsonNode> objectValue, List<JsonNode> arrayValue,
+                String textValue, Double numberValue, Long numberLongValue, Boolean boolValue) {
+            this.type = type;
+            this.objectValue = objectValue;
+            this.arrayValue = arrayValue;
+            this.textValue = textValue;
+            this.rawText = null;
+            this.numberValue = numberValue;
+            this.numberLongValue = numberLongValue;
+            this.boolValue = boolValue;
+            this.jsonDescriptor = null;
+        }
+    }
+}
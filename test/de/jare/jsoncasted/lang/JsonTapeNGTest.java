@@ -0,0 +1,204 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.lang;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.impltest.ImplTestDefinition;
+import de.jare.jsoncasted.item.builder.JsonBuilder;
+import de.jare.jsoncasted.parserservice.JsonParserMode;
+import de.jare.jsoncasted.parserservice.JsonParserService;
+import de.jare.jsoncasted.parserservice.JsonTokenReader;
+import static de.jare.jsoncasted.parserservice.WoodNodeCollectorNGTest.paths;
+import de.jare.jsoncasted.parserwriter.JsonParser;
+import de.jare.jsoncasted.parserwriter.JsonWriter;
+import java.io.File;
+import java.io.FileReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the tape representation of documents.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonTapeNGTest {
+
+    private static JsonResource parse(String doc, JsonParserMode mode) throws Exception {
+        return JsonParserService.parse(new StringReader(doc), JsonResource.forFile("doc.json"), mode,
+                JsonTokenReader.DEFAULT_MAX_DEPTH, JsonDebugLevel.SIMPLE);
+    }
+
+    /**
+     * Tests that the tape views show the same values as the tree of the iterative
+     * engine.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testLikeTree() throws Exception {
+        String doc = "{ a: [1, -2.5, true, null, \"x\\ny\", {}], b: (ValueInteger){zahl: 3}, c: {d: 1, e: 2, d: 3},"
+                + " _woodObjectId: 7, f: [ {_woodLink: \"this::7\"} ] }";
+        JsonResource tree = parse(doc, JsonParserMode.ITERATIVE);
+        JsonResource tape = parse(doc, JsonParserMode.TAPE);
+        JsonNode root = tape.getRoot();
+        assertEquals(root.toString(), tree.getRoot().toString());
+        assertEquals(root.asObjectValues().get("c").asObjectValues().size(), 2);
+        assertEquals(root.asObjectValues().get("c").asObjectValues().get("d").asLong(), Long.valueOf(3));
+        assertEquals(root.asObjectValues().get("b").asObjectValues().get("_class").asText(), "ValueInteger");
+        assertEquals(root.asObjectValues().get("a").asArray().get(4).asText(), "x\ny");
+        assertNull(root.asObjectValues().get("zz"));
+        assertEquals(paths(tape.getLinkingSet().getObjectIdMap()), paths(tree.getLinkingSet().getObjectIdMap()));
+        assertEquals(paths(tape.getLinkingSet().getLinkMap()), paths(tree.getLinkingSet().getLinkMap()));
+        assertEquals(tape.getLinkingSet().getLinkMap().values().iterator().next().getPath(), "$.f[0]");
+        try {
+            root.put("g", JsonNode.nullNode());
+            fail("A tape node was changed.");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+    }
+
+    /**
+     * Tests the asset files and their conversion from a tape.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testAssetFiles() throws Exception {
+        File[] files = new File("./assets/config").listFiles((dir, name) -> name.endsWith(".json") && !name.contains("error"));
+        assertTrue(files != null && files.length > 0);
+        for (File f : files) {
+            JsonResource tree;
+            JsonResource tape;
+            try (FileReader r = new FileReader(f, StandardCharsets.UTF_8)) {
+                tree = JsonParserService.parse(r, JsonResource.forFile(f.getPath()), JsonParserMode.ITERATIVE,
+                        JsonTokenReader.DEFAULT_MAX_DEPTH, JsonDebugLevel.SIMPLE);
+            }
+            try (FileReader r = new FileReader(f, StandardCharsets.UTF_8)) {
+                tape = JsonParserService.parse(r, JsonResource.forFile(f.getPath()), JsonParserMode.TAPE,
+                        JsonTokenReader.DEFAULT_MAX_DEPTH, JsonDebugLevel.SIMPLE);
+            }
+            assertEquals(tape.getRoot().toString(), tree.getRoot().toString(), f.getName());
+            assertEquals(paths(tape.getLinkingSet().getObjectIdMap()), paths(tree.getLinkingSet().getObjectIdMap()), f.getName());
+            assertEquals(paths(tape.getLinkingSet().getLinkMap()), paths(tree.getLinkingSet().getLinkMap()), f.getName());
+            assertEquals(tape.getExpectedBox() == null, tree.getExpectedBox() == null, f.getName());
+            if (f.getName().equals("testbox.json")) {
+                ImplTestDefinition definition = ImplTestDefinition.getInstance();
+                String root = definition.getTestBox().getcName();
+                assertEquals(built(definition, JsonParser.parse(tape, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE)),
+                        built(definition, JsonParser.parse(tree, definition.getDescriptor(), root, JsonDebugLevel.SIMPLE)));
+            }
+        }
+    }
+
+    private static String built(ImplTestDefinition definition, de.jare.jsoncasted.item.JsonItem item) throws Exception {
+        Object box = JsonBuilder.buildInstance(definition.getModel(), false, item);
+        return JsonWriter.writeToString(box, definition, definition.getTestBox());
+    }
+
+    /**
+     * Tests that an off-heap resource reads and links like the tree of the iterative
+     * engine.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testOffHeap() throws Exception {
+        String doc = "{ a: [1, -2.5, true, null, \"x\\ny\"], b: (ValueInteger){zahl: 3},"
+                + " _woodObjectId: 7, f: [ {_woodLink: \"this::7\"} ] }";
+        JsonResource tree = parse(doc, JsonParserMode.ITERATIVE);
+        JsonResource offHeap = parse(doc, JsonParserMode.OFF_HEAP);
+        assertEquals(offHeap.getRoot().toString(), tree.getRoot().toString());
+        assertEquals(paths(offHeap.getLinkingSet().getObjectIdMap()), paths(tree.getLinkingSet().getObjectIdMap()));
+        assertEquals(paths(offHeap.getLinkingSet().getLinkMap()), paths(tree.getLinkingSet().getLinkMap()));
+        JsonNode linked = offHeap.getLinkingSet().getLinkMap().values().iterator().next().getNode();
+        assertEquals(linked, offHeap.getRoot().asObjectValues().get("f").asArray().get(0));
+    }
+
+    /**
+     * Tests the navigation of the tape and its paths.
+     */
+    @Test
+    public void testNavigation() {
+        JsonTape tape = new JsonTape.Builder().startObject().key("a").startArray().longValue(1).startObject().key("b")
+                .booleanValue(false).end().end().key("c").doubleValue(0.5).end().build();
+        int a = tape.find(tape.root(), "a");
+        assertEquals(tape.size(a), 2);
+        int b = tape.find(tape.next(tape.firstChild(a)), "b");
+        assertEquals(JsonTreeCursor.pathOf(tape.getRoot(), tape.node(b)), "$.a[1].b");
+        assertEquals(tape.getDouble(tape.find(tape.root(), "c")), 0.5);
+        assertEquals(tape.find(tape.root(), "x"), -1);
+        assertEquals(tape.node(a), tape.getRoot().asObjectValues().get("a"));
+    }
+
+    /**
+     * Tests that an off-heap tape in small chunks reads like the heap tape, also for
+     * strings and values crossing a chunk.
+     */
+    @Test
+    public void testOffHeapTape() {
+        JsonTape.Builder builder = new JsonTape.Builder().startObject();
+        for (int i = 0; i < 40; i++) {
+            builder.key("k" + i).startArray().string("text number " + i).longValue(i).doubleValue(i / 4.0)
+                    .booleanValue(i % 2 == 0).nullValue().end();
+        }
+        JsonTape heap = builder.end().build();
+        JsonTape offHeap = heap.toOffHeap(3, 4);
+        assertFalse(heap.isOffHeap());
+        assertTrue(offHeap.isOffHeap());
+        assertSame(offHeap.toOffHeap(), offHeap);
+        assertEquals(offHeap.getTapeLength(), heap.getTapeLength());
+        assertEquals(offHeap.getArenaLength(), heap.getArenaLength());
+        assertEquals(offHeap.getRoot().toString(), heap.getRoot().toString());
+        int k = offHeap.find(offHeap.root(), "k37");
+        assertEquals(offHeap.getText(offHeap.firstChild(k)), "text number 37");
+        assertEquals(offHeap.getRoot().asObjectValues().get("k39").asArray().get(2).asNumber(), 9.75);
+        assertEquals(heap.toOffHeap().getRoot().toString(), heap.getRoot().toString());
+
+        LinkNodeEntry entry = new LinkNodeEntry(offHeap.node(k), "save::1", "$.k37");
+        assertEquals(entry.getNode(), offHeap.node(k));
+        assertEquals(entry.getNode().asArray().get(1).asLong(), Long.valueOf(37));
+    }
+
+    /**
+     * Tests that builders writing small chunks on and off the heap build the same tape,
+     * also for strings longer than a chunk.
+     */
+    @Test
+    public void testChunkedBuilder() {
+        String longText = "a string longer than one chunk of the arena";
+        JsonTape[] tapes = new JsonTape[3];
+        JsonTape.Builder[] builders = {new JsonTape.Builder(), new JsonTape.Builder(false, 3, 4),
+            new JsonTape.Builder(true, 3, 4)};
+        for (int b = 0; b < builders.length; b++) {
+            JsonTape.Builder builder = builders[b].startArray();
+            for (int i = 0; i < 30; i++) {
+                builder.startObject().key("k").string(longText + i).key("n").longValue(i).key("k").nullValue().end();
+            }
+            tapes[b] = builder.end().build();
+        }
+        assertFalse(tapes[1].isOffHeap());
+        assertTrue(builders[2].isOffHeap() && tapes[2].isOffHeap());
+        for (JsonTape tape : tapes) {
+            assertEquals(tape.getTapeLength(), tapes[0].getTapeLength());
+            assertEquals(tape.getArenaLength(), tapes[0].getArenaLength());
+            assertEquals(tape.getRoot().toString(), tapes[0].getRoot().toString());
+            assertEquals(tape.size(tape.firstChild(tape.root())), 2);
+        }
+        JsonNode last = tapes[2].getRoot().asArray().get(29);
+        assertEquals(last.asObjectValues().get("n").asLong(), Long.valueOf(29));
+        assertEquals(tapes[1].toOffHeap(4, 5).getRoot().toString(), tapes[0].getRoot().toString());
+        assertEquals(new JsonTape.Builder(true, 3, 4).startObject().end().build().getArenaLength(), 0);
+    }
+}
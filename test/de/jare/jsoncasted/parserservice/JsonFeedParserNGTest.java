@@ -0,0 +1,122 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.File;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the chunk-fed JsonFeedParser.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonFeedParserNGTest {
+
+    private static final String[] DOCS = {
+        "{\"a\":1,\"b\":[1, 2.5, -3, true, false, null, 'x'],\"c\":{\"d\":\"e\"}}",
+        "[ (A){}, (B){ \"_class\": \"C\" }, [[], []], \"s\\\"q\\u0041, ]\" ]",
+        "[ { list: [ {[1, 2]}, 3 ], after: 4 }, {[5]}, 6, 7 ]",
+        "[ {\"k\" x}: 1, v: 'it\\'s'}, {a: [ } ]}, \"ä€𝄞\" ] trailing",
+        "  42 ",
+        "\"root\""
+    };
+
+    private static String expected(String doc) throws Exception {
+        return RootParser.parseRoot(new ParseStreamReader(new StringReader(doc), null)).toString();
+    }
+
+    private static JsonNode feedChars(String doc, int chunk) throws Exception {
+        JsonFeedParser parser = new JsonFeedParser(JsonResource.empty(), null);
+        char[] chars = doc.toCharArray();
+        for (int off = 0; off < chars.length; off += chunk) {
+            parser.feed(chars, off, Math.min(chunk, chars.length - off));
+        }
+        return parser.finish().getRoot();
+    }
+
+    private static JsonNode feedBytes(byte[] bytes, int chunk) throws Exception {
+        JsonFeedParser parser = new JsonFeedParser(JsonResource.empty(), null);
+        for (int off = 0; off < bytes.length; off += chunk) {
+            parser.feed(ByteBuffer.wrap(bytes, off, Math.min(chunk, bytes.length - off)));
+        }
+        return parser.finish().getRoot();
+    }
+
+    /**
+     * Tests that any chunking of characters and bytes yields the tree of the recursive parsers.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testChunksLikeTreeParser() throws Exception {
+        for (String doc : DOCS) {
+            String expected = expected(doc);
+            byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+            for (int chunk : new int[]{1, 2, 3, 7, 1000}) {
+                assertEquals(feedChars(doc, chunk).toString(), expected, doc + " / " + chunk);
+                assertEquals(feedBytes(bytes, chunk).toString(), expected, doc + " / " + chunk);
+            }
+        }
+    }
+
+    /**
+     * Tests that the asset files produce the same trees when fed in small byte chunks.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testAssetFiles() throws Exception {
+        File[] files = new File("./assets/config").listFiles((dir, name) -> name.endsWith(".json") && !name.contains("error"));
+        assertTrue(files != null && files.length > 0);
+        for (File f : files) {
+            byte[] bytes = Files.readAllBytes(f.toPath());
+            String expected = expected(new String(bytes, StandardCharsets.UTF_8).replace("\uFEFF", ""));
+            assertEquals(feedBytes(bytes, 5).toString(), expected, f.getName());
+        }
+    }
+
+    /**
+     * Tests that root array elements are parsed while the input arrives.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testElementsParsedEarly() throws Exception {
+        JsonFeedParser parser = new JsonFeedParser(JsonResource.empty(), null);
+        parser.feed("[{a: 1}, {b: 2}, {c:".toCharArray(), 0, 20);
+        assertEquals(parser.getElementCount(), 2);
+        parser.feed(" 3}]".toCharArray(), 0, 4);
+        assertEquals(parser.finish().getRoot().asArray().size(), 3);
+    }
+
+    /**
+     * Tests that unfinished input is rejected.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testUnfinished() throws Exception {
+        for (String doc : new String[]{"[1, 2", "{a: 1", "[\"x, ]"}) {
+            try {
+                feedChars(doc, 2);
+                fail("No exception for " + doc);
+            } catch (JsonParseException ex) {
+                // expected
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.lang.JsonTreeCursor;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.StringReader;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the parser engines selectable by JsonParserMode.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonParserModeNGTest {
+
+    private static JsonResource parse(File f, JsonParserMode mode) throws Exception {
+        try (FileInputStream in = new FileInputStream(f)) {
+            return JsonParserService.parse(in, JsonResource.forFile(f.getPath()), mode, JsonTokenReader.DEFAULT_MAX_DEPTH, JsonDebugLevel.SIMPLE);
+        }
+    }
+
+    private static String nested(int depth) {
+        StringBuilder sb = new StringBuilder(depth * 8);
+        for (int i = 0; i < depth; i++) {
+            sb.append(i % 2 == 0 ? "{a:" : "[");
+        }
+        sb.append('1');
+        for (int i = depth - 1; i >= 0; i--) {
+            sb.append(i % 2 == 0 ? '}' : ']');
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Tests that both engines produce the same resources for the asset files.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testAssetFilesLikeRecursive() throws Exception {
+        File[] files = new File("./assets/config").listFiles((dir, name) -> name.endsWith(".json") && !name.contains("error"));
+        assertTrue(files != null && files.length > 0);
+        for (File f : files) {
+            JsonResource expected = parse(f, JsonParserMode.RECURSIVE);
+            JsonResource actual = parse(f, JsonParserMode.ITERATIVE);
+            assertEquals(actual.getRoot().toString(), expected.getRoot().toString(), f.getName());
+            assertEquals(actual.getLinkingSet().getObjectIdMap().keySet(), expected.getLinkingSet().getObjectIdMap().keySet());
+            assertEquals(actual.getLinkingSet().getLinkMap().keySet(), expected.getLinkingSet().getLinkMap().keySet());
+        }
+    }
+
+    /**
+     * Tests that deeply nested documents are parsed and analyzed without recursion.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testDeepNesting() throws Exception {
+        final int depth = 200000;
+        JsonResource res = JsonParserService.parse(new StringReader(nested(depth)), JsonResource.empty(),
+                JsonParserMode.ITERATIVE, JsonTokenReader.DEFAULT_MAX_DEPTH, JsonDebugLevel.SIMPLE);
+        JsonTreeCursor cursor = new JsonTreeCursor(res.getRoot());
+        int maxDepth = 0;
+        JsonNode leaf = null;
+        while (cursor.next()) {
+            maxDepth = Math.max(maxDepth, cursor.getDepth());
+            leaf = cursor.getNode();
+        }
+        assertEquals(maxDepth, depth);
+        assertEquals(leaf.asLong(), Long.valueOf(1));
+    }
+
+    /**
+     * Tests the maximum depth guard.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testMaxDepth() throws Exception {
+        JsonParserService.parse(new StringReader(nested(10)), JsonResource.empty(), JsonParserMode.ITERATIVE, 10, JsonDebugLevel.SIMPLE);
+        try {
+            JsonParserService.parse(new StringReader(nested(11)), JsonResource.empty(), JsonParserMode.ITERATIVE, 10, JsonDebugLevel.SIMPLE);
+            fail("No exception for depth 11.");
+        } catch (JsonParseException ex) {
+            assertTrue(ex.getMessage().contains("depth"), ex.getMessage());
+        }
+    }
+
+    /**
+     * Tests the paths reported by the tree cursor.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testCursorPaths() throws Exception {
+        JsonNode root = RootParser.parseRoot(new ParseStreamReader(new StringReader("{a: [1, {b: 2}], c: {}}"), null));
+        JsonTreeCursor cursor = new JsonTreeCursor(root);
+        StringBuilder paths = new StringBuilder();
+        while (cursor.next()) {
+            paths.append(cursor.getPath()).append(' ');
+        }
+        assertEquals(paths.toString(), "$ $.a $.a[0] $.a[1] $.a[1].b $.c ");
+    }
+}
@@ -0,0 +1,153 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import java.io.File;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for compiled JSONPath queries.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonPathNGTest {
+
+    private static final String DOC = "{ store: { book: [ {title: \"A\", price: 8.95, tags: [\"x\"]},"
+            + " {title: \"B\", price: 12, isbn: \"0-1\"}, (ValueInteger){zahl: 3} ],"
+            + " bicycle: {color: red, price: 19.95} }, price: 1, empty: [] }";
+
+    private static List<String> tree(String path) throws Exception {
+        JsonResource res = JsonParserService.parse(DOC, JsonDebugLevel.SIMPLE);
+        return texts(JsonPath.compile(path).select(res));
+    }
+
+    private static List<String> stream(String path) throws Exception {
+        return texts(JsonParserService.select(new StringReader(DOC), JsonPath.compile(path), JsonDebugLevel.SIMPLE));
+    }
+
+    private static List<String> texts(List<JsonNode> nodes) {
+        List<String> ret = new ArrayList<>();
+        nodes.forEach(n -> ret.add(n.toString()));
+        return ret;
+    }
+
+    /**
+     * Tests the supported steps on trees and token streams.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testSelect() throws Exception {
+        String[][] cases = {
+            {"$.store.bicycle.color", "1"},
+            {"$['store']['book'][1].title", "1"},
+            {"$.store.book[-1].zahl", "1"},
+            {"$.store.book[*].title", "2"},
+            {"$.store.*", "2"},
+            {"$..price", "4"},
+            {"$..book[0]", "1"},
+            {"$..*", "19"},
+            {"$.store.book[?(@.price > 10)].title", "1"},
+            {"$.store.book[?(@.price <= 10)].title", "1"},
+            {"$.store.book[?(@.isbn)].title", "1"},
+            {"$.store.book[?(@.title == 'A')].tags[0]", "1"},
+            {"$.store.book[?(@.title != 'A')]", "1"},
+            {"$..[?(@.color == 'red')].price", "1"},
+            {"$..zahl", "1"},
+            {"$.store.book[2]._class", "1"},
+            {"$.empty[0]", "0"},
+            {"$", "1"},
+            {"$.missing..x", "0"}
+        };
+        for (String[] c : cases) {
+            List<String> fromTree = tree(c[0]);
+            assertEquals(fromTree.size(), Integer.parseInt(c[1]), c[0] + " " + fromTree);
+            assertEquals(stream(c[0]), fromTree, c[0]);
+        }
+        assertEquals(tree("$.store.book[?(@.price > 10)].title"), List.of("\"B\""));
+        assertEquals(stream("$.store.book[2]._class"), List.of("\"ValueInteger\""));
+        assertEquals(tree("$..price"), List.of("8.95", "12", "19.95", "1"));
+    }
+
+    /**
+     * Tests that the same compiled query selects from the asset files in both ways.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testAssetFiles() throws Exception {
+        File[] files = new File("./assets/config").listFiles((dir, name) -> name.endsWith(".json") && !name.contains("error"));
+        assertTrue(files != null && files.length > 0);
+        JsonPath path = JsonPath.compile("$..*");
+        for (File f : files) {
+            JsonResource res = JsonParserService.parse(f, JsonDebugLevel.SIMPLE);
+            assertEquals(texts(JsonParserService.select(f, path, JsonDebugLevel.SIMPLE)), texts(path.select(res)), f.getName());
+        }
+    }
+
+    /**
+     * Tests that deeply nested trees and streams are walked without recursion.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testDeep() throws Exception {
+        final int depth = 100_000;
+        StringBuilder doc = new StringBuilder();
+        for (int i = 0; i < depth; i++) {
+            doc.append("{\"k\":[");
+        }
+        doc.append("\"x\"");
+        for (int i = 0; i < depth; i++) {
+            doc.append("]}");
+        }
+        JsonPath path = JsonPath.compile("$..k[0]");
+        List<JsonNode> fromStream = JsonParserService.select(new StringReader(doc.toString()), path, JsonDebugLevel.SIMPLE);
+        assertEquals(fromStream.size(), depth);
+        assertEquals(fromStream.get(depth - 1).asText(), "x");
+        JsonNode root = JsonNode.stringNode("x");
+        for (int i = 0; i < depth; i++) {
+            root = JsonNode.objectNode().put("k", JsonNode.arrayNode().add(root));
+        }
+        List<JsonNode> fromTree = path.select(root);
+        assertEquals(fromTree.size(), depth);
+        assertEquals(fromTree.get(depth - 1).asText(), "x");
+        assertSame(JsonPath.compile("$..k[0].k[0].k").first(root), fromTree.get(1).asObjectValues().get("k"));
+    }
+
+    /**
+     * Tests the first match and rejected expressions.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testCompile() throws Exception {
+        JsonNode root = JsonParserService.parse(DOC, JsonDebugLevel.SIMPLE).getRoot();
+        assertEquals(JsonPath.compile("$..title").first(root).asText(), "A");
+        assertNull(JsonPath.compile("$.x").first(root));
+        assertEquals(JsonPath.compile(" $.a ").getExpression(), " $.a ");
+        for (String bad : new String[]{"store", "$.", "$[x]", "$['a", "$[?(@.a == )]", "$[?(@.a == x)]", "$.a]"}) {
+            try {
+                JsonPath.compile(bad);
+                fail("Accepted " + bad);
+            } catch (IllegalArgumentException ex) {
+                // expected
+            }
+        }
+    }
+}
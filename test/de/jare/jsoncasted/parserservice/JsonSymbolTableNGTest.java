@@ -0,0 +1,74 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import java.io.StringReader;
+import java.util.Iterator;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the key interning JsonSymbolTable.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonSymbolTableNGTest {
+
+    private static String firstKey(JsonNode node) {
+        Iterator<String> it = node.asObjectValues().keySet().iterator();
+        return it.next();
+    }
+
+    /**
+     * Tests that all objects of a parse share the same key instances, for quoted and unquoted keys.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testSharedKeys() throws Exception {
+        ParseStreamReader psr = new ParseStreamReader(new StringReader(
+                "[{\"id\":1}, {'id':2}, { id = 3 }, {\"i\\u0064\":4}]"), null);
+        List<JsonNode> list = RootParser.parse(psr, JsonResource.empty(), null).getRoot().asArray();
+        final String key = firstKey(list.get(0));
+        assertEquals(key, "id");
+        for (JsonNode node : list) {
+            assertSame(firstKey(node), key);
+        }
+        assertEquals(psr.getSymbolTable().size(), 1);
+    }
+
+    /**
+     * Tests sharing a table across parses and the size limit.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testSharedTableAndLimit() throws Exception {
+        JsonSymbolTable table = new JsonSymbolTable(2);
+        String[] keys = new String[2];
+        for (int i = 0; i < 2; i++) {
+            ParseStreamReader psr = new ParseStreamReader(new StringReader("{name: 1, a: 2, b: 3}"), null);
+            psr.setSymbolTable(table);
+            keys[i] = firstKey(RootParser.parse(psr, JsonResource.empty(), null).getRoot());
+        }
+        assertSame(keys[0], keys[1]);
+        assertEquals(table.size(), 2);
+        char[] buf = "xbx".toCharArray();
+        assertNotSame(table.intern(buf, 1, 1), table.intern("b", 0, 1));
+        assertSame(table.intern("a name", 2, 6), keys[0]);
+        assertFalse(table.hasUnderscoreSymbol());
+        table.intern("_woodLink", 0, 9);
+        assertTrue(table.hasUnderscoreSymbol(), "also beyond the limit");
+    }
+}
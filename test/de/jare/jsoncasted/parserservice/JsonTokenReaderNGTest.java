@@ -0,0 +1,146 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the pull-style JsonTokenReader.
+ *
+ * @author Janusch Rentenatus
+ */
+public class JsonTokenReaderNGTest {
+
+    private static final String[] DOCS = {
+        "{\"a\":1,\"b\":[1, 2.5, -3, true, false, null, 'x'],\"c\":{\"d\":\"e\"}}",
+        "{ a = 1, 'b' : SPRING, c: (de.Type){ x: 1 }, d: [ , 1, , ], e: {}, }",
+        "[ (A){}, (B){ \"_class\": \"C\" }, [[], []], \"s\\\"q\\u0041\" ]",
+        "{ list: [ {[1, 2]}, 3 ], after: 4 }",
+        "[ {\t[1,2], }, 3, 4 ]",
+        "{\n\t[1,2],}",
+        "  42 ",
+        "\"root\""
+    };
+
+    private static JsonTokenReader reader(String s) {
+        return new JsonTokenReader(new ParseStreamReader(new StringReader(s), null));
+    }
+
+    /**
+     * Tests that readNode builds the same trees as the recursive parsers.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testReadNodeLikeTreeParser() throws Exception {
+        for (String doc : DOCS) {
+            JsonNode expected = RootParser.parseRoot(new ParseStreamReader(new StringReader(doc), null));
+            JsonTokenReader tr = reader(doc);
+            tr.nextToken();
+            assertEquals(tr.readNode().toString(), expected.toString(), doc);
+            assertNull(tr.nextToken(), doc);
+        }
+    }
+
+    /**
+     * Tests that the asset files produce the same trees through the token reader.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testAssetFiles() throws Exception {
+        File[] files = new File("./assets/config").listFiles((dir, name) -> name.endsWith(".json") && !name.contains("error"));
+        assertTrue(files != null && files.length > 0);
+        for (File f : files) {
+            JsonNode expected;
+            try (FileInputStream in = new FileInputStream(f)) {
+                expected = RootParser.parseRoot(new Utf8ParseStreamReader(in, null));
+            }
+            try (FileInputStream in = new FileInputStream(f)) {
+                JsonTokenReader tr = new JsonTokenReader(new Utf8ParseStreamReader(in, null));
+                tr.nextToken();
+                assertEquals(tr.readNode().toString(), expected.toString(), f.getName());
+            }
+        }
+    }
+
+    /**
+     * Tests the emitted token sequence for casts and unquoted values.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testTokens() throws Exception {
+        JsonTokenReader tr = reader("{k: (T){n: 7}, l:[x, 1.5]}");
+        List<JsonToken> tokens = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        JsonToken t;
+        while ((t = tr.nextToken()) != null) {
+            tokens.add(t);
+            texts.add(tr.getText());
+        }
+        assertEquals(tokens, List.of(JsonToken.START_OBJECT, JsonToken.FIELD_NAME, JsonToken.CAST, JsonToken.START_OBJECT,
+                JsonToken.FIELD_NAME, JsonToken.VALUE_LONG, JsonToken.END_OBJECT, JsonToken.FIELD_NAME, JsonToken.START_ARRAY,
+                JsonToken.VALUE_STRING, JsonToken.VALUE_NUMBER, JsonToken.END_ARRAY, JsonToken.END_OBJECT));
+        assertEquals(texts.get(1), "k");
+        assertEquals(texts.get(2), "T");
+        assertEquals(texts.get(5), "7");
+        assertEquals(texts.get(9), "x");
+        assertEquals(tr.getDepth(), 0);
+    }
+
+    /**
+     * Tests skipping nested structures while streaming the elements of a root array.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testSkipChildren() throws Exception {
+        JsonTokenReader tr = reader("[{a:[1,{b:2}]}, (T){c:3}, 4]");
+        assertEquals(tr.nextToken(), JsonToken.START_ARRAY);
+        assertEquals(tr.nextToken(), JsonToken.START_OBJECT);
+        tr.skipChildren();
+        assertEquals(tr.currentToken(), JsonToken.END_OBJECT);
+        assertEquals(tr.nextToken(), JsonToken.CAST);
+        tr.skipChildren();
+        assertEquals(tr.getDepth(), 1);
+        assertEquals(tr.nextToken(), JsonToken.VALUE_LONG);
+        assertEquals(tr.getLongValue(), 4L);
+        assertEquals(tr.nextToken(), JsonToken.END_ARRAY);
+        assertNull(tr.nextToken());
+    }
+
+    /**
+     * Tests that malformed input is rejected.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testMalformed() throws Exception {
+        String[] bad = {"{a: \"x\" \"y\"}", "[\"x\" [1]]", "{a:1", "[1, 2", "(T) x", "{a:1, [2]}", "{\n[1,2]}"};
+        for (String doc : bad) {
+            JsonTokenReader tr = reader(doc);
+            try {
+                while (tr.nextToken() != null) {
+                }
+                throw new AssertionError("No exception for " + doc);
+            } catch (JsonParseException ex) {
+                // expected
+            }
+        }
+    }
+}
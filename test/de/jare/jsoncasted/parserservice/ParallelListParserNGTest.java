@@ -0,0 +1,109 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.StringReader;
+import java.util.concurrent.ForkJoinPool;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNull;
+import static org.testng.Assert.fail;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the ParallelListParser.
+ *
+ * @author Janusch Rentenatus
+ */
+public class ParallelListParserNGTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @AfterClass
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    private static String document() {
+        StringBuilder doc = new StringBuilder(" [\n");
+        for (int i = 0; i < 500; i++) {
+            doc.append(i == 0 ? "" : ",\n");
+            switch (i % 5) {
+                case 0:
+                    doc.append("{\"id\":").append(i).append(",\"text\":\"a, b] } \\\" [c\"}");
+                    break;
+                case 1:
+                    doc.append("(de.Type){ n: ").append(i).append(", s: 'it\\'s, [x]' }");
+                    break;
+                case 2:
+                    doc.append("[").append(i).append(", [\"]\", '{'], {}]");
+                    break;
+                case 3:
+                    doc.append("SPRING ,");
+                    break;
+                default:
+                    doc.append(i).append(".5");
+            }
+        }
+        return doc.append("\n] trailing").toString();
+    }
+
+    private static JsonNode sequential(String doc) throws Exception {
+        return RootParser.parseRoot(new ParseStreamReader(new StringReader(doc), null));
+    }
+
+    /**
+     * Tests that the parallel parse produces the same tree as the sequential one.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testLikeSequential() throws Exception {
+        String doc = document();
+        assertNotNull(ParallelListParser.split(doc, 64));
+        JsonNode parallel = ParallelListParser.parseRoot(doc, pool, 64, null);
+        JsonNode expected = sequential(doc);
+        assertEquals(parallel.asArray().size(), expected.asArray().size());
+        assertEquals(parallel.toString(), expected.toString());
+    }
+
+    /**
+     * Tests the documents that are parsed sequentially.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testNotSplit() throws Exception {
+        String[] docs = {"{a: [1, 2, 3, 4, 5, 6, 7, 8]}", "[1, 2]", "[{[1, 2]}, 3, 4, 5, 6, 7, 8]", "[1, \"2, 3, 4, 5",
+            "[1, {\t[2, 3], }, 4, 5, 6, 7, 8]"};
+        for (String doc : docs) {
+            assertNull(ParallelListParser.split(doc, 4), doc);
+        }
+        assertEquals(ParallelListParser.parseRoot(docs[2], pool, 4, null).toString(), sequential(docs[2]).toString());
+        assertEquals(ParallelListParser.parseRoot(docs[4], pool, 4, null).toString(), sequential(docs[4]).toString());
+    }
+
+    /**
+     * Tests that errors are reported like by the sequential parser.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testMalformed() throws Exception {
+        String doc = "[1, 2, 3, 4,\n 5, \"\\u00zz\", 7, 8, 9, 10]";
+        assertNotNull(ParallelListParser.split(doc, 4));
+        try {
+            ParallelListParser.parseRoot(doc, pool, 4, null);
+            fail("No exception for " + doc);
+        } catch (JsonParseException ex) {
+            assertEquals(ex.getMessage().contains("row 2"), true, ex.getMessage());
+        }
+    }
+}
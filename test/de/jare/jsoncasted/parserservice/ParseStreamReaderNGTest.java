@@ -0,0 +1,104 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.StringReader;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the block-buffered ParseStreamReader.
+ *
+ * @author Janusch Rentenatus
+ */
+public class ParseStreamReaderNGTest {
+
+    /**
+     * Tests that line breaks are skipped and rows and columns are tracked for LF, CR and CRLF.
+     *
+     * @throws Exception If reading fails.
+     */
+    @Test
+    public void testRowsAndColumns() throws Exception {
+        ParseStreamReader psr = new ParseStreamReader(new StringReader("ab\ncd\r\nef\rg\n\nh"), 16, null);
+        StringBuilder sb = new StringBuilder();
+        int[] rows = new int[8];
+        int[] cols = new int[8];
+        int i = 0;
+        while (psr.hasNext()) {
+            rows[i] = psr.getRow();
+            cols[i] = psr.getColumn();
+            sb.append(psr.next());
+            i++;
+        }
+        Assert.assertEquals(sb.toString(), "abcdefgh");
+        Assert.assertEquals(rows, new int[]{1, 1, 2, 2, 3, 3, 4, 6});
+        Assert.assertEquals(cols, new int[]{1, 2, 1, 2, 1, 2, 1, 1});
+    }
+
+    /**
+     * Tests lookahead and multi-character consumption across window refills.
+     *
+     * @throws Exception If reading fails.
+     */
+    @Test
+    public void testViewAndNextAcrossWindow() throws Exception {
+        ParseStreamReader psr = new ParseStreamReader(new StringReader("0123456789abcdef0123456789ABCDEF"), 16, null);
+        Assert.assertEquals(psr.next(14), "0123456789abcd");
+        Assert.assertEquals(psr.view(), 'e');
+        Assert.assertEquals(psr.next(4), "ef01");
+        Assert.assertEquals(psr.getColumn(), 19);
+    }
+
+    /**
+     * Tests that a minified document parses the same with a tiny window as with the default one.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testSmallWindowParse() throws Exception {
+        StringBuilder doc = new StringBuilder("{\"list\":[");
+        for (int i = 0; i < 200; i++) {
+            doc.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"name\":\"item \\\"").append(i)
+                    .append("\\\" \\u0041\",b:true}");
+        }
+        doc.append("]}");
+        JsonNode small = RootParser.parse(new ParseStreamReader(new StringReader(doc.toString()), 16, JsonDebugLevel.SIMPLE),
+                JsonResource.forFile("small"), JsonDebugLevel.SIMPLE).getRoot();
+        JsonNode large = RootParser.parse(new ParseStreamReader(new StringReader(doc.toString()), JsonDebugLevel.SIMPLE),
+                JsonResource.forFile("large"), JsonDebugLevel.SIMPLE).getRoot();
+        Assert.assertEquals(small.toString(), large.toString());
+        Assert.assertEquals(small.asObjectValues().get("list").asArray().size(), 200);
+    }
+
+    /**
+     * Tests that lazily decoded string nodes yield the same text as eager string parsing.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testLazyStringNode() throws Exception {
+        String[] strings = {"plain\"", "a\\tb\\n\"", "q\\\"x\\u0041\\u00e4\"", "back\\\\slash\\/\"",
+            "\\r\\f\\b\"", "\""};
+        for (String s : strings) {
+            String expected = StringParser.parse(new ParseStreamReader(new StringReader(s), 16, null), '"');
+            JsonNode node = StringParser.parseNode(new ParseStreamReader(new StringReader(s), 16, null), '"');
+            Assert.assertEquals(node.asText(), expected, s);
+            Assert.assertSame(node.asText(), node.asText(), s);
+        }
+        try {
+            StringParser.parseNode(new ParseStreamReader(new StringReader("\\u00zz\""), null), '"');
+            Assert.fail("No exception for malformed unicode escape.");
+        } catch (JsonParseException ex) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Wall-clock benchmark of the parser engines on generated documents.
+ *
+ * <p>
+ * The benchmark is not part of the test suite. After {@code mvn test-compile} it is
+ * run with</p>
+ * <pre>
+ * java -Xms2g -Xmx2g -cp target/classes:target/test-classes \
+ *     de.jare.jsoncasted.parserservice.ParserBenchmark [parallel|iterative|strict]
+ * </pre>
+ * <p>
+ * Every case is warmed up and then measured several times, after a garbage collection
+ * each; the median and the best time are printed in milliseconds.</p>
+ *
+ * @author Janusch Rentenatus
+ */
+public final class ParserBenchmark {
+
+    private static final int WARMUP = 10;
+    private static final int ROUNDS = 10;
+
+    private ParserBenchmark() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    /**
+     * A parse run of one case.
+     */
+    private interface Run {
+
+        JsonNode parse() throws Exception;
+    }
+
+    /**
+     * Runs the benchmarks named by the arguments, or all of them.
+     *
+     * @param args the benchmark names.
+     * @throws Exception If parsing fails.
+     */
+    public static void main(String[] args) throws Exception {
+        final String which = args.length > 0 ? args[0] : "all";
+        if (which.equals("all") || which.equals("parallel")) {
+            parallel();
+        }
+        if (which.equals("all") || which.equals("iterative")) {
+            iterative();
+        }
+        if (which.equals("all") || which.equals("strict")) {
+            strict();
+        }
+    }
+
+    /**
+     * Sequential RECURSIVE parsing against ParallelListParser on a flat top-level array.
+     */
+    private static void parallel() throws Exception {
+        final String doc = flatDocument(200_000);
+        final ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        final Map<String, Run> runs = new LinkedHashMap<>();
+        runs.put("RECURSIVE", () -> recursive(doc));
+        runs.put("parallel x" + pool.getParallelism(), ()
+                -> ParallelListParser.parseRoot(doc, pool, ParallelListParser.DEFAULT_MIN_CHUNK_SIZE, null));
+        try {
+            measure("parallel: 200k flat objects, " + doc.length() / 1024 + " KiB", runs);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * The RECURSIVE engine against the ITERATIVE engine on flat and on deeply nested
+     * documents.
+     */
+    private static void iterative() throws Exception {
+        final String flat = flatDocument(200_000);
+        final Map<String, Run> runs = new LinkedHashMap<>();
+        runs.put("RECURSIVE", () -> recursive(flat));
+        runs.put("ITERATIVE", () -> parse(flat, JsonParserMode.ITERATIVE));
+        measure("iterative: 200k flat objects, " + flat.length() / 1024 + " KiB", runs);
+        final String deep = deepDocument(2000, 200);
+        runs.clear();
+        runs.put("RECURSIVE", () -> recursive(deep));
+        runs.put("ITERATIVE", () -> parse(deep, JsonParserMode.ITERATIVE));
+        measure("iterative: 2000 elements of depth 200, " + deep.length() / 1024 + " KiB", runs);
+    }
+
+    /**
+     * The RECURSIVE engine against the STRICT engine on standard JSON.
+     */
+    private static void strict() throws Exception {
+        final String flat = flatDocument(200_000);
+        final Map<String, Run> runs = new LinkedHashMap<>();
+        runs.put("RECURSIVE", () -> recursive(flat));
+        runs.put("STRICT", () -> parse(flat, JsonParserMode.STRICT));
+        measure("strict: 200k flat objects, " + flat.length() / 1024 + " KiB", runs);
+    }
+
+    /**
+     * Returns a top-level array of small objects with strings, numbers and a nested array.
+     *
+     * @param count the number of objects.
+     * @return the document.
+     */
+    static String flatDocument(int count) {
+        final StringBuilder sb = new StringBuilder(count * 80);
+        sb.append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(",\n");
+            }
+            sb.append("{\"id\":").append(i).append(",\"name\":\"item ").append(i)
+                    .append("\",\"price\":").append(i % 100).append(".25,\"ok\":").append(i % 2 == 0)
+                    .append(",\"tags\":[\"a\",\"b\"]}");
+        }
+        return sb.append(']').toString();
+    }
+
+    /**
+     * Returns a top-level array of elements that nest objects and arrays alternately.
+     *
+     * @param count the number of elements.
+     * @param depth the nesting depth of each element.
+     * @return the document.
+     */
+    static String deepDocument(int count, int depth) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append('[');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            for (int d = 0; d < depth; d++) {
+                sb.append(d % 2 == 0 ? "{\"k\":" : "[");
+            }
+            sb.append(i);
+            for (int d = depth - 1; d >= 0; d--) {
+                sb.append(d % 2 == 0 ? '}' : ']');
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    static JsonNode parse(String doc, JsonParserMode mode) throws Exception {
+        return RootParser.parseRoot(new ParseStreamReader(new StringReader(doc), null), mode, Integer.MAX_VALUE);
+    }
+
+    static JsonNode recursive(String doc) throws Exception {
+        return RootParser.parseRoot(new ParseStreamReader(new StringReader(doc), null));
+    }
+
+    /**
+     * Measures the runs alternately and prints their median and best times.
+     *
+     * @param title the title of the benchmark.
+     * @param runs the named runs.
+     * @throws Exception If parsing fails.
+     */
+    static void measure(String title, Map<String, Run> runs) throws Exception {
+        final Map<String, long[]> times = new LinkedHashMap<>();
+        runs.keySet().forEach(name -> times.put(name, new long[ROUNDS]));
+        for (int round = -WARMUP; round < ROUNDS; round++) {
+            for (Map.Entry<String, Run> run : runs.entrySet()) {
+                // the tree of the previous run must not be collected during this one
+                System.gc();
+                final long start = System.nanoTime();
+                final JsonNode root = run.getValue().parse();
+                final long time = System.nanoTime() - start;
+                if (root == null) {
+                    throw new IllegalStateException(run.getKey() + " returned no root");
+                }
+                if (round >= 0) {
+                    times.get(run.getKey())[round] = time;
+                }
+            }
+        }
+        System.out.println(title);
+        for (Map.Entry<String, long[]> t : times.entrySet()) {
+            final long[] sorted = t.getValue().clone();
+            Arrays.sort(sorted);
+            System.out.printf("  %-14s median %6d ms   best %6d ms%n", t.getKey(),
+                    sorted[ROUNDS / 2] / 1_000_000, sorted[0] / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.parserwriter.JsonParseException;
+import java.io.StringReader;
+import java.util.Set;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.fail;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the strict RFC 8259 parser.
+ *
+ * @author Janusch Rentenatus
+ */
+public class StrictParserNGTest {
+
+    private static final String[] DOCS = {
+        "{\"a\":1,\"b\":[1, 2.5, -3, true, false, null, \"x\"],\"c\":{\"d\":\"e\"}}",
+        " { \"_class\" : \"de.Type\", \"n\" : -0, \"big\": 12345678901234567890, \"e\": 1.5E-3, \"f\": 2e10 } ",
+        "[\"s\\\"q\\u0041\\\\ \\/ \\t\\n\", \"\\u00e4ö\", [], {}, [[{}]], \" key \"]",
+        "{\n\t\"a\" :\r\n[1,\n2\r],\r\"b\"\n:\ntrue\n}\n",
+        "\t\"root\"\t",
+        "-12.75",
+        "null"
+    };
+
+    private static JsonNode strict(String doc) throws Exception {
+        return strict(doc, ParseStreamReader.DEFAULT_BUFFER_SIZE);
+    }
+
+    private static JsonNode strict(String doc, int bufferSize) throws Exception {
+        return StrictParser.parseRoot(new ParseStreamReader(new StringReader(doc), bufferSize, null), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Tests that standard JSON gives the same nodes as the lenient parsers.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testLikeLenient() throws Exception {
+        for (String doc : DOCS) {
+            JsonNode expected = RootParser.parseRoot(new ParseStreamReader(new StringReader(doc), null));
+            JsonNode actual = strict(doc);
+            assertEquals(actual.toString(), expected.toString(), doc);
+            assertEquals(actual.getType(), expected.getType(), doc);
+            assertEquals(strict(doc, ParseStreamReader.MIN_BUFFER_SIZE).toString(), expected.toString(), doc);
+        }
+    }
+
+    /**
+     * Tests that the lenient extensions and malformed JSON are rejected.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testRejected() throws Exception {
+        String[] bad = {"{a: 1}", "{'a': 1}", "{\"a\" = 1}", "[1, 2,]", "[1,,2]", "(T){}", "[SPRING]", "[01]", "[1.]",
+            "[.5]", "[+1]", "[1e]", "[\"\\x\"]", "[\"\\u12g4\"]", "[\"a\tb\"]", "{\"a\":1} x", "[true false]", "[nul]",
+            "{\"a\":1", "", "[\"open]", "{\"a\tb\": 1}", "[1\n2]", "[1\r\n2]", "{\"k\ney\":1}", "{\"a\":\"x\ny\"}",
+            "{\"a\":\"x\ry\"}", "[tr\nue]", "[-\n1]", "[1.\n5]", "[\"\\\n\"]"};
+        for (String doc : bad) {
+            for (int size : new int[]{ParseStreamReader.DEFAULT_BUFFER_SIZE, ParseStreamReader.MIN_BUFFER_SIZE}) {
+                try {
+                    strict(doc, size);
+                    fail("No exception for " + doc);
+                } catch (JsonParseException ex) {
+                    // expected
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests that member names are kept as written, with their spaces.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testKeysNotTrimmed() throws Exception {
+        JsonNode root = strict("{\" key \": 1, \"key\": 2, \"k\\u0065y \": 3}");
+        assertEquals(root.asObjectValues().keySet(), Set.of(" key ", "key", "key "));
+        assertEquals(root.asObjectValues().get(" key ").asLong(), Long.valueOf(1));
+        assertEquals(root.asObjectValues().get("key ").asLong(), Long.valueOf(3));
+    }
+
+    /**
+     * Tests the maximum depth guard.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testMaxDepth() throws Exception {
+        StrictParser.parseRoot(new ParseStreamReader(new StringReader("[[{\"a\":[]}]]"), null), 4);
+        try {
+            StrictParser.parseRoot(new ParseStreamReader(new StringReader("[[{\"a\":[[]]}]]"), null), 4);
+            fail("No exception for depth 5.");
+        } catch (JsonParseException ex) {
+            // expected
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.lang.JsonNode;
+import de.jare.jsoncasted.lang.JsonResource;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for the UTF-8 byte front-end of the parser.
+ *
+ * @author Janusch Rentenatus
+ */
+public class Utf8ParseStreamReaderNGTest {
+
+    private static final String DOC = "{\"name\":\"Grüße – 日本 😀\",\n list:[1, 2.5, 'ä', true]}";
+
+    /**
+     * Tests that byte array, heap buffer and direct buffer input produce the same tree as string input.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testBytesLikeString() throws Exception {
+        final String expected = JsonParserService.parse(DOC, JsonDebugLevel.SIMPLE).getRoot().toString();
+        byte[] data = DOC.getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(JsonParserService.parse(data, JsonDebugLevel.SIMPLE).getRoot().toString(), expected);
+        ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+        direct.put(data).flip();
+        JsonNode node = JsonParserService.parse(direct, JsonResource.empty(), JsonDebugLevel.SIMPLE).getRoot();
+        Assert.assertEquals(node.toString(), expected);
+        Assert.assertEquals(direct.position(), 0);
+        Assert.assertEquals(node.asObjectValues().get("name").asText(), "Grüße – 日本 😀");
+    }
+
+    /**
+     * Tests multi-byte sequences split across stream reads and a leading byte order mark.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testTricklingStream() throws Exception {
+        byte[] data = DOC.getBytes(StandardCharsets.UTF_8);
+        byte[] withBom = new byte[data.length + 3];
+        withBom[0] = (byte) 0xEF;
+        withBom[1] = (byte) 0xBB;
+        withBom[2] = (byte) 0xBF;
+        System.arraycopy(data, 0, withBom, 3, data.length);
+        InputStream trickle = new ByteArrayInputStream(withBom) {
+            @Override
+            public synchronized int read(byte[] b, int off, int len) {
+                return super.read(b, off, Math.min(len, 1));
+            }
+        };
+        JsonNode node = JsonParserService.parse(trickle, "trickle", JsonDebugLevel.SIMPLE).getRoot();
+        Assert.assertEquals(node.toString(), JsonParserService.parse(DOC, JsonDebugLevel.SIMPLE).getRoot().toString());
+    }
+
+    /**
+     * Tests that malformed bytes are replaced instead of failing the parse.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testMalformed() throws Exception {
+        byte[] data = {'[', '"', 'a', (byte) 0xC3, '"', ',', '"', (byte) 0xFF, 'b', '"', ']'};
+        JsonNode node = JsonParserService.parse(data, JsonDebugLevel.SIMPLE).getRoot();
+        Assert.assertEquals(node.asArray().get(0).asText(), "a�");
+        Assert.assertEquals(node.asArray().get(1).asText(), "�b");
+    }
+
+    /**
+     * Tests that an asset file parses the same from bytes as from a reader.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testAssetFile() throws Exception {
+        File f = new File("./assets/config/testbox.json");
+        Assert.assertTrue(f.exists(), "asset file must exist: " + f.getAbsolutePath());
+        String expected;
+        try (FileReader fr = new FileReader(f, StandardCharsets.UTF_8)) {
+            expected = JsonParserService.parse(fr, f.getName(), JsonDebugLevel.SIMPLE).getRoot().toString();
+        }
+        byte[] data = Files.readAllBytes(f.toPath());
+        Assert.assertEquals(JsonParserService.parse(data, JsonDebugLevel.SIMPLE).getRoot().toString(), expected);
+    }
+
+    /**
+     * Tests that a memory-mapped file parses the same as a streamed file.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testMappedFile() throws Exception {
+        File f = new File("./assets/config/testbox.json");
+        Assert.assertTrue(f.exists(), "asset file must exist: " + f.getAbsolutePath());
+        JsonResource mapped = JsonParserService.parse(f, JsonResource.forFile(f.getPath()), 0L, JsonDebugLevel.SIMPLE);
+        JsonResource streamed = JsonParserService.parse(f, JsonResource.forFile(f.getPath()), Long.MAX_VALUE, JsonDebugLevel.SIMPLE);
+        Assert.assertEquals(mapped.getRoot().toString(), streamed.getRoot().toString());
+        Assert.assertEquals(JsonParserService.parse(f, JsonDebugLevel.SIMPLE).getRoot().toString(), streamed.getRoot().toString());
+    }
+
+    /**
+     * Tests that a file in another encoding parses with an explicit charset.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testFileCharset() throws Exception {
+        File f = File.createTempFile("latin1", ".json");
+        f.deleteOnExit();
+        Files.write(f.toPath(), "{ name: \"Gr\u00fc\u00dfe\" }".getBytes(StandardCharsets.ISO_8859_1));
+        JsonResource res = JsonParserService.parse(f, StandardCharsets.ISO_8859_1, JsonDebugLevel.SIMPLE);
+        Assert.assertEquals(res.getRoot().asObjectValues().get("name").asText(), "Gr\u00fc\u00dfe");
+    }
+}
@@ -0,0 +1,116 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.parserservice;
+
+import de.jare.debug.JsonDebugLevel;
+import de.jare.jsoncasted.lang.JsonExceptionEntry;
+import de.jare.jsoncasted.lang.JsonResource;
+import de.jare.jsoncasted.lang.LinkNodeEntry;
+import java.io.File;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.TreeMap;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertTrue;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for collecting wood providers, object IDs and links while parsing.
+ *
+ * @author Janusch Rentenatus
+ */
+public class WoodNodeCollectorNGTest {
+
+    private static final String DOC = "{ _woodProviders: [{synonym: s, filename: f.json}],"
+            + " a: [ {_woodObjectId: 1, b: {_woodLink: \"this::2\", _woodObjectId: 3}}, (ValueInteger){zahl: 4, _woodObjectId: 2} ],"
+            + " c: {_woodLink: \"s::9\"}, d: {_woodObjectId: \"x::y\"} }";
+
+    private static JsonResource collected(String doc, JsonParserMode mode) throws Exception {
+        return RootParser.parse(new ParseStreamReader(new StringReader(doc), null), JsonResource.forFile("doc.json"),
+                mode, JsonTokenReader.DEFAULT_MAX_DEPTH, JsonDebugLevel.SIMPLE);
+    }
+
+    private static JsonResource walked(String doc) throws Exception {
+        return RootParser.analyze(RootParser.parseRoot(new ParseStreamReader(new StringReader(doc), null)),
+                JsonResource.forFile("doc.json"), JsonDebugLevel.SIMPLE);
+    }
+
+    /**
+     * Returns the paths of linking entries sorted by their key, for comparing the
+     * linking sets of two resources.
+     *
+     * @param entries the entries by key.
+     * @return the paths by key.
+     */
+    public static Map<String, String> paths(Map<String, LinkNodeEntry> entries) {
+        Map<String, String> ret = new TreeMap<>();
+        entries.forEach((key, entry) -> ret.put(key, entry.getPath()));
+        return ret;
+    }
+
+    private static void assertSameAnalysis(JsonResource actual, JsonResource expected, String name) {
+        assertEquals(paths(actual.getLinkingSet().getObjectIdMap()), paths(expected.getLinkingSet().getObjectIdMap()), name);
+        assertEquals(paths(actual.getLinkingSet().getLinkMap()), paths(expected.getLinkingSet().getLinkMap()), name);
+        assertEquals(actual.getLinkingSet().getScanExceptions().size(), expected.getLinkingSet().getScanExceptions().size());
+        for (int i = 0; i < actual.getLinkingSet().getScanExceptions().size(); i++) {
+            JsonExceptionEntry entry = actual.getLinkingSet().getScanExceptions().get(i);
+            assertEquals(entry.getPath(), expected.getLinkingSet().getScanExceptions().get(i).getPath(), name);
+        }
+        assertEquals(actual.getExpectedBox() == null, expected.getExpectedBox() == null, name);
+    }
+
+    /**
+     * Tests that the collected analysis equals the analysis of the parsed tree.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testLikeTreeWalk() throws Exception {
+        JsonResource expected = walked(DOC);
+        assertEquals(expected.getLinkingSet().getObjectIdMap().size(), 3);
+        assertEquals(expected.getLinkingSet().getScanExceptions().size(), 1);
+        for (JsonParserMode mode : new JsonParserMode[]{JsonParserMode.RECURSIVE, JsonParserMode.ITERATIVE}) {
+            assertSameAnalysis(collected(DOC, mode), expected, mode.name());
+        }
+        assertEquals(expected.getLinkingSet().findObjectById("3").getPath(), "$.a[0].b");
+        assertEquals(expected.getLinkingSet().getScanExceptions().get(0).getPath(), "$.d");
+    }
+
+    /**
+     * Tests the asset files with all parser engines that accept them.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testAssetFiles() throws Exception {
+        File[] files = new File("./assets/config").listFiles((dir, name) -> name.endsWith(".json") && !name.contains("error"));
+        assertTrue(files != null && files.length > 0);
+        for (File f : files) {
+            String doc = Files.readString(f.toPath(), StandardCharsets.UTF_8);
+            JsonResource expected = walked(doc);
+            assertSameAnalysis(collected(doc, JsonParserMode.RECURSIVE), expected, f.getName());
+            assertSameAnalysis(collected(doc, JsonParserMode.ITERATIVE), expected, f.getName());
+        }
+    }
+
+    /**
+     * Tests that standard JSON is collected by the strict engine as well.
+     *
+     * @throws Exception If parsing fails.
+     */
+    @Test
+    public void testStrict() throws Exception {
+        String doc = "{\"a\": [{\"_woodObjectId\": \"1\"}], \"b\": {\"_woodLink\": \"this::1\"}}";
+        JsonResource actual = collected(doc, JsonParserMode.STRICT);
+        assertSameAnalysis(actual, walked(doc), "strict");
+        assertNotNull(actual.getLinkingSet().findObjectById("1"));
+        assertEquals(actual.getLinkingSet().getLinkMap().size(), 1);
+    }
+}
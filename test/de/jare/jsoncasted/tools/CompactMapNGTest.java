@@ -0,0 +1,106 @@
+/* <copyright>
+ * Copyright (C) 2026, Janusch Rentenatus. This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v20.html
+ * </copyright>
+ */
+package de.jare.jsoncasted.tools;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+
+/**
+ * Test class for CompactMap.
+ *
+ * @author Janusch Rentenatus
+ */
+public class CompactMapNGTest {
+
+    /**
+     * Tests random operations against a LinkedHashMap, below and above the linear limit.
+     */
+    @Test
+    public void testLikeLinkedHashMap() {
+        Random random = new Random(4711);
+        for (int round = 0; round < 200; round++) {
+            Map<String, Integer> expected = new LinkedHashMap<>();
+            Map<String, Integer> actual = new CompactMap<>();
+            int keys = 1 + random.nextInt(round < 100 ? 10 : 40);
+            for (int op = 0; op < 100; op++) {
+                String key = "k" + random.nextInt(keys);
+                switch (random.nextInt(6)) {
+                    case 0:
+                        assertEquals(actual.remove(key), expected.remove(key));
+                        break;
+                    case 1:
+                        assertEquals(actual.get(key), expected.get(key));
+                        assertEquals(actual.containsKey(key), expected.containsKey(key));
+                        break;
+                    case 2:
+                        Iterator<String> a = actual.keySet().iterator();
+                        Iterator<String> e = expected.keySet().iterator();
+                        while (e.hasNext()) {
+                            if (e.next().equals(key)) {
+                                a.next();
+                                a.remove();
+                                e.remove();
+                            } else {
+                                a.next();
+                            }
+                        }
+                        break;
+                    default:
+                        assertEquals(actual.put(key, op), expected.put(key, op));
+                }
+                assertEquals(actual.size(), expected.size());
+            }
+            assertEquals(new ArrayList<>(actual.entrySet()), new ArrayList<>(expected.entrySet()));
+            assertEquals(new ArrayList<>(actual.values()), new ArrayList<>(expected.values()));
+            assertEquals(actual, expected);
+            assertEquals(actual.hashCode(), expected.hashCode());
+        }
+    }
+
+    /**
+     * Compares the bytes allocated for maps with three members.
+     */
+    @Test
+    public void testFootprint() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean)) {
+            throw new SkipException("No allocation counter.");
+        }
+        long linked = bytesPerMap(LinkedHashMap::new);
+        long compact = bytesPerMap(CompactMap::new);
+        System.out.println("Bytes per map with 3 members: LinkedHashMap " + linked + ", CompactMap " + compact);
+        assertTrue(compact * 2 <= linked, compact + " / " + linked);
+    }
+
+    private static long bytesPerMap(Supplier<Map<String, Object>> factory) {
+        final int n = 20_000;
+        final Object[] keep = new Object[n];
+        final com.sun.management.ThreadMXBean mx = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long tid = Thread.currentThread().getId();
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < 5; r++) {
+            final long before = mx.getThreadAllocatedBytes(tid);
+            for (int i = 0; i < n; i++) {
+                Map<String, Object> map = factory.get();
+                map.put("_class", keep);
+                map.put("text", keep);
+                map.put("zahl", keep);
+                keep[i] = map;
+            }
+            best = Math.min(best, mx.getThreadAllocatedBytes(tid) - before);
+        }
+        return best / n;
+    }
+}